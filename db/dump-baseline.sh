@@ -0,0 +1,27 @@
+#!/bin/bash
+# 운영 cp DB 스키마로 Flyway 기준 스키마 (V1__baseline.sql) 생성
+# 사용법: DB_HOST=... DB_PORT=3306 DB_USER=... DB_PASSWORD=... DB_NAME=cp ./db/dump-baseline.sh
+set -euo pipefail
+
+DB_PORT="${DB_PORT:-3306}"
+DB_NAME="${DB_NAME:-cp}"
+OUTPUT="${OUTPUT:-$(dirname "$0")/../src/main/resources/db/migration/V1__baseline.sql}"
+
+# 공통 API 관리 테이블 (cp_metric_cluster_status, cp_metric_node_status 는 메트릭 수집기에서 관리, Flyway 이력 테이블 제외)
+TABLES="cp_clusters cp_users cp_cluster_log cp_cluster_ssh_key cp_cloud_accounts cp_hcl_templates cp_resource_quotas
+cp_limit_ranges cp_vault_database_secret cp_stress_chaos cp_chaos_resource cp_chaos_resource_usage"
+
+{
+  echo "-- 컨테이너 플랫폼 공통 API 기준 스키마 (cp DB)"
+  echo "-- db/dump-baseline.sh 로 운영 DB 스키마에서 생성 ($(date +%Y-%m-%d), 직접 수정하지 않음)"
+  echo "-- 기존 운영 DB 는 baseline-on-migrate 로 V1 을 기준점으로 등록하고 V2 부터 적용"
+  mysqldump --host="${DB_HOST}" --port="${DB_PORT}" --user="${DB_USER}" --password="${DB_PASSWORD}" \
+    --no-data --compact --skip-add-drop-table --skip-comments --skip-triggers --single-transaction \
+    "${DB_NAME}" ${TABLES} \
+    | sed -E \
+      -e '/^\/\*![0-9]+ .*\*\/;$/d' \
+      -e 's/ AUTO_INCREMENT=[0-9]+//' \
+      -e 's/^CREATE TABLE /CREATE TABLE IF NOT EXISTS /'
+} > "${OUTPUT}"
+
+echo "${OUTPUT} generated, run ./gradlew test to check the H2 (MySQL mode) migrations"
@@ -0,0 +1,12 @@
+-- 부하 테스트용 cp 스키마 데이터 (애플리케이션 기동 시 Flyway 마이그레이션 적용 후 실행)
+-- 클러스터 1 개, 사용자 1000 명 (cp-namespace 맵핑 + temp-namespace 등록 행)
+INSERT INTO cp_clusters (cluster_id, name, cluster_type, provider_type, created, last_modified, status)
+VALUES ('cp-cluster', 'cp-cluster', 'HOST', 'KUBEADM', FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss'), FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss'), '2');
+
+INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified)
+SELECT 'cp-cluster', 'user-' || "X", 'auth-' || "X", 'cp-namespace', 'USER', 'cp-init-role', 'user-' || "X" || '-sa',
+       FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss'), FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss') FROM SYSTEM_RANGE(1, 1000);
+
+INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified)
+SELECT 'cp-cluster', 'user-' || "X", 'auth-' || "X", 'cp-portal-temp-namespace', 'USER', 'NONE', 'user-' || "X" || '-sa',
+       FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss'), FORMATDATETIME(NOW(), 'yyyy-MM-dd HH:mm:ss') FROM SYSTEM_RANGE(1, 1000);
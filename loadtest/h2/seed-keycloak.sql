@@ -0,0 +1,5 @@
+-- 부하 테스트용 keycloak 스키마 데이터 (사용자 조회에 사용하는 USER_ENTITY 컬럼만 생성)
+CREATE TABLE IF NOT EXISTS USER_ENTITY (id VARCHAR(36) PRIMARY KEY, realm_id VARCHAR(255), username VARCHAR(255), created_timestamp BIGINT);
+
+INSERT INTO USER_ENTITY (id, realm_id, username, created_timestamp)
+SELECT 'auth-' || "X", 'cp-realm', 'user-' || "X", 1700000000000 + "X" FROM SYSTEM_RANGE(1, 1000);
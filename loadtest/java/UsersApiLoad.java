@@ -0,0 +1,129 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Common API 사용자 조회 부하 테스트 (k6 를 사용할 수 없는 환경용 JDK 단일 파일 실행)
+ * (users-api.js 와 같은 3 개 API 를 VUS 개 동시 연결에서 반복 호출하고 처리량, 응답 시간, 실패 건수 출력)
+ *
+ * java -DBASE_URL=http://localhost:3334 -DVUS=1000 -DRAMP_UP=20 -DDURATION=60 loadtest/java/UsersApiLoad.java
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class UsersApiLoad {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("BASE_URL", "http://localhost:3334");
+        int vus = Integer.getInteger("VUS", 1000);
+        int rampUpSeconds = Integer.getInteger("RAMP_UP", 20);
+        int durationSeconds = Integer.getInteger("DURATION", 60);
+        String cluster = System.getProperty("CLUSTER", "cp-cluster");
+        String namespace = System.getProperty("NAMESPACE", "cp-namespace");
+        String userAuthId = System.getProperty("USER_AUTH_ID", "user-auth-id");
+        String userType = System.getProperty("USER_TYPE", "USER");
+        String auth = "Basic " + Base64.getEncoder().encodeToString((System.getProperty("API_USER", "admin") + ":"
+                + System.getProperty("API_PASSWORD", "cpcommon!123")).getBytes());
+
+        List<URI> uris = Arrays.asList(
+                URI.create(baseUrl + "/cluster/info/all/user/details?userAuthId=" + userAuthId + "&cluster=" + cluster
+                        + "&userType=" + userType + "&namespace=" + namespace),
+                URI.create(baseUrl + "/users/" + userAuthId + "/clustersAndNamespacesList"),
+                URI.create(baseUrl + "/clusters/" + cluster + "/namespaces/" + namespace + "/usersList?limit=20"));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30)).executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(rampUpSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        LongAdder failed = new LongAdder();
+        AtomicLong requests = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+
+        try (ExecutorService vuExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int vu = 0; vu < vus; vu++) {
+                long[] samples = new long[1 << 16];
+                synchronized (latencies) {
+                    latencies.add(samples);
+                }
+                long startAt = start + TimeUnit.SECONDS.toNanos(rampUpSeconds) * vu / vus;
+                vuExecutor.submit(() -> {
+                    sleepUntil(startAt);
+                    int count = 0;
+                    while (System.nanoTime() < end) {
+                        for (URI uri : uris) {
+                            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).header("Authorization", auth).GET().build();
+                            long sent = System.nanoTime();
+                            boolean ok;
+                            try {
+                                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                                ok = response.statusCode() == 200;
+                            } catch (Exception e) {
+                                ok = false;
+                            }
+                            long received = System.nanoTime();
+                            if (sent >= measureFrom && received <= end) {
+                                requests.incrementAndGet();
+                                if (!ok) {
+                                    failed.increment();
+                                }
+                                if (count < samples.length) {
+                                    samples[count++] = received - sent;
+                                }
+                            }
+                        }
+                    }
+                    samples[samples.length - 1] = count;
+                    return null;
+                });
+            }
+        }
+
+        List<Long> all = new ArrayList<>();
+        for (long[] samples : latencies) {
+            int count = (int) samples[samples.length - 1];
+            for (int i = 0; i < count; i++) {
+                all.add(samples[i]);
+            }
+        }
+        all.sort(null);
+
+        System.out.printf("vus=%d duration=%ds requests=%d failed=%d (%.2f%%) rps=%.1f%n", vus, durationSeconds, requests.get(),
+                failed.sum(), 100.0 * failed.sum() / Math.max(1, requests.get()), (double) requests.get() / durationSeconds);
+        System.out.printf("latency ms avg=%.1f p50=%.1f p95=%.1f p99=%.1f max=%.1f%n", all.stream().mapToLong(Long::longValue).average().orElse(0) / 1e6,
+                percentile(all, 50), percentile(all, 95), percentile(all, 99), percentile(all, 100));
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
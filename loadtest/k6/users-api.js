@@ -0,0 +1,47 @@
+/*
+ * Common API 사용자 조회 부하 테스트 (k6)
+ * (플랫폼 스레드 / 가상 스레드 실행 모드의 동시 접속 처리량 비교)
+ *
+ * k6 run -e BASE_URL=http://localhost:3334 -e VUS=1000 loadtest/k6/users-api.js
+ */
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3334';
+const AUTH = encoding.b64encode(`${__ENV.API_USER || 'admin'}:${__ENV.API_PASSWORD || 'cpcommon!123'}`);
+const CLUSTER = __ENV.CLUSTER || 'cp-cluster';
+const NAMESPACE = __ENV.NAMESPACE || 'cp-namespace';
+const USER_AUTH_ID = __ENV.USER_AUTH_ID || 'user-auth-id';
+const USER_TYPE = __ENV.USER_TYPE || 'USER';
+
+export const options = {
+    scenarios: {
+        users: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP_UP || '30s', target: Number(__ENV.VUS || 1000) },
+                { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 1000) },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const params = { headers: { Authorization: `Basic ${AUTH}` }, timeout: '30s' };
+
+export default function () {
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/cluster/info/all/user/details?userAuthId=${USER_AUTH_ID}&cluster=${CLUSTER}&userType=${USER_TYPE}&namespace=${NAMESPACE}`, null, params],
+        ['GET', `${BASE_URL}/users/${USER_AUTH_ID}/clustersAndNamespacesList`, null, params],
+        ['GET', `${BASE_URL}/clusters/${CLUSTER}/namespaces/${NAMESPACE}/usersList?limit=20`, null, params],
+    ]);
+
+    responses.forEach((res) => check(res, { 'status is 200': (r) => r.status === 200 }));
+}
@@ -0,0 +1,137 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리소스 사용량 시계열 모델 Benchmark 클래스
+ * (기존 List&lt;List&lt;Integer&gt;&gt; 박싱 모델과 int[] 모델 + ResourceUsageItemSerializer 의 생성, 직렬화 비용 비교)
+ * <p>
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 값으로 비교한다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceUsageSeriesBenchmark {
+
+    private static final DateTimeFormatter MEASUREMENT_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final long STEP_SECONDS = 10L;
+
+    @Param({"20", "200"})
+    private int resourcesSize;
+
+    @Param({"12", "360"})
+    private int bucketsSize;
+
+    private ObjectMapper objectMapper;
+    private long startTime;
+    private List<String> resourceNames;
+    private long[][] cpu;
+    private long[][] memory;
+    private int[][] appStatus;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        startTime = LocalDateTime.of(2026, 10, 18, 10, 0).toEpochSecond(ZoneOffset.UTC);
+
+        // 측정값 중 약 1/7 은 누락 (-1)
+        resourceNames = new ArrayList<>(resourcesSize);
+        cpu = new long[resourcesSize][bucketsSize];
+        memory = new long[resourcesSize][bucketsSize];
+        appStatus = new int[resourcesSize][bucketsSize];
+        for (int r = 0; r < resourcesSize; r++) {
+            resourceNames.add("pod-" + r);
+            for (int b = 0; b < bucketsSize; b++) {
+                boolean missing = (r + b) % 7 == 0;
+                cpu[r][b] = missing ? -1L : 100L + r + b;
+                memory[r][b] = missing ? -1L : 1_000_000L + r * b;
+                appStatus[r][b] = missing ? -1 : 1;
+            }
+        }
+    }
+
+    /**
+     * 기존 방식 : 시간 문자열 목록, List&lt;List&lt;Integer&gt;&gt; 생성 후 기본 직렬화
+     */
+    @Benchmark
+    public byte[] boxedSeries() throws IOException {
+        BoxedResourceUsageItem resourceUsageItem = new BoxedResourceUsageItem();
+        for (int b = 0; b < bucketsSize; b++) {
+            resourceUsageItem.time.add(LocalDateTime.ofEpochSecond(startTime + b * STEP_SECONDS, 0, ZoneOffset.UTC).format(MEASUREMENT_TIME_FORMATTER));
+        }
+        resourceUsageItem.resourceName.addAll(resourceNames);
+
+        for (int r = 0; r < resourcesSize; r++) {
+            List<Integer> cpuList = new ArrayList<>();
+            List<Integer> memoryList = new ArrayList<>();
+            List<Integer> appStatusList = new ArrayList<>();
+            for (int b = 0; b < bucketsSize; b++) {
+                cpuList.add(Math.toIntExact(cpu[r][b]));
+                memoryList.add(Math.toIntExact(memory[r][b]));
+                appStatusList.add(appStatus[r][b]);
+            }
+            resourceUsageItem.cpu.add(cpuList);
+            resourceUsageItem.memory.add(memoryList);
+            resourceUsageItem.appStatus.add(appStatusList);
+        }
+        return objectMapper.writeValueAsBytes(resourceUsageItem);
+    }
+
+    /**
+     * int[] 모델 생성 후 ResourceUsageItemSerializer 직렬화
+     */
+    @Benchmark
+    public byte[] primitiveSeries() throws IOException {
+        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
+        long[] time = new long[bucketsSize];
+        for (int b = 0; b < bucketsSize; b++) {
+            time[b] = startTime + b * STEP_SECONDS;
+        }
+        resourceUsageItem.setTime(time);
+        resourceUsageItem.getResourceName().addAll(resourceNames);
+
+        for (int r = 0; r < resourcesSize; r++) {
+            int[] cpuValues = new int[bucketsSize];
+            int[] memoryValues = new int[bucketsSize];
+            for (int b = 0; b < bucketsSize; b++) {
+                cpuValues[b] = Math.toIntExact(cpu[r][b]);
+                memoryValues[b] = Math.toIntExact(memory[r][b]);
+            }
+            resourceUsageItem.getCpu().add(cpuValues);
+            resourceUsageItem.getMemory().add(memoryValues);
+            resourceUsageItem.getAppStatus().add(appStatus[r].clone());
+        }
+        return objectMapper.writeValueAsBytes(resourceUsageItem);
+    }
+
+    /**
+     * 기존 ResourceUsageItem 모델
+     */
+    public static class BoxedResourceUsageItem {
+        public List<String> time = new ArrayList<>();
+        public List<String> resourceName = new ArrayList<>();
+        public List<List<Integer>> cpu = new ArrayList<>();
+        public List<List<Integer>> memory = new ArrayList<>();
+        public List<List<Integer>> appStatus = new ArrayList<>();
+    }
+}
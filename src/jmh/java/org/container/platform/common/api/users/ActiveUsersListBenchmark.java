@@ -0,0 +1,127 @@
+package org.container.platform.common.api.users;
+
+import org.container.platform.common.api.common.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 활성화 사용자 목록 조합 Benchmark 클래스
+ * (기존 사용자 x 네임스페이스 조인 결과의 네임스페이스 필터, groupingBy, 정렬 방식과
+ * SQL 에서 필터, 정렬된 사용자 목록과 맵핑 목록을 순서대로 조합하는 방식의 애플리케이션 처리 비용 비교)
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActiveUsersListBenchmark {
+
+    private static final String NAMESPACE_PREFIX = "cp-namespace-";
+
+    @Param({"1000", "10000"})
+    private int usersSize;
+
+    @Param({"5"})
+    private int namespacesPerUser;
+
+    @Param({"all", "cp-namespace-0"})
+    private String namespace;
+
+    private List<Users> joinedRows;
+    private List<Users> orderedUsers;
+    private List<Users> orderedMappings;
+
+    @Setup
+    public void setUp() {
+        joinedRows = new ArrayList<>(usersSize * namespacesPerUser);
+        orderedUsers = new ArrayList<>(usersSize);
+        orderedMappings = new ArrayList<>(usersSize * namespacesPerUser);
+
+        // 조인 결과 행은 사용자 순서가 섞인 상태, SQL 정렬 결과는 생성일 역순
+        Random random = new Random(usersSize);
+        List<Integer> shuffled = new ArrayList<>(usersSize);
+        for (int i = 0; i < usersSize; i++) {
+            shuffled.add(i);
+        }
+        Collections.shuffle(shuffled, random);
+
+        for (int i : shuffled) {
+            for (int j = 0; j < namespacesPerUser; j++) {
+                joinedRows.add(users(i, NAMESPACE_PREFIX + ((i + j) % (namespacesPerUser * 2))));
+            }
+        }
+
+        boolean all = namespace.equalsIgnoreCase(Constants.ALL_VAL);
+        for (int i = usersSize - 1; i >= 0; i--) {
+            List<Users> mappings = new ArrayList<>();
+            for (int j = 0; j < namespacesPerUser; j++) {
+                String mappingNamespace = NAMESPACE_PREFIX + ((i + j) % (namespacesPerUser * 2));
+                if (all || mappingNamespace.equals(namespace)) {
+                    mappings.add(users(i, mappingNamespace));
+                }
+            }
+            if (!mappings.isEmpty()) {
+                orderedUsers.add(users(i, "temp-namespace"));
+                orderedMappings.addAll(mappings);
+            }
+        }
+    }
+
+    /**
+     * 기존 방식 : 조인 결과 전체 네임스페이스 필터 후 groupingBy, 생성일 역순 정렬
+     */
+    @Benchmark
+    public List<UsersDetails> groupingByAndSort() {
+        List<Users> items = joinedRows;
+        if (!namespace.equalsIgnoreCase(Constants.ALL_VAL)) {
+            items = items.stream().filter(x -> x.getCpNamespace().equals(namespace)).collect(Collectors.toList());
+        }
+
+        List<UsersDetails> usersDetailsList = new ArrayList<>();
+        items.stream().collect(Collectors.groupingBy(Users::getUserAuthId)).forEach((k, v) -> {
+            Users users = v.get(0);
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), users.getServiceAccountName(), Constants.AUTH_USER, users.getCreated(), v));
+        });
+        return usersDetailsList.stream().sorted(Comparator.comparing(UsersDetails::getCreated).reversed()).collect(Collectors.toList());
+    }
+
+    /**
+     * 변경 방식 : SQL 정렬 결과의 맵핑 목록을 사용자별로 모은 후 사용자 목록 순서대로 조합
+     */
+    @Benchmark
+    public List<UsersDetails> orderedBucketing() {
+        Map<String, List<Users>> mappings = new HashMap<>();
+        orderedMappings.forEach(x -> mappings.computeIfAbsent(x.getUserAuthId(), k -> new ArrayList<>()).add(x));
+
+        List<UsersDetails> usersDetailsList = new ArrayList<>(orderedUsers.size());
+        for (Users users : orderedUsers) {
+            List<Users> v = mappings.getOrDefault(users.getUserAuthId(), Collections.emptyList());
+            String serviceAccountName = v.isEmpty() ? users.getServiceAccountName() : v.get(0).getServiceAccountName();
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), serviceAccountName, Constants.AUTH_USER, users.getCreated(), v));
+        }
+        return usersDetailsList;
+    }
+
+    private static Users users(int i, String namespace) {
+        Users users = new Users();
+        users.setUserId("user-" + i);
+        users.setUserAuthId("user-auth-id-" + i);
+        users.setServiceAccountName("user-" + i);
+        users.setCpNamespace(namespace);
+        users.setUserType(Constants.AUTH_USER);
+        users.setCreated(String.format("2026-10-18 %02d:%02d:%02d", (i / 3600) % 24, (i / 60) % 60, i % 60));
+        return users;
+    }
+}
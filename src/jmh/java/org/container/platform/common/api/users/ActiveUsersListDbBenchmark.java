@@ -0,0 +1,171 @@
+package org.container.platform.common.api.users;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.container.platform.common.api.common.Constants;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 활성화 사용자 목록 조회 DB 포함 Benchmark 클래스
+ * (H2 MySQL 모드에 마이그레이션 적용 후 기존 사용자 x 네임스페이스 조인 쿼리 + 네임스페이스 필터, groupingBy, 정렬 방식과
+ * UsersRepositoryImpl 의 네임스페이스 조건, 정렬을 SQL 에서 처리한 맵핑 목록을 조회 순서대로 조합하는 방식의 요청당 비용 비교)
+ * <p>
+ * H2 는 애플리케이션과 같은 프로세스에서 실행되므로 네트워크 왕복, 전송 비용은 포함되지 않는다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActiveUsersListDbBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:cp_active_users_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String DEFAULT_NAMESPACE = "cp-portal-temp-namespace";
+    private static final String NAMESPACE_PREFIX = "cp-namespace-";
+    private static final String CLUSTER = "cp-cluster";
+
+    // 기존 UsersRepository.getActiveUsersListByCluster 쿼리 (검색어 조건은 Spring Data LIKE 확장 표현식과 같은 CONCAT)
+    private static final String JOINED_ROWS_SQL = "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created FROM " +
+            "(SELECT * FROM cp_users WHERE cluster_id = :cluster AND namespace != :defaultNamespace AND user_type = :authUser) a, " +
+            "(SELECT c.* FROM cp_users c, cp_clusters d WHERE c.cluster_id = d.cluster_id AND d.cluster_type = :clusterType AND c.namespace = :defaultNamespace AND c.user_type = :authUser) b " +
+            "WHERE a.user_auth_id = b.user_auth_id " +
+            "AND a.user_id LIKE CONCAT('%', :searchParam, '%') " +
+            "ORDER BY b.created DESC";
+
+    @Param({"1000", "10000"})
+    private int usersSize;
+
+    @Param({"5"})
+    private int namespacesPerUser;
+
+    @Param({"all", "cp-namespace-0"})
+    private String namespace;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private UsersRepositoryImpl usersRepository;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").cleanDisabled(false)
+                .placeholders(Collections.singletonMap("defaultNamespace", DEFAULT_NAMESPACE)).load().clean();
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .placeholders(Collections.singletonMap("defaultNamespace", DEFAULT_NAMESPACE)).load().migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO cp_clusters (cluster_id, name, cluster_type, created, last_modified) VALUES (?, ?, ?, '2026-10-18 00:00:00', '2026-10-18 00:00:00')",
+                CLUSTER, CLUSTER, Constants.HOST_CLUSTER_TYPE);
+
+        // 사용자별 temp-namespace 등록 행 1 건, 네임스페이스 맵핑 namespacesPerUser 건 (생성일 순서와 id 순서가 다르도록 섞어서 등록)
+        List<Integer> shuffled = new ArrayList<>(usersSize);
+        for (int i = 0; i < usersSize; i++) {
+            shuffled.add(i);
+        }
+        Collections.shuffle(shuffled, new Random(usersSize));
+
+        List<Object[]> rows = new ArrayList<>(usersSize * (namespacesPerUser + 1));
+        for (int i : shuffled) {
+            rows.add(row(i, DEFAULT_NAMESPACE));
+            for (int j = 0; j < namespacesPerUser; j++) {
+                rows.add(row(i, NAMESPACE_PREFIX + ((i + j) % (namespacesPerUser * 2))));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(Users.class.getPackage().getName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        usersRepository = new UsersRepositoryImpl(jdbcTemplate, false, "", "cp-realm");
+        Field field = ReflectionUtils.findField(UsersRepositoryImpl.class, "entityManager");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, usersRepository, entityManager);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    /**
+     * 기존 방식 : 사용자 x 네임스페이스 조인 결과 전체 조회 후 네임스페이스 필터, groupingBy, 생성일 역순 정렬
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<UsersDetails> singleQueryGroupingBy() {
+        Query query = entityManager.createNativeQuery(JOINED_ROWS_SQL);
+        query.setParameter("cluster", CLUSTER);
+        query.setParameter("defaultNamespace", DEFAULT_NAMESPACE);
+        query.setParameter("authUser", Constants.AUTH_USER);
+        query.setParameter("clusterType", Constants.HOST_CLUSTER_TYPE);
+        query.setParameter("searchParam", "");
+
+        List<Users> items = toUsers(query.getResultList());
+        if (!namespace.equalsIgnoreCase(Constants.ALL_VAL)) {
+            items = items.stream().filter(x -> x.getCpNamespace().equals(namespace)).collect(Collectors.toList());
+        }
+
+        List<UsersDetails> usersDetailsList = new ArrayList<>();
+        items.stream().collect(Collectors.groupingBy(Users::getUserAuthId)).forEach((k, v) -> {
+            Users users = v.get(0);
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), users.getServiceAccountName(), Constants.AUTH_USER, users.getCreated(), v));
+        });
+        return usersDetailsList.stream().sorted(Comparator.comparing(UsersDetails::getCreated).reversed()).collect(Collectors.toList());
+    }
+
+    /**
+     * 변경 방식 : SQL 에서 네임스페이스 조건, 정렬된 맵핑 목록 조회 후 사용자 단위로 조회 순서대로 조합
+     */
+    @Benchmark
+    public List<UsersDetails> orderedMappingQuery() {
+        String mappingNamespace = namespace.equalsIgnoreCase(Constants.ALL_VAL) ? null : namespace;
+
+        Map<String, List<Users>> mappings = new LinkedHashMap<>();
+        toUsers(usersRepository.getActiveUsersMappingList(CLUSTER, mappingNamespace, DEFAULT_NAMESPACE, Constants.AUTH_USER,
+                Constants.HOST_CLUSTER_TYPE, UsersSearch.like(""))).forEach(x -> mappings.computeIfAbsent(x.getUserAuthId(), k -> new ArrayList<>()).add(x));
+
+        List<UsersDetails> usersDetailsList = new ArrayList<>(mappings.size());
+        mappings.values().forEach(v -> {
+            Users users = v.get(0);
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), users.getServiceAccountName(), Constants.AUTH_USER, users.getCreated(), v));
+        });
+        return usersDetailsList;
+    }
+
+    private static List<Users> toUsers(List<Object[]> rawData) {
+        return rawData.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList());
+    }
+
+    private static Object[] row(int i, String namespace) {
+        String created = String.format("2026-10-18 %02d:%02d:%02d", (i / 3600) % 24, (i / 60) % 60, i % 60);
+        return new Object[]{CLUSTER, "user-" + i, "user-auth-id-" + i, namespace, Constants.AUTH_USER, "cp-init-role", "user-" + i, created, created};
+    }
+}
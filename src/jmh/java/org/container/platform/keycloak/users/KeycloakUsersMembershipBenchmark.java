@@ -0,0 +1,97 @@
+package org.container.platform.keycloak.users;
+
+import org.container.platform.common.api.users.Users;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keycloak 사용자 멤버십 필터 Benchmark 클래스
+ * (기존 List.contains 비교 방식과 KeycloakUsersMembership 해시 비교 방식 비교)
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeycloakUsersMembershipBenchmark {
+
+    @Param({"2000", "20000"})
+    private int realmSize;
+
+    @Param({"500", "3000"})
+    private int cpUsersSize;
+
+    private List<KeycloakUsers> keycloakUsersList;
+    private List<Users> cpUsersList;
+    private KeycloakUsersMembership membership;
+
+    @Setup
+    public void setUp() {
+        keycloakUsersList = new ArrayList<>(realmSize);
+        for (int i = 0; i < realmSize; i++) {
+            KeycloakUsers keycloakUsers = new KeycloakUsers();
+            keycloakUsers.setId(UUID.randomUUID().toString());
+            keycloakUsers.setUsername("user-" + i);
+            keycloakUsersList.add(keycloakUsers);
+        }
+
+        // cp 사용자 중 약 10%는 keycloak 에 존재하지 않는 사용자
+        cpUsersList = new ArrayList<>(cpUsersSize);
+        for (int i = 0; i < cpUsersSize; i++) {
+            Users users = new Users();
+            if (i % 10 == 0) {
+                users.setUserId("removed-user-" + i);
+                users.setUserAuthId(UUID.randomUUID().toString());
+            } else {
+                KeycloakUsers keycloakUsers = keycloakUsersList.get((i * 7) % realmSize);
+                users.setUserId(keycloakUsers.getUsername());
+                users.setUserAuthId(keycloakUsers.getId());
+            }
+            cpUsersList.add(users);
+        }
+
+        membership = KeycloakUsersMembership.of(keycloakUsersList);
+    }
+
+    /**
+     * 기존 방식 : username, id 목록 생성 후 List.contains 로 2회 필터
+     */
+    @Benchmark
+    public List<Users> listContains() {
+        List<String> keycloakUserNameList = keycloakUsersList.stream().map(KeycloakUsers::getUsername).collect(Collectors.toList());
+        List<String> keycloakUserIdList = keycloakUsersList.stream().map(KeycloakUsers::getId).collect(Collectors.toList());
+
+        List<Users> result = cpUsersList.stream().filter(users -> keycloakUserNameList.contains(users.getUserId())).collect(Collectors.toList());
+        return result.stream().filter(users -> keycloakUserIdList.contains(users.getUserAuthId())).collect(Collectors.toList());
+    }
+
+    /**
+     * 멤버십 생성 + 필터 (인덱스 전체 재조회 시 비용)
+     */
+    @Benchmark
+    public List<Users> membershipBuildAndFilter() {
+        return KeycloakUsersMembership.of(keycloakUsersList).filter(cpUsersList, Users::getUserId, Users::getUserAuthId);
+    }
+
+    /**
+     * 멤버십 필터 (인덱스 사용 시 요청당 비용)
+     */
+    @Benchmark
+    public List<Users> membershipFilter() {
+        return membership.filter(cpUsersList, Users::getUserId, Users::getUserAuthId);
+    }
+}
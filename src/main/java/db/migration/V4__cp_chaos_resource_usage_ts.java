@@ -0,0 +1,124 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+
+/**
+ * chaos 리소스 사용량 측정 시각 변환 마이그레이션 클래스
+ * (measurement_time 을 epoch second (BIGINT) ts 로 변환, 기본 키 (resource_id, ts))
+ * <p>
+ * ts 는 수집 측정 시간 (yyyy-MM-dd'T'HH:mm:ss) 을 시간대 변환 없이 UTC 로 간주한 값이며, 운영 DB 의 measurement_time 컬럼 형식
+ * (기준 엔티티는 문자열로 조회하므로 VARCHAR 또는 DATETIME) 을 확인하여 변환한다.
+ * 변환할 수 없는 값이 있거나 복사 건수가 다르면 DDL 실행 전에 중단하며, 기존 테이블은 삭제하지 않고
+ * cp_chaos_resource_usage_v3_backup 으로 이름을 변경하여 보관한다.
+ * <p>
+ * measurement_time 으로 사용량을 저장하는 이전 버전 인스턴스가 실행 중이면 복사 이후 저장된 사용량은 백업 테이블에만 남으므로,
+ * 적용 전 이전 버전 인스턴스를 모두 중지 (drain) 해야 한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class V4__cp_chaos_resource_usage_ts extends BaseJavaMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(V4__cp_chaos_resource_usage_ts.class);
+
+    static final String TABLE = "cp_chaos_resource_usage";
+    static final String BACKUP_TABLE = "cp_chaos_resource_usage_v3_backup";
+    private static final String TS_TABLE = "cp_chaos_resource_usage_ts";
+    private static final String MEASUREMENT_TIME = "measurement_time";
+
+    private static final String EPOCH = "TIMESTAMP '1970-01-01 00:00:00'";
+
+    // 기본 키 변경 시 외래 키 인덱스 제약을 피하기 위해 새 테이블로 복사 후 교체
+    private static final String CREATE_TS_TABLE = "CREATE TABLE " + TS_TABLE + " (" +
+            "resource_id BIGINT NOT NULL, " +
+            "ts          BIGINT NOT NULL, " +
+            "cpu         BIGINT, " +
+            "memory      BIGINT, " +
+            "app_status  INT, " +
+            "PRIMARY KEY (resource_id, ts), " +
+            "CONSTRAINT fk_cp_chaos_resource_usage_ts_resource FOREIGN KEY (resource_id) REFERENCES cp_chaos_resource (resource_id) ON DELETE CASCADE)";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        String ts = tsExpression(measurementTimeType(connection));
+
+        try (Statement statement = connection.createStatement()) {
+            // 1. 변환할 수 없는 측정 시각 확인 (DDL 실행 전 중단)
+            long invalid = count(statement, "SELECT COUNT(*) FROM " + TABLE + " WHERE " + ts + " IS NULL");
+            if (invalid > 0) {
+                throw new IllegalStateException(invalid + " rows of " + TABLE + "." + MEASUREMENT_TIME + " cannot be converted to epoch seconds, " +
+                        "fix or remove them before migrating");
+            }
+
+            // 2. 이전 실패로 남은 새 테이블 제거 후 복사
+            statement.execute("DROP TABLE IF EXISTS " + TS_TABLE);
+            statement.execute(CREATE_TS_TABLE);
+            statement.executeUpdate("INSERT INTO " + TS_TABLE + " (resource_id, ts, cpu, memory, app_status) " +
+                    "SELECT resource_id, " + ts + ", cpu, memory, app_status FROM " + TABLE);
+
+            long copied = count(statement, "SELECT COUNT(*) FROM " + TS_TABLE);
+            long original = count(statement, "SELECT COUNT(*) FROM " + TABLE);
+            if (copied != original) {
+                throw new IllegalStateException("copied " + copied + " of " + original + " rows of " + TABLE + ", " + TS_TABLE + " left for inspection");
+            }
+
+            // 3. 기존 테이블은 백업으로 보관
+            statement.execute("ALTER TABLE " + TABLE + " RENAME TO " + BACKUP_TABLE);
+            statement.execute("ALTER TABLE " + TS_TABLE + " RENAME TO " + TABLE);
+            LOGGER.info("{} converted to epoch second ts :: {} rows, previous table kept as {}", TABLE, copied, BACKUP_TABLE);
+        }
+    }
+
+
+    /**
+     * measurement_time 컬럼 JDBC 형식 조회 (Get JDBC type of measurement_time)
+     *
+     * @param connection the connection
+     * @return the JDBC type
+     */
+    private static int measurementTimeType(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), TABLE, MEASUREMENT_TIME)) {
+            if (!columns.next()) {
+                throw new IllegalStateException(TABLE + "." + MEASUREMENT_TIME + " not found");
+            }
+            return columns.getInt("DATA_TYPE");
+        }
+    }
+
+
+    /**
+     * 컬럼 형식별 epoch second 변환식 (Get epoch second expression of measurement_time)
+     * (문자열은 'T' 구분자를 공백으로 바꾼 후 DATETIME 으로 변환, 변환할 수 없는 값은 NULL 또는 오류)
+     *
+     * @param type the JDBC type
+     * @return the expression
+     */
+    static String tsExpression(int type) {
+        switch (type) {
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return "TIMESTAMPDIFF(SECOND, " + EPOCH + ", " + MEASUREMENT_TIME + ")";
+            case Types.VARCHAR:
+            case Types.CHAR:
+            case Types.LONGVARCHAR:
+                return "TIMESTAMPDIFF(SECOND, " + EPOCH + ", CAST(REPLACE(" + MEASUREMENT_TIME + ", 'T', ' ') AS DATETIME))";
+            default:
+                throw new IllegalStateException("unsupported " + TABLE + "." + MEASUREMENT_TIME + " type :: " + JDBCType.valueOf(type));
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package org.container.platform.common.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"org.container.platform"})
+@EnableScheduling
 public class ContainerPlatformCommonApiApplication {
 
     public static void main(String[] args) {
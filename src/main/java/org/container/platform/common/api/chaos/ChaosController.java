@@ -6,7 +6,11 @@ import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
 
 /**
  * Chaos Controller 클래스
@@ -21,15 +25,18 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/chaos")
 public class ChaosController {
    private final ChaosService chaosService;
+   private final ChaosUsageLiveFeed chaosUsageLiveFeed;
 
     /**
      * Instantiates a Chaos Controller
      *
-     * @param chaosService the chaos Service
+     * @param chaosService       the chaos Service
+     * @param chaosUsageLiveFeed the chaos usage live feed
      */
     @Autowired
-    public ChaosController(ChaosService chaosService) {
+    public ChaosController(ChaosService chaosService, ChaosUsageLiveFeed chaosUsageLiveFeed) {
         this.chaosService = chaosService;
+        this.chaosUsageLiveFeed = chaosUsageLiveFeed;
     }
 
      /**
@@ -78,9 +85,16 @@ public class ChaosController {
      * @return the ChaosResource info list
      */
     @Operation(summary = "ChaosResource 정보 목록 조회(Get ChaosResource info list)", operationId = "getChaosResourceList")
-    @Parameter(name = "chaosId", description = "chaos 아이디", required = true)
+    @Parameters({
+            @Parameter(name = "chaosId", description = "chaos 아이디", required = true),
+            @Parameter(name = "stream", description = "목록 스트리밍 응답 여부")
+    })
     @GetMapping("/chaosResourceList")
-    public ChaosResourceList getChaosResourceList(@RequestParam(value = "chaosId") Long chaosId) {
+    public Object getChaosResourceList(@RequestParam(value = "chaosId") Long chaosId,
+                                       @RequestParam(required = false, defaultValue = "false") boolean stream) {
+        if (stream) {
+            return chaosService.streamChaosResourceList(chaosId);
+        }
         return chaosService.getChaosResourceList(chaosId);
     }
 
@@ -96,16 +110,34 @@ public class ChaosController {
         return chaosService.createChaosResourceUsageData(chaosResourceUsageList);
     }
 
+    /**
+     * ChaosResourceUsage NDJSON 스트림 생성(Create ChaosResourceUsage Data from NDJSON stream)
+     * (한 줄에 ChaosResourceUsage 하나, 요청 본문을 읽는 대로 배치 저장)
+     *
+     * @return the ChaosResourceUsageList
+     */
+    @Operation(summary = "ChaosResourceUsage NDJSON 스트림 생성(Create ChaosResourceUsage Data from NDJSON stream)", operationId = "createChaosResourceUsageStream")
+    @PostMapping(value = "/chaosResourceUsageStream", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ChaosResourceUsageList createChaosResourceUsageStream(InputStream inputStream) {
+        return chaosService.createChaosResourceUsageStream(inputStream);
+    }
+
     /**
      * Resource usage by selected Pods during chaos 조회(Get Resource Usage by selected Pods during chaos)
      *
      * @return the ResourceUsage
      */
     @Operation(summary = "Resource usage by selected Pods during chaos 조회(Get Resource Usage by selected Pods during chaos)", operationId = "getResourceUsageByPod")
-    @Parameter(name = "chaosName", description = "chaos 명", required = true)
+    @Parameters({
+            @Parameter(name = "chaosName", description = "chaos 명", required = true),
+            @Parameter(name = "from", description = "조회 시작 시각 (epoch second)"),
+            @Parameter(name = "to", description = "조회 종료 시각 (epoch second)")
+    })
     @GetMapping("/resourceUsageByPod/{chaosName}")
-    public ResourceUsage getResourceUsageByPod(@PathVariable String chaosName) {
-        return chaosService.getResourceUsageByPod(chaosName);
+    public ResourceUsage getResourceUsageByPod(@PathVariable String chaosName,
+                                               @RequestParam(required = false) Long from,
+                                               @RequestParam(required = false) Long to) {
+        return chaosService.getResourceUsageByPod(chaosName, from, to);
     }
 
     /**
@@ -114,10 +146,16 @@ public class ChaosController {
      * @return the ResourceUsage
      */
     @Operation(summary = "Resource usage by Pods during chaos 조회(Get Resource Usage by Pods during chaos)", operationId = "getResourceUsageByHpaPod")
-    @Parameter(name = "chaosName", description = "chaos 명", required = true)
+    @Parameters({
+            @Parameter(name = "chaosName", description = "chaos 명", required = true),
+            @Parameter(name = "from", description = "조회 시작 시각 (epoch second)"),
+            @Parameter(name = "to", description = "조회 종료 시각 (epoch second)")
+    })
     @GetMapping("/resourceUsageByHpaPod/{chaosName}")
-    public ResourceUsage getResourceUsageByHpaPod(@PathVariable String chaosName) {
-     return chaosService.getResourceUsageByHpaPod(chaosName);
+    public ResourceUsage getResourceUsageByHpaPod(@PathVariable String chaosName,
+                                                  @RequestParam(required = false) Long from,
+                                                  @RequestParam(required = false) Long to) {
+     return chaosService.getResourceUsageByHpaPod(chaosName, from, to);
     }
 
     /**
@@ -126,10 +164,16 @@ public class ChaosController {
      * @return the ResourceUsage
      */
     @Operation(summary = "Resource usage by workload for selected Pods during chaos 조회(Get Resource usage by workload for selected Pods during chaos)", operationId = "getResourceUsageByWorkload")
-    @Parameter(name = "chaosName", description = "chaos 명", required = true)
+    @Parameters({
+            @Parameter(name = "chaosName", description = "chaos 명", required = true),
+            @Parameter(name = "from", description = "조회 시작 시각 (epoch second)"),
+            @Parameter(name = "to", description = "조회 종료 시각 (epoch second)")
+    })
     @GetMapping("/resourceUsageByWorkload/{chaosName}")
-    public ResourceUsage getResourceUsageByWorkload(@PathVariable String chaosName) {
-     return chaosService.getResourceUsageByWorkload(chaosName);
+    public ResourceUsage getResourceUsageByWorkload(@PathVariable String chaosName,
+                                                    @RequestParam(required = false) Long from,
+                                                    @RequestParam(required = false) Long to) {
+     return chaosService.getResourceUsageByWorkload(chaosName, from, to);
     }
 
     /**
@@ -138,10 +182,48 @@ public class ChaosController {
      * @return the ResourceUsage
      */
     @Operation(summary = "Resource usage by node during chaos 조회(Get Resource usage by node during chaos)", operationId = "getResourceUsageByNode")
-    @Parameter(name = "chaosName", description = "chaos 명", required = true)
+    @Parameters({
+            @Parameter(name = "chaosName", description = "chaos 명", required = true),
+            @Parameter(name = "from", description = "조회 시작 시각 (epoch second)"),
+            @Parameter(name = "to", description = "조회 종료 시각 (epoch second)")
+    })
     @GetMapping("/resourceUsageByNode/{chaosName}")
-    public ResourceUsage getResourceUsageByNode(@PathVariable String chaosName) {
-     return chaosService.getResourceUsageByNode(chaosName);
+    public ResourceUsage getResourceUsageByNode(@PathVariable String chaosName,
+                                                @RequestParam(required = false) Long from,
+                                                @RequestParam(required = false) Long to) {
+     return chaosService.getResourceUsageByNode(chaosName, from, to);
+    }
+
+    /**
+     * ChaosResourceUsage 기간 조회(Get ChaosResourceUsage list by time range)
+     *
+     * @return the ChaosResourceUsageList
+     */
+    @Operation(summary = "ChaosResourceUsage 기간 조회(Get ChaosResourceUsage list by time range)", operationId = "getChaosResourceUsageList")
+    @Parameters({
+            @Parameter(name = "chaosName", description = "chaos 명", required = true),
+            @Parameter(name = "from", description = "조회 시작 시각 (epoch second)"),
+            @Parameter(name = "to", description = "조회 종료 시각 (epoch second)")
+    })
+    @GetMapping("/chaosResourceUsageList/{chaosName}")
+    public ChaosResourceUsageList getChaosResourceUsageList(@PathVariable String chaosName,
+                                                            @RequestParam(required = false) Long from,
+                                                            @RequestParam(required = false) Long to) {
+        return chaosService.getChaosResourceUsageList(chaosName, from, to);
+    }
+
+    /**
+     * 실행 중인 실험의 리소스 사용량 실시간 구독(Subscribe live resource usage of running chaos)
+     * (snapshot 이벤트로 최근 사용량을 전달한 후 새로 저장된 사용량을 usage 이벤트로 전달)
+     *
+     * @param chaosName the chaos name
+     * @return the SseEmitter
+     */
+    @Operation(summary = "리소스 사용량 실시간 구독(Subscribe live resource usage of running chaos)", operationId = "getResourceUsageStream")
+    @Parameter(name = "chaosName", description = "chaos 명", required = true)
+    @GetMapping(value = "/resourceUsageStream/{chaosName}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getResourceUsageStream(@PathVariable String chaosName) {
+        return chaosUsageLiveFeed.subscribe(chaosName);
     }
 
     /**
@@ -1,13 +1,18 @@
 package org.container.platform.common.api.chaos;
 
+import jakarta.persistence.QueryHint;
+import org.container.platform.common.api.common.Constants;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * ChaosResource Repository 인터페이스
@@ -19,10 +24,15 @@ import java.util.List;
 
 @Repository
 @Transactional
-    public interface ChaosResourceRepository extends JpaRepository<ChaosResource, Long>, JpaSpecificationExecutor<ChaosResource>  {
+    public interface ChaosResourceRepository extends JpaRepository<ChaosResource, Long>, JpaSpecificationExecutor<ChaosResource>, ChaosResourceRepositoryCustom {
     @Query(value = "SELECT * FROM cp_chaos_resource WHERE chaos_id = :chaosId ;", nativeQuery = true)
     List<ChaosResource> findAllByChaosId(@Param("chaosId") Long chaosId);
 
+    // 영속성 컨텍스트 정리 후에도 StressChaos 추가 조회가 커서 도중 실행되지 않도록 함께 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE))
+    @Query("SELECT r FROM ChaosResource r JOIN FETCH r.stressChaos c WHERE c.chaosId = :chaosId")
+    Stream<ChaosResource> streamAllByChaosId(@Param("chaosId") Long chaosId);
+
     @Query(value = "SELECT * FROM cp_chaos_resource WHERE chaos_id = :chaosId AND choice = 1 ;", nativeQuery = true)
     List<ChaosResource> findAllByChoice(@Param("chaosId") Long chaosId);
 
@@ -36,4 +46,7 @@ import java.util.List;
     @Query("SELECT COUNT(c) > 0 FROM ChaosResource c WHERE c.stressChaos.chaosId = :chaosId AND c.resourceName = :resourceName")
     boolean existsByChaosIdAndResourceName(@Param("chaosId") Long chaosId, @Param("resourceName") String resourceName);
 
+    @Query(value = "SELECT resource_name FROM cp_chaos_resource WHERE chaos_id = :chaosId", nativeQuery = true)
+    List<String> findResourceNamesByChaosId(@Param("chaosId") Long chaosId);
+
 }
@@ -0,0 +1,22 @@
+package org.container.platform.common.api.chaos;
+
+import java.util.List;
+
+/**
+ * ChaosResource Repository Custom 인터페이스
+ * (chaos 리소스 일괄 등록)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public interface ChaosResourceRepositoryCustom {
+
+    /**
+     * chaos 리소스 일괄 등록 (Insert chaos resources in batches)
+     *
+     * @param chaosResources the chaos resources
+     * @return the inserted count
+     */
+    int insertAll(List<ChaosResource> chaosResources);
+}
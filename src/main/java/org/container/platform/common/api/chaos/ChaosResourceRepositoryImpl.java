@@ -0,0 +1,49 @@
+package org.container.platform.common.api.chaos;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * ChaosResource Repository Custom 구현 클래스
+ * (리소스 목록을 건별 save 대신 JDBC 배치 INSERT 로 등록)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChaosResourceRepositoryImpl implements ChaosResourceRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_RESOURCE = "INSERT INTO cp_chaos_resource (chaos_id, resource_name, type, choice, generate_name) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Instantiates a new Chaos resource repository impl
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public ChaosResourceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public int insertAll(List<ChaosResource> chaosResources) {
+        if (chaosResources.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_RESOURCE, chaosResources, BATCH_SIZE, (ps, chaosResource) -> {
+            ps.setLong(1, chaosResource.getStressChaos().getChaosId());
+            ps.setString(2, chaosResource.getResourceName());
+            ps.setString(3, chaosResource.getType());
+            ps.setInt(4, chaosResource.getChoice());
+            ps.setString(5, chaosResource.getGenerateName());
+        });
+        return chaosResources.size();
+    }
+}
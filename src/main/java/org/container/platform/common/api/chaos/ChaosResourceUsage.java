@@ -37,11 +37,11 @@ public class ChaosResourceUsage {
     public ChaosResourceUsage() {
 
     }
-    public ChaosResourceUsage(Object measurementTime, Object cpu, Object memory) {
+    public ChaosResourceUsage(long ts, Long cpu, Long memory) {
         this.chaosResourceUsageId = new ChaosResourceUsageId();
-        this.chaosResourceUsageId.setMeasurementTime((String) measurementTime);
-        this.cpu = (Long) cpu;
-        this.memory = (Long) memory;
+        this.chaosResourceUsageId.setTs(ts);
+        this.cpu = cpu;
+        this.memory = memory;
     }
 }
 
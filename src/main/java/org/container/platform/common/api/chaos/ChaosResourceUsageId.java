@@ -1,13 +1,18 @@
 package org.container.platform.common.api.chaos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 /**
  * ChaosResourceUsageId 클래스
+ * (측정 시각은 epoch second 로 저장, API 에서는 기존과 같이 yyyy-MM-dd'T'HH:mm:ss 형식의 measurementTime 으로 주고받음)
  *
  * @author Luna
  * @version 1.0
@@ -16,9 +21,42 @@ import java.io.Serializable;
 @Data
 @Embeddable
 public class ChaosResourceUsageId implements Serializable {
+    private static final DateTimeFormatter MEASUREMENT_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
     @Column(name = "resource_id")
     private long resourceId;
 
-    @Column(name= "measurement_time")
-    private String measurementTime;
-}
\ No newline at end of file
+    // 측정 시각 (epoch second, 측정 시간 문자열을 시간대 변환 없이 UTC 로 간주한 값)
+    @JsonIgnore
+    @Column(name = "ts")
+    private long ts;
+
+    public String getMeasurementTime() {
+        return toMeasurementTime(ts);
+    }
+
+    public void setMeasurementTime(String measurementTime) {
+        this.ts = toEpochSecond(measurementTime);
+    }
+
+
+    /**
+     * 측정 시간 문자열을 epoch second 로 변환 (Convert measurement time to epoch second)
+     *
+     * @param measurementTime the measurement time (yyyy-MM-dd'T'HH:mm:ss)
+     * @return the epoch second
+     */
+    public static long toEpochSecond(String measurementTime) {
+        return LocalDateTime.parse(measurementTime, MEASUREMENT_TIME_FORMATTER).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * epoch second 를 측정 시간 문자열로 변환 (Convert epoch second to measurement time)
+     *
+     * @param ts the epoch second
+     * @return the measurement time (yyyy-MM-dd'T'HH:mm:ss)
+     */
+    public static String toMeasurementTime(long ts) {
+        return LocalDateTime.ofEpochSecond(ts, 0, ZoneOffset.UTC).format(MEASUREMENT_TIME_FORMATTER);
+    }
+}
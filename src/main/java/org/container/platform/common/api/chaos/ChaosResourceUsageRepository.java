@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,19 +20,29 @@ import java.util.List;
 
 @Repository
 @Transactional
-    public interface ChaosResourceUsageRepository extends JpaRepository<ChaosResourceUsage, Long>, JpaSpecificationExecutor<ChaosResourceUsage> {
+    public interface ChaosResourceUsageRepository extends JpaRepository<ChaosResourceUsage, Long>, JpaSpecificationExecutor<ChaosResourceUsage>, ChaosResourceUsageRepositoryCustom {
 
-    @Query(value = "SELECT * FROM cp_chaos_resource_usage WHERE resource_id = :resourceIds ;", nativeQuery = true)
-    List<ChaosResourceUsage> findAllByResourceId(@Param("resourceIds") Long resourceIds);
+    @Query(value = "SELECT * FROM cp_chaos_resource_usage WHERE resource_id IN (:resourceIds) AND ts BETWEEN :from AND :to ORDER BY resource_id, ts", nativeQuery = true)
+    List<ChaosResourceUsage> findAllByResourceIdsAndTsBetween(@Param("resourceIds") Collection<Long> resourceIds, @Param("from") long from, @Param("to") long to);
 
     @Query(value =
-            "SELECT A.measurement_time, SUM(A.cpu) AS cpu, SUM(A.memory) AS memory " +
+            "SELECT A.* FROM cp_chaos_resource_usage A " +
+                    "JOIN cp_chaos_resource B ON A.resource_id = B.resource_id " +
+                    "WHERE B.chaos_id = :chaosId " +
+                    "AND A.ts BETWEEN :from AND :to " +
+                    "ORDER BY A.resource_id, A.ts", nativeQuery = true)
+    List<ChaosResourceUsage> findAllByChaosIdAndTsBetween(@Param("chaosId") Long chaosId, @Param("from") long from, @Param("to") long to);
+
+    @Query(value =
+            "SELECT B.generate_name, A.ts, SUM(A.cpu) AS cpu, SUM(A.memory) AS memory " +
                     "FROM cp_chaos_resource_usage A " +
                     "JOIN cp_chaos_resource B ON A.resource_id = B.resource_id " +
                     "WHERE B.chaos_id = :chaosId " +
                     "AND B.type = 'pod' " +
-                    "AND B.generate_name = :generateName " +
-                    "GROUP BY A.measurement_time ", nativeQuery = true)
-    List<Object[]> findUsageGroupByTimeByGenerateName(@Param("chaosId") Long chaosId, @Param("generateName") String generateName);
+                    "AND B.generate_name IS NOT NULL " +
+                    "AND A.ts BETWEEN :from AND :to " +
+                    "GROUP BY B.generate_name, A.ts " +
+                    "ORDER BY B.generate_name, A.ts", nativeQuery = true)
+    List<Object[]> findUsageGroupByGenerateNameAndTs(@Param("chaosId") Long chaosId, @Param("from") long from, @Param("to") long to);
 
 }
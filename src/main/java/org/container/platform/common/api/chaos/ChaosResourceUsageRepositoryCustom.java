@@ -0,0 +1,23 @@
+package org.container.platform.common.api.chaos;
+
+import java.util.List;
+
+/**
+ * ChaosResourceUsage Repository Custom 인터페이스
+ * (리소스 사용량 수집 데이터 일괄 저장)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public interface ChaosResourceUsageRepositoryCustom {
+
+    /**
+     * 리소스 사용량 일괄 저장 (Upsert chaos resource usage in batches)
+     * ((resource_id, ts) 가 이미 존재하는 경우 cpu, memory, app_status 갱신)
+     *
+     * @param chaosResourceUsages the chaos resource usages
+     * @return the saved count
+     */
+    int upsertAll(List<ChaosResourceUsage> chaosResourceUsages);
+}
@@ -0,0 +1,82 @@
+package org.container.platform.common.api.chaos;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChaosResourceUsage Repository Custom 구현 클래스
+ * (수집 데이터를 건별 merge 조회 없이 usageBatchSize 건 단위 JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE 로 저장,
+ * 동일 측정 시각의 재전송은 마지막 값으로 갱신)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChaosResourceUsageRepositoryImpl implements ChaosResourceUsageRepositoryCustom {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChaosResourceUsageRepositoryImpl.class);
+
+    private static final String METRIC_PREFIX = "chaos.usage.ingest";
+
+    private static final String UPSERT_USAGE = "INSERT INTO cp_chaos_resource_usage (resource_id, ts, cpu, memory, app_status) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE cpu = VALUES(cpu), memory = VALUES(memory), app_status = VALUES(app_status)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private final Timer batchTimer;
+    private final Counter rowsCounter;
+
+    /**
+     * Instantiates a new Chaos resource usage repository impl
+     *
+     * @param jdbcTemplate  the jdbc template
+     * @param meterRegistry the meter registry
+     * @param batchSize     the batch size
+     */
+    public ChaosResourceUsageRepositoryImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                            @Value("${cp.chaos.usageBatchSize:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(batchSize, 1);
+
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch").register(meterRegistry);
+        this.rowsCounter = Counter.builder(METRIC_PREFIX + ".rows").register(meterRegistry);
+    }
+
+
+    @Override
+    public int upsertAll(List<ChaosResourceUsage> chaosResourceUsages) {
+        for (int from = 0; from < chaosResourceUsages.size(); from += batchSize) {
+            List<ChaosResourceUsage> batch = chaosResourceUsages.subList(from, Math.min(from + batchSize, chaosResourceUsages.size()));
+
+            long startTime = System.nanoTime();
+            jdbcTemplate.batchUpdate(UPSERT_USAGE, batch, batch.size(), ChaosResourceUsageRepositoryImpl::setUsageValues);
+            long elapsed = System.nanoTime() - startTime;
+
+            batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            rowsCounter.increment(batch.size());
+            LOGGER.debug("Chaos resource usage batch saved :: {} rows in {} ms", batch.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return chaosResourceUsages.size();
+    }
+
+    private static void setUsageValues(PreparedStatement ps, ChaosResourceUsage chaosResourceUsage) throws SQLException {
+        ps.setLong(1, chaosResourceUsage.getChaosResourceUsageId().getResourceId());
+        ps.setLong(2, chaosResourceUsage.getChaosResourceUsageId().getTs());
+        ps.setObject(3, chaosResourceUsage.getCpu(), Types.BIGINT);
+        ps.setObject(4, chaosResourceUsage.getMemory(), Types.BIGINT);
+        ps.setObject(5, chaosResourceUsage.getAppStatus(), Types.INTEGER);
+    }
+}
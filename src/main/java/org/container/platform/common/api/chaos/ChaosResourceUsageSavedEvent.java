@@ -0,0 +1,38 @@
+package org.container.platform.common.api.chaos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ChaosResourceUsage 저장 이벤트 클래스
+ * (배치 저장된 리소스 사용량 목록을 전달)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChaosResourceUsageSavedEvent {
+
+    private final List<ChaosResourceUsage> chaosResourceUsages;
+
+    private ChaosResourceUsageSavedEvent(List<ChaosResourceUsage> chaosResourceUsages) {
+        this.chaosResourceUsages = chaosResourceUsages;
+    }
+
+
+    /**
+     * 저장된 사용량 목록으로 이벤트 생성 (Create event from saved chaos resource usages)
+     * (스트림 저장 시 배치 목록을 재사용하므로 목록을 복사)
+     *
+     * @param chaosResourceUsages the saved chaos resource usages
+     * @return the chaos resource usage saved event
+     */
+    public static ChaosResourceUsageSavedEvent of(List<ChaosResourceUsage> chaosResourceUsages) {
+        return new ChaosResourceUsageSavedEvent(Collections.unmodifiableList(new ArrayList<>(chaosResourceUsages)));
+    }
+
+    public List<ChaosResourceUsage> getChaosResourceUsages() {
+        return chaosResourceUsages;
+    }
+}
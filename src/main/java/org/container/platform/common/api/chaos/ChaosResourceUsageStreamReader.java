@@ -0,0 +1,94 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리소스 사용량 스트림 저장 클래스
+ * (줄 단위 JSON (NDJSON) 사용량을 요청 본문에서 한 건씩 읽어 usageBatchSize 건 단위로 배치 저장)
+ * <p>
+ * 요청 본문 전체를 메모리에 올리지 않으므로 요청 크기와 관계없이 배치 크기만큼의 메모리만 사용하며,
+ * 배치는 각각 커밋되므로 중간에 실패한 경우 이전 배치는 저장된 상태로 유지된다 (재전송 시 upsert 로 갱신).
+ * 저장된 배치는 ChaosResourceUsageSavedEvent 로 실시간 구독자에게 바로 전달된다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class ChaosResourceUsageStreamReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChaosResourceUsageStreamReader.class);
+
+    private final ObjectReader objectReader;
+    private final ChaosResourceUsageRepository chaosResourceUsageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    /**
+     * Instantiates a new Chaos resource usage stream reader
+     *
+     * @param objectMapper                 the object mapper
+     * @param chaosResourceUsageRepository the chaos resource usage repository
+     * @param eventPublisher               the event publisher
+     * @param batchSize                    the batch size
+     */
+    @Autowired
+    public ChaosResourceUsageStreamReader(ObjectMapper objectMapper, ChaosResourceUsageRepository chaosResourceUsageRepository,
+                                          ApplicationEventPublisher eventPublisher, @Value("${cp.chaos.usageBatchSize:500}") int batchSize) {
+        this.objectReader = objectMapper.readerFor(ChaosResourceUsage.class);
+        this.chaosResourceUsageRepository = chaosResourceUsageRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+
+    /**
+     * NDJSON 사용량 스트림 저장 (Upsert NDJSON chaos resource usage stream)
+     *
+     * @param inputStream the NDJSON input stream
+     * @return the saved count
+     * @throws IOException the json parse or read exception
+     */
+    public long upsertAll(InputStream inputStream) throws IOException {
+        long count = 0;
+        List<ChaosResourceUsage> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<ChaosResourceUsage> iterator = objectReader.readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                batch.add(iterator.nextValue());
+                if (batch.size() == batchSize) {
+                    count += upsertBatch(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Chaos resource usage stream failed after {} rows :: {}", count, e.getMessage());
+            throw e;
+        }
+
+        if (!batch.isEmpty()) {
+            count += upsertBatch(batch);
+        }
+        LOGGER.debug("Chaos resource usage stream saved :: {} rows", count);
+        return count;
+    }
+
+    private int upsertBatch(List<ChaosResourceUsage> batch) {
+        int saved = chaosResourceUsageRepository.upsertAll(batch);
+        eventPublisher.publishEvent(ChaosResourceUsageSavedEvent.of(batch));
+        return saved;
+    }
+}
@@ -2,13 +2,16 @@ package org.container.platform.common.api.chaos;
 
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.StreamingListWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,10 @@ public class ChaosService {
     private final ChaosResourceRepository chaosResourceRepository;
 
     private final ChaosResourceUsageRepository chaosResourceUsageRepository;
+    private final StreamingListWriter streamingListWriter;
+    private final ResourceUsageAligner resourceUsageAligner;
+    private final ChaosResourceUsageStreamReader chaosResourceUsageStreamReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Instantiates a new Chaos service
@@ -35,13 +42,23 @@ public class ChaosService {
      * @param chaosResourceRepository        the chaosResourceRepository Repository
      * @param chaosResourceUsageRepository   the chaosResourceUsage Repository
      * @param stressChaosRepository          the stressChaos Repository
+     * @param streamingListWriter            the streaming list writer
+     * @param resourceUsageAligner           the resource usage aligner
+     * @param chaosResourceUsageStreamReader the chaos resource usage stream reader
+     * @param eventPublisher                 the event publisher
      */
     @Autowired
-    public ChaosService(CommonService commonService, StressChaosRepository stressChaosRepository, ChaosResourceRepository chaosResourceRepository, ChaosResourceUsageRepository chaosResourceUsageRepository) {
+    public ChaosService(CommonService commonService, StressChaosRepository stressChaosRepository, ChaosResourceRepository chaosResourceRepository, ChaosResourceUsageRepository chaosResourceUsageRepository,
+                        StreamingListWriter streamingListWriter, ResourceUsageAligner resourceUsageAligner,
+                        ChaosResourceUsageStreamReader chaosResourceUsageStreamReader, ApplicationEventPublisher eventPublisher) {
         this.commonService = commonService;
         this.stressChaosRepository = stressChaosRepository;
         this.chaosResourceRepository = chaosResourceRepository;
         this.chaosResourceUsageRepository = chaosResourceUsageRepository;
+        this.streamingListWriter = streamingListWriter;
+        this.resourceUsageAligner = resourceUsageAligner;
+        this.chaosResourceUsageStreamReader = chaosResourceUsageStreamReader;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -72,16 +89,42 @@ public class ChaosService {
 
     /**
      *  Chaos Resources 정보 저장(Create Chaos Resources Info)
+     *  (chaos 별 등록된 리소스 명을 한 번에 조회한 후 미등록 리소스만 배치 등록, 동일 요청 재전송 시 중복 등록하지 않음)
      *
      */
     public ChaosResourceList createChaosResources(ChaosResourceList chaosResourcesList) {
-        for(ChaosResource chaosResource : chaosResourcesList.getItems()){
-            createChaosResource(chaosResource);
+        Map<Long, List<ChaosResource>> chaosResourcesByChaosId = chaosResourcesList.getItems().stream()
+                .collect(Collectors.groupingBy(x -> x.getStressChaos().getChaosId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<ChaosResource> newChaosResources = new ArrayList<>();
+        for (Map.Entry<Long, List<ChaosResource>> entry : chaosResourcesByChaosId.entrySet()) {
+            stressChaosRepository.findForResourceRegistration(entry.getKey());
+            Set<String> resourceNames = new HashSet<>(chaosResourceRepository.findResourceNamesByChaosId(entry.getKey()));
+            for (ChaosResource chaosResource : entry.getValue()) {
+                if (resourceNames.add(chaosResource.getResourceName())) {
+                    newChaosResources.add(chaosResource);
+                }
+            }
+        }
+
+        try {
+            chaosResourceRepository.insertAll(newChaosResources);
+        } catch (Exception e) {
+            chaosResourcesList.setResultMessage(e.getMessage());
+            return (ChaosResourceList) commonService.setResultModel(chaosResourcesList, Constants.RESULT_STATUS_FAIL);
         }
 
         return (ChaosResourceList) commonService.setResultModel(chaosResourcesList, Constants.RESULT_STATUS_SUCCESS);
     }
 
+    /**
+     *  ChaosResource 정보 목록 스트리밍 조회(Stream ChaosResource info list)
+     */
+    public ResponseEntity<StreamingResponseBody> streamChaosResourceList(Long chaosId) {
+        ChaosResourceList chaosResourcesList = (ChaosResourceList) commonService.setResultModel(new ChaosResourceList(), Constants.RESULT_STATUS_SUCCESS);
+        return streamingListWriter.stream(chaosResourcesList, () -> chaosResourceRepository.streamAllByChaosId(chaosId));
+    }
+
     /**
      *  Chaos Resource 정보 저장(Create chaos resource Info)
      */
@@ -117,15 +160,31 @@ public class ChaosService {
 
     /**
      *  ChaosResourceUsage 정보 저장(Create ChaosResourceUsage Info)
+     *  (건별 저장 대신 JDBC 배치 upsert 로 일괄 저장, 커밋 이후 실시간 구독자에게 전달)
      */
     public ChaosResourceUsageList createChaosResourceUsageData(ChaosResourceUsageList chaosResourceUsageList) {
-        for(ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList.getItems()){
-            try {
-                chaosResourceUsageRepository.save(chaosResourceUsage);
-            } catch (Exception e) {
-                chaosResourceUsageList.setResultMessage(e.getMessage());
-                return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_FAIL);
-            }
+        try {
+            chaosResourceUsageRepository.upsertAll(chaosResourceUsageList.getItems());
+            eventPublisher.publishEvent(ChaosResourceUsageSavedEvent.of(chaosResourceUsageList.getItems()));
+        } catch (Exception e) {
+            chaosResourceUsageList.setResultMessage(e.getMessage());
+            return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_FAIL);
+        }
+        return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    /**
+     *  ChaosResourceUsage NDJSON 스트림 저장(Create ChaosResourceUsage Info from NDJSON stream)
+     *  (요청 전체를 하나의 트랜잭션으로 묶지 않고 배치 단위로 커밋)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChaosResourceUsageList createChaosResourceUsageStream(InputStream inputStream) {
+        ChaosResourceUsageList chaosResourceUsageList = new ChaosResourceUsageList();
+        try {
+            chaosResourceUsageStreamReader.upsertAll(inputStream);
+        } catch (Exception e) {
+            chaosResourceUsageList.setResultMessage(e.getMessage());
+            return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_FAIL);
         }
         return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -133,269 +192,108 @@ public class ChaosService {
     /**
      *  Resource usage by selected Pods during chaos 조회(Get Resource Usage by selected Pods during chaos)
      */
-    public ResourceUsage getResourceUsageByPod(String chaosName) {
+    public ResourceUsage getResourceUsageByPod(String chaosName, Long from, Long to) {
         Long chaosId = stressChaosRepository.findByName(chaosName);
         List<ChaosResource> chaosResourceList = chaosResourceRepository.findAllByChoice(chaosId);
-        ResourceUsage  resourceUsage = new ResourceUsage();
-        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
-        int count = 0;
-
-        for(ChaosResource chaosResource : chaosResourceList ){
-            resourceUsageItem.getResourceName().add(chaosResource.getResourceName());
-            List<ChaosResourceUsage>  chaosResourceUsageList = chaosResourceUsageRepository.findAllByResourceId(chaosResource.getResourceId());
-
-            List<Integer> cpu = new ArrayList<>();
-            List<Integer> memory = new ArrayList<>();
-            List<Integer> appStatus = new ArrayList<>();
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-            LocalDateTime firstDateTime = LocalDateTime.parse(chaosResourceUsageList.get(0).getChaosResourceUsageId().getMeasurementTime(), formatter);
-
-            if(chaosResourceUsageList.size() == 12) { // 모든 측정 시간이 있는 경우
-                for(ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList){
-                    cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                    memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                    appStatus.add(chaosResourceUsage.getAppStatus());
-                    if(count == 0){
-                        resourceUsageItem.getTime().add(chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime());
-                    }
-                }
-            }else {// 모든 측정 시간이 없는 경우
-                if(count == 0) {
-                    for (int i = 0; i < 12; i++) {
-                        LocalDateTime measurementTime = firstDateTime.plusSeconds(i * 10);
-                        resourceUsageItem.getTime().add(measurementTime.format(formatter));
-                    }
-                }
-
-                for(String measurementTime : resourceUsageItem.getTime()) {
-                    boolean check = false;
-                    for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList) {
-                        if (chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime().equals(measurementTime)) {
-                            cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                            memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                            appStatus.add(chaosResourceUsage.getAppStatus());
-                            check = true;
-                            break;
-                        }
-                    }
-
-                    if (!check) {
-                        cpu.add(-1);
-                        memory.add(-1);
-                        appStatus.add(-1);
-                    }
-                }
-            }
-
-            count++;
-            resourceUsageItem.getCpu().add(cpu);
-            resourceUsageItem.getMemory().add(memory);
-            resourceUsageItem.getAppStatus().add(appStatus);
-        }
-        resourceUsage.addItem(resourceUsageItem);
-        return (ResourceUsage) commonService.setResultModel(resourceUsage, Constants.RESULT_STATUS_SUCCESS);
+        return getResourceUsage(chaosResourceList, true, from, to);
     }
 
     /**
      *  Resource usage by Pods during chaos 조회(Get Resource Usage by Pods during chaos)
      */
-    public ResourceUsage getResourceUsageByHpaPod(String chaosName) {
+    public ResourceUsage getResourceUsageByHpaPod(String chaosName, Long from, Long to) {
         Long chaosId = stressChaosRepository.findByName(chaosName);
         List<ChaosResource> chaosResourceList = chaosResourceRepository.findAllByChaosIdAndType(chaosId, "pod");
 
         if (chaosResourceList.size() > 6) {
             chaosResourceList.subList(6, chaosResourceList.size()).clear();
         }
-
-        ResourceUsage  resourceUsage = new ResourceUsage();
-        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
-        int count = 0;
-
-        for(ChaosResource chaosResource : chaosResourceList ){
-            resourceUsageItem.getResourceName().add(chaosResource.getResourceName());
-            List<ChaosResourceUsage>  chaosResourceUsageList = chaosResourceUsageRepository.findAllByResourceId(chaosResource.getResourceId());
-
-            List<Integer> cpu = new ArrayList<>();
-            List<Integer> memory = new ArrayList<>();
-            List<Integer> appStatus = new ArrayList<>();
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-            LocalDateTime firstDateTime = LocalDateTime.parse(chaosResourceUsageList.get(0).getChaosResourceUsageId().getMeasurementTime(), formatter);
-
-            if(chaosResourceUsageList.size() == 12) { // 모든 측정 시간이 있는 경우
-                for(ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList){
-                    cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                    memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                    appStatus.add(chaosResourceUsage.getAppStatus());
-                    if(count == 0){
-                        resourceUsageItem.getTime().add(chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime());
-                    }
-                }
-            }else {// 모든 측정 시간이 없는 경우
-                if(count == 0) {
-                    for (int i = 0; i < 12; i++) {
-                        LocalDateTime measurementTime = firstDateTime.plusSeconds(i * 10);
-                        resourceUsageItem.getTime().add(measurementTime.format(formatter));
-                    }
-                }
-
-                for(String measurementTime : resourceUsageItem.getTime()) {
-                    boolean check = false;
-                    for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList) {
-                        if (chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime().equals(measurementTime)) {
-                            cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                            memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                            appStatus.add(chaosResourceUsage.getAppStatus());
-                            check = true;
-                            break;
-                        }
-                    }
-
-                    if (!check) {
-                        cpu.add(-1);
-                        memory.add(-1);
-                        appStatus.add(-1);
-                    }
-                }
-            }
-
-            count++;
-            resourceUsageItem.getCpu().add(cpu);
-            resourceUsageItem.getMemory().add(memory);
-            resourceUsageItem.getAppStatus().add(appStatus);
-        }
-        resourceUsage.addItem(resourceUsageItem);
-        return (ResourceUsage) commonService.setResultModel(resourceUsage, Constants.RESULT_STATUS_SUCCESS);
+        return getResourceUsage(chaosResourceList, true, from, to);
     }
 
     /**
      *  Resource usage by workload for selected Pods during chao 조회(Get Resource usage by workload for selected Pods during chao)
+     *  (generate_name 별 합계를 (generate_name, ts) 순으로 한 번에 조회)
      */
-    public ResourceUsage getResourceUsageByWorkload(String chaosName) {
+    public ResourceUsage getResourceUsageByWorkload(String chaosName, Long from, Long to) {
         Long chaosId = stressChaosRepository.findByName(chaosName);
-        List<String> generateNameList = chaosResourceRepository.findGenerateNameByChaosId(chaosId);
-        ResourceUsage  resourceUsage = new ResourceUsage();
-        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
-        int count = 0;
-
-        for(String generateName : generateNameList ) {
-            resourceUsageItem.getResourceName().add(generateName);
-            List<Object[]> isChaosResourceUsageList = chaosResourceUsageRepository.findUsageGroupByTimeByGenerateName(chaosId, generateName);
-            List<ChaosResourceUsage> chaosResourceUsageList = isChaosResourceUsageList.stream()
-                    .map(x -> new ChaosResourceUsage(x[0], ((BigDecimal) x[1]).longValue(), ((BigDecimal ) x[2]).longValue()))
-                    .collect(Collectors.toList());
-
-            List<Integer> cpu = new ArrayList<>();
-            List<Integer> memory = new ArrayList<>();
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-            LocalDateTime firstDateTime = LocalDateTime.parse(chaosResourceUsageList.get(0).getChaosResourceUsageId().getMeasurementTime(), formatter);
-
-            if(chaosResourceUsageList.size() == 12) { // 모든 측정 시간이 있는 경우
-                for(ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList){
-                    cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                    memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                    if(count == 0){
-                        resourceUsageItem.getTime().add(chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime());
-                    }
-                }
-            }else {// 모든 측정 시간이 없는 경우
-                if(count == 0) {
-                    for (int i = 0; i < 12; i++) {
-                        LocalDateTime measurementTime = firstDateTime.plusSeconds(i * 10);
-                        resourceUsageItem.getTime().add(measurementTime.format(formatter));
-                    }
-                }
-
-                for(String measurementTime : resourceUsageItem.getTime()) {
-                    boolean check = false;
-                    for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList) {
-                        if (chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime().equals(measurementTime)) {
-                            cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                            memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                            check = true;
-                            break;
-                        }
-                    }
-
-                    if (!check) {
-                        cpu.add(-1);
-                        memory.add(-1);
-                    }
-                }
-            }
-
-            count++;
-            resourceUsageItem.getCpu().add(cpu);
-            resourceUsageItem.getMemory().add(memory);
+        Map<String, List<ChaosResourceUsage>> usagesByGenerateName = new LinkedHashMap<>();
+        for (Object[] x : chaosResourceUsageRepository.findUsageGroupByGenerateNameAndTs(chaosId, rangeFrom(from), rangeTo(to))) {
+            usagesByGenerateName.computeIfAbsent((String) x[0], k -> new ArrayList<>())
+                    .add(new ChaosResourceUsage(((Number) x[1]).longValue(), ((Number) x[2]).longValue(), ((Number) x[3]).longValue()));
         }
-        resourceUsage.addItem(resourceUsageItem);
+
+        ResourceUsage  resourceUsage = new ResourceUsage();
+        resourceUsage.addItem(resourceUsageAligner.align(new ArrayList<>(usagesByGenerateName.keySet()),
+                new ArrayList<>(usagesByGenerateName.values()), false, from));
         return (ResourceUsage) commonService.setResultModel(resourceUsage, Constants.RESULT_STATUS_SUCCESS);
     }
 
     /**
      *  Resource usage by node during chaos 조회(Get Resource usage by node during chaos)
      */
-    public ResourceUsage getResourceUsageByNode(String chaosName) {
+    public ResourceUsage getResourceUsageByNode(String chaosName, Long from, Long to) {
         Long chaosId = stressChaosRepository.findByName(chaosName);
         List<ChaosResource> chaosResourceList = chaosResourceRepository.findAllByChaosIdAndType(chaosId, "node");
-        ResourceUsage  resourceUsage = new ResourceUsage();
-        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
-        int count = 0;
-
-        for(ChaosResource chaosResource  : chaosResourceList ){
-            resourceUsageItem.getResourceName().add(chaosResource.getResourceName());
-            List<ChaosResourceUsage>  chaosResourceUsageList = chaosResourceUsageRepository.findAllByResourceId(chaosResource.getResourceId());
-
-            List<Integer> cpu = new ArrayList<>();
-            List<Integer> memory = new ArrayList<>();
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-            LocalDateTime firstDateTime = LocalDateTime.parse(chaosResourceUsageList.get(0).getChaosResourceUsageId().getMeasurementTime(), formatter);
-
-            if(chaosResourceUsageList.size() == 12) { // 모든 측정 시간이 있는 경우
-                for(ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList){
-                    cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                    memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                    if(count == 0){
-                        resourceUsageItem.getTime().add(chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime());
-                    }
-                }
-            }else {// 모든 측정 시간이 없는 경우
-                if(count == 0) {
-                    for (int i = 0; i < 12; i++) {
-                        LocalDateTime measurementTime = firstDateTime.plusSeconds(i * 10);
-                        resourceUsageItem.getTime().add(measurementTime.format(formatter));
-                    }
-                }
+        return getResourceUsage(chaosResourceList, false, from, to);
+    }
 
-                for(String measurementTime : resourceUsageItem.getTime()) {
-                    boolean check = false;
-                    for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsageList) {
-                        if (chaosResourceUsage.getChaosResourceUsageId().getMeasurementTime().equals(measurementTime)) {
-                            cpu.add(Math.toIntExact(chaosResourceUsage.getCpu()));
-                            memory.add(Math.toIntExact(chaosResourceUsage.getMemory()));
-                            check = true;
-                            break;
-                        }
-                    }
-
-                    if (!check) {
-                        cpu.add(-1);
-                        memory.add(-1);
-                    }
-                }
+    /**
+     * 리소스 목록의 사용량 조회 (Get resource usage of chaos resources)
+     * (리소스 별 조회 대신 전체 리소스의 사용량을 (resource_id, ts) 순으로 한 번에 조회한 후 리소스 별로 분류)
+     *
+     * @param chaosResourceList the chaos resource list
+     * @param withAppStatus     the with app status
+     * @param from              the from epoch second
+     * @param to                the to epoch second
+     * @return the resource usage
+     */
+    private ResourceUsage getResourceUsage(List<ChaosResource> chaosResourceList, boolean withAppStatus, Long from, Long to) {
+        Map<Long, List<ChaosResourceUsage>> usagesByResourceId = new HashMap<>();
+        if (!chaosResourceList.isEmpty()) {
+            List<Long> resourceIds = chaosResourceList.stream().map(ChaosResource::getResourceId).collect(Collectors.toList());
+            for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsageRepository.findAllByResourceIdsAndTsBetween(resourceIds, rangeFrom(from), rangeTo(to))) {
+                usagesByResourceId.computeIfAbsent(chaosResourceUsage.getChaosResourceUsageId().getResourceId(), x -> new ArrayList<>())
+                        .add(chaosResourceUsage);
             }
+        }
 
-            count++;
-            resourceUsageItem.getCpu().add(cpu);
-            resourceUsageItem.getMemory().add(memory);
+        List<String> resourceNames = new ArrayList<>();
+        List<List<ChaosResourceUsage>> chaosResourceUsagesList = new ArrayList<>();
+        for (ChaosResource chaosResource : chaosResourceList) {
+            resourceNames.add(chaosResource.getResourceName());
+            chaosResourceUsagesList.add(usagesByResourceId.getOrDefault(chaosResource.getResourceId(), Collections.emptyList()));
         }
-        resourceUsage.addItem(resourceUsageItem);
+
+        ResourceUsage  resourceUsage = new ResourceUsage();
+        resourceUsage.addItem(resourceUsageAligner.align(resourceNames, chaosResourceUsagesList, withAppStatus, from));
         return (ResourceUsage) commonService.setResultModel(resourceUsage, Constants.RESULT_STATUS_SUCCESS);
     }
 
+    /**
+     *  ChaosResourceUsage 기간 조회(Get ChaosResourceUsage list by time range)
+     *  (chaos 의 전체 리소스 사용량을 (resource_id, ts) 순으로 조회, from, to 는 epoch second)
+     *
+     * @param chaosName the chaos name
+     * @param from      the from epoch second
+     * @param to        the to epoch second
+     * @return the ChaosResourceUsage list
+     */
+    public ChaosResourceUsageList getChaosResourceUsageList(String chaosName, Long from, Long to) {
+        Long chaosId = stressChaosRepository.findByName(chaosName);
+        ChaosResourceUsageList chaosResourceUsageList = new ChaosResourceUsageList(
+                chaosResourceUsageRepository.findAllByChaosIdAndTsBetween(chaosId, rangeFrom(from), rangeTo(to)));
+        return (ChaosResourceUsageList) commonService.setResultModel(chaosResourceUsageList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    private static long rangeFrom(Long from) {
+        return (from == null) ? 0L : from;
+    }
+
+    private static long rangeTo(Long to) {
+        return (to == null) ? Long.MAX_VALUE : to;
+    }
+
     /**
      * StressChaos 정보 삭제(Delete StressChaos Info)
      *
@@ -0,0 +1,353 @@
+package org.container.platform.common.api.chaos;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실행 중인 실험의 리소스 사용량 실시간 전달 클래스
+ * (저장된 사용량을 실험 별 링 버퍼에 유지하고 구독 중인 SSE 연결에 새로 저장된 사용량만 전달)
+ * <p>
+ * 링 버퍼는 실험의 첫 사용량 저장 시 생성되며 실험 duration 만큼의 사용량을 유지한다 (duration 확인 불가 시 defaultRetention).
+ * 구독 시 현재 링 버퍼 사용량을 snapshot 이벤트로 한 번 전달한 후 새로 저장된 사용량을 usage 이벤트로 전달하므로
+ * 대시보드는 전체 기간을 다시 조회하지 않는다. 구독과 저장이 동시에 일어난 경우 같은 사용량이 두 이벤트에 모두 포함될 수 있다.
+ * 마지막 저장 후 retention 이 지난 링 버퍼는 evictInterval 주기로 제거되며, 다른 인스턴스에 저장된 사용량은 전달되지 않는다.
+ * <p>
+ * 저장 스레드는 구독자 별 대기열에 추가만 하고 SSE 전송은 sendThreads 개의 전송 스레드에서 구독자 별로 순서대로 실행한다.
+ * 대기열이 MAX_PENDING_BATCHES 를 넘은 구독자는 연결을 종료하며, 재연결 시 snapshot 으로 다시 시작한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class ChaosUsageLiveFeed {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChaosUsageLiveFeed.class);
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_USAGE = "usage";
+    static final int MAX_PENDING_BATCHES = 100;
+
+    private static final int SEND_QUEUE_CAPACITY = 1000;
+
+    private final ChaosResourceRepository chaosResourceRepository;
+    private final int maxSamples;
+    private final long defaultRetentionSeconds;
+    private final long sseTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<Long, LiveTarget> targetsByResourceId = new ConcurrentHashMap<>();
+    private final Map<String, ChaosUsageRingBuffer> buffers = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Chaos usage live feed
+     *
+     * @param chaosResourceRepository the chaos resource repository
+     * @param maxSamples              the max samples per experiment
+     * @param defaultRetentionSeconds the default retention seconds
+     * @param sseTimeoutMillis        the sse timeout millis
+     * @param sendThreads             the sse send threads
+     */
+    @Autowired
+    public ChaosUsageLiveFeed(ChaosResourceRepository chaosResourceRepository,
+                              @Value("${cp.chaos.live.maxSamples:10000}") int maxSamples,
+                              @Value("${cp.chaos.live.defaultRetention:600}") long defaultRetentionSeconds,
+                              @Value("${cp.chaos.live.sseTimeout:1800000}") long sseTimeoutMillis,
+                              @Value("${cp.chaos.live.sendThreads:4}") int sendThreads) {
+        this.chaosResourceRepository = chaosResourceRepository;
+        this.maxSamples = maxSamples;
+        this.defaultRetentionSeconds = defaultRetentionSeconds;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        // 구독자 별 전송 작업은 한 번에 하나만 대기하므로 대기열이 가득 찬 경우는 거부 후 해당 구독자 종료
+        this.executor = new ThreadPoolExecutor(sendThreads, sendThreads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("chaos-usage-live-"), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * 실험 사용량 구독 (Subscribe chaos resource usage)
+     * (현재 링 버퍼 사용량을 snapshot 이벤트로 전달한 후 새로 저장된 사용량을 usage 이벤트로 전달)
+     *
+     * @param chaosName the chaos name
+     * @return the sse emitter
+     */
+    public SseEmitter subscribe(String chaosName) {
+        return subscribe(chaosName, new SseEmitter(sseTimeoutMillis));
+    }
+
+    /**
+     * 실험 사용량 구독 (Subscribe chaos resource usage with given emitter)
+     * (등록 후 snapshot 을 대기열 가장 앞에 추가하므로 등록 중 저장된 사용량보다 snapshot 이 먼저 전달)
+     *
+     * @param chaosName the chaos name
+     * @param emitter   the sse emitter
+     * @return the sse emitter
+     */
+    SseEmitter subscribe(String chaosName, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(chaosName, emitter);
+        subscribers.compute(chaosName, (key, chaosSubscribers) -> {
+            List<Subscriber> list = (chaosSubscribers == null) ? new CopyOnWriteArrayList<>() : chaosSubscribers;
+            list.add(subscriber);
+            return list;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscriber.start(getBufferedUsages(chaosName));
+        return emitter;
+    }
+
+
+    /**
+     * 실험 링 버퍼 사용량 조회 (Get buffered usages of chaos)
+     *
+     * @param chaosName the chaos name
+     * @return the chaos resource usages
+     */
+    public List<ChaosResourceUsage> getBufferedUsages(String chaosName) {
+        ChaosUsageRingBuffer buffer = buffers.get(chaosName);
+        return (buffer == null) ? Collections.emptyList() : buffer.snapshot();
+    }
+
+
+    /**
+     * 사용량 저장 시 링 버퍼 추가 및 구독자 전달 (Append to ring buffers and push on usage saved)
+     * (트랜잭션 커밋 이후 실행, 트랜잭션 외부 호출 시 즉시 실행, 구독자 대기열에 추가만 하고 전송을 기다리지 않음)
+     * (저장은 이미 완료된 상태이므로 실시간 전달 실패는 로그만 남기고 저장 요청에 전파하지 않음)
+     *
+     * @param event the chaos resource usage saved event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsageSaved(ChaosResourceUsageSavedEvent event) {
+        try {
+            publish(event.getChaosResourceUsages());
+        } catch (RuntimeException e) {
+            LOGGER.error("Chaos usage live feed failed :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 링 버퍼 추가 및 구독자 대기열 추가
+     *
+     * @param chaosResourceUsages the chaos resource usages
+     */
+    private void publish(List<ChaosResourceUsage> chaosResourceUsages) {
+        Map<Long, LiveTarget> targets = resolveTargets(chaosResourceUsages);
+
+        Map<String, List<ChaosResourceUsage>> usagesByChaosName = new HashMap<>();
+        for (ChaosResourceUsage usage : chaosResourceUsages) {
+            LiveTarget target = targets.get(usage.getChaosResourceUsageId().getResourceId());
+            if (target == null) {
+                continue;
+            }
+            buffers.computeIfAbsent(target.chaosName, x -> new ChaosUsageRingBuffer(maxSamples, target.retentionSeconds)).append(usage);
+            usagesByChaosName.computeIfAbsent(target.chaosName, x -> new ArrayList<>()).add(usage);
+        }
+
+        usagesByChaosName.forEach((chaosName, usages) -> {
+            List<Subscriber> chaosSubscribers = subscribers.get(chaosName);
+            if (chaosSubscribers != null) {
+                chaosSubscribers.forEach(subscriber -> subscriber.offer(usages));
+            }
+        });
+    }
+
+
+    /**
+     * 유휴 링 버퍼 제거 (Evict idle ring buffers)
+     * (마지막 사용량 저장 후 retention 이 지난 실험의 링 버퍼와 리소스 매핑 제거)
+     */
+    @Scheduled(fixedDelayString = "${cp.chaos.live.evictInterval:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        buffers.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        targetsByResourceId.values().removeIf(target -> !buffers.containsKey(target.chaosName));
+    }
+
+
+    /**
+     * 구독 해제 (마지막 구독자 해제 시 실험 항목 제거)
+     *
+     * @param subscriber the subscriber
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.chaosName, (key, chaosSubscribers) -> {
+            chaosSubscribers.remove(subscriber);
+            return chaosSubscribers.isEmpty() ? null : chaosSubscribers;
+        });
+    }
+
+    /**
+     * 리소스 id 별 실험 조회 (매핑이 없는 리소스 id 만 한 번의 DB 조회로 확인)
+     *
+     * @param chaosResourceUsages the chaos resource usages
+     * @return the live targets by resource id
+     */
+    private Map<Long, LiveTarget> resolveTargets(List<ChaosResourceUsage> chaosResourceUsages) {
+        Map<Long, LiveTarget> targets = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (ChaosResourceUsage usage : chaosResourceUsages) {
+            long resourceId = usage.getChaosResourceUsageId().getResourceId();
+            LiveTarget target = targetsByResourceId.get(resourceId);
+            if (target != null) {
+                targets.put(resourceId, target);
+            } else {
+                missing.add(resourceId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return targets;
+        }
+
+        for (ChaosResource chaosResource : chaosResourceRepository.findAllById(missing)) {
+            StressChaos stressChaos = chaosResource.getStressChaos();
+            if (stressChaos == null) {
+                continue;
+            }
+            LiveTarget target = new LiveTarget(stressChaos.getChaosName(), retentionSeconds(stressChaos.getDuration()));
+            targetsByResourceId.put(chaosResource.getResourceId(), target);
+            targets.put(chaosResource.getResourceId(), target);
+        }
+        return targets;
+    }
+
+    /**
+     * Chaos Mesh duration (예: 30s, 5m, 1h30m) 을 초 단위로 변환, 변환할 수 없는 경우 defaultRetention
+     *
+     * @param duration the duration
+     * @return the retention seconds
+     */
+    long retentionSeconds(String duration) {
+        if (duration == null || duration.isBlank()) {
+            return defaultRetentionSeconds;
+        }
+        try {
+            return Duration.parse("PT" + duration.trim().toUpperCase(Locale.ROOT)).getSeconds();
+        } catch (DateTimeParseException e) {
+            return defaultRetentionSeconds;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        subscribers.values().forEach(chaosSubscribers -> chaosSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * 리소스가 속한 실험 명과 링 버퍼 유지 시간
+     */
+    private static final class LiveTarget {
+        private final String chaosName;
+        private final long retentionSeconds;
+
+        private LiveTarget(String chaosName, long retentionSeconds) {
+            this.chaosName = chaosName;
+            this.retentionSeconds = retentionSeconds;
+        }
+    }
+
+    /**
+     * SSE 구독자
+     * (대기열의 이벤트를 전송 스레드에서 순서대로 전송, 한 번에 하나의 전송 작업만 실행)
+     */
+    private final class Subscriber {
+        private final String chaosName;
+        private final SseEmitter emitter;
+        private final BlockingDeque<SseEmitter.SseEventBuilder> pending = new LinkedBlockingDeque<>(MAX_PENDING_BATCHES);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean started;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(String chaosName, SseEmitter emitter) {
+            this.chaosName = chaosName;
+            this.emitter = emitter;
+        }
+
+        private void start(List<ChaosResourceUsage> snapshot) {
+            if (!pending.offerFirst(event(EVENT_SNAPSHOT, snapshot))) {
+                close(null);
+                return;
+            }
+            started = true;
+            scheduleDrain();
+        }
+
+        private void offer(List<ChaosResourceUsage> usages) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offerLast(event(EVENT_USAGE, usages))) {
+                LOGGER.debug("Chaos usage live subscriber of {} lagging, closing", chaosName);
+                close(null);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!started || closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close(null);
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = pending.poll()) != null) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    LOGGER.debug("Chaos usage live send failed :: {}", e.getMessage());
+                    close(e);
+                }
+            }
+            draining.set(false);
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close(Throwable error) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            pending.clear();
+            unsubscribe(this);
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+
+        private SseEmitter.SseEventBuilder event(String eventName, List<ChaosResourceUsage> usages) {
+            return SseEmitter.event().name(eventName).data(usages, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.container.platform.common.api.chaos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행 중인 실험의 리소스 사용량 링 버퍼 클래스
+ * (고정 크기 배열에 사용량을 순환 저장, 가장 최근 측정 시각 기준 retention 초 이전 사용량은 제거)
+ * <p>
+ * 사용량은 대체로 측정 시각 순으로 수집되므로 오래된 사용량은 가장 앞에서부터 제거하며,
+ * 용량이 가득 찬 경우 측정 시각과 관계없이 가장 먼저 들어온 사용량을 덮어쓴다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChaosUsageRingBuffer {
+
+    private final ChaosResourceUsage[] samples;
+    private final long retentionSeconds;
+
+    private int head;
+    private int size;
+    private long newestTs = Long.MIN_VALUE;
+    private volatile long lastAppendMillis;
+
+    /**
+     * Instantiates a new Chaos usage ring buffer
+     *
+     * @param capacity         the capacity
+     * @param retentionSeconds the retention seconds
+     */
+    public ChaosUsageRingBuffer(int capacity, long retentionSeconds) {
+        this.samples = new ChaosResourceUsage[Math.max(capacity, 1)];
+        this.retentionSeconds = retentionSeconds;
+        this.lastAppendMillis = System.currentTimeMillis();
+    }
+
+
+    /**
+     * 사용량 추가 (Append chaos resource usage)
+     *
+     * @param usage the chaos resource usage
+     */
+    public synchronized void append(ChaosResourceUsage usage) {
+        if (size == samples.length) {
+            samples[head] = null;
+            head = (head + 1) % samples.length;
+            size--;
+        }
+        samples[(head + size) % samples.length] = usage;
+        size++;
+
+        newestTs = Math.max(newestTs, usage.getChaosResourceUsageId().getTs());
+        long oldestTs = newestTs - retentionSeconds;
+        while (size > 0 && samples[head].getChaosResourceUsageId().getTs() < oldestTs) {
+            samples[head] = null;
+            head = (head + 1) % samples.length;
+            size--;
+        }
+        lastAppendMillis = System.currentTimeMillis();
+    }
+
+
+    /**
+     * 현재 사용량 목록 조회 (Get snapshot of buffered usages, oldest first)
+     *
+     * @return the chaos resource usages
+     */
+    public synchronized List<ChaosResourceUsage> snapshot() {
+        List<ChaosResourceUsage> usages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            usages.add(samples[(head + i) % samples.length]);
+        }
+        return usages;
+    }
+
+
+    /**
+     * 유휴 여부 확인 (마지막 사용량 추가 후 retention 초 경과)
+     *
+     * @param nowMillis the current millis
+     * @return the boolean
+     */
+    public boolean isIdle(long nowMillis) {
+        return nowMillis - lastAppendMillis > retentionSeconds * 1000L;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,108 @@
+package org.container.platform.common.api.chaos;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 리소스 사용량 시간 구간 정렬 클래스
+ * (측정 시각 (epoch second) 을 step 초 단위 구간 배열에 배치, 리소스 당 O(n))
+ * <p>
+ * 시간 축은 조회 시작 시각 또는 전체 리소스 중 가장 이른 측정 시각부터 window 초 구간이며,
+ * 측정값이 없는 구간은 -1, 한 구간에 여러 측정값이 있는 경우 마지막 측정값을 사용한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class ResourceUsageAligner {
+
+    private static final int EMPTY_VALUE = -1;
+
+    private final long stepSeconds;
+    private final int bucketCount;
+
+    /**
+     * Instantiates a new Resource usage aligner
+     *
+     * @param stepSeconds   the step seconds
+     * @param windowSeconds the window seconds
+     */
+    @Autowired
+    public ResourceUsageAligner(@Value("${cp.chaos.chart.step:10}") long stepSeconds,
+                                @Value("${cp.chaos.chart.window:120}") long windowSeconds) {
+        this.stepSeconds = Math.max(stepSeconds, 1L);
+        this.bucketCount = (int) Math.max(windowSeconds / this.stepSeconds, 1L);
+    }
+
+
+    /**
+     * 리소스 별 사용량을 시간 구간에 맞춰 정렬 (Align resource usages to time buckets)
+     *
+     * @param resourceNames           the resource names
+     * @param chaosResourceUsagesList the chaos resource usages of each resource
+     * @param withAppStatus           the with app status
+     * @param from                    the start epoch second (null 인 경우 가장 이른 측정 시각)
+     * @return the resource usage item
+     */
+    public ResourceUsageItem align(List<String> resourceNames, List<List<ChaosResourceUsage>> chaosResourceUsagesList,
+                                   boolean withAppStatus, Long from) {
+        long startTime = (from == null) ? Long.MAX_VALUE : from;
+        boolean hasUsage = false;
+        for (List<ChaosResourceUsage> chaosResourceUsages : chaosResourceUsagesList) {
+            for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsages) {
+                hasUsage = true;
+                if (from == null) {
+                    startTime = Math.min(startTime, chaosResourceUsage.getChaosResourceUsageId().getTs());
+                }
+            }
+        }
+
+        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
+        resourceUsageItem.getResourceName().addAll(resourceNames);
+        int buckets = hasUsage ? bucketCount : 0;
+        long[] time = new long[buckets];
+        for (int b = 0; b < buckets; b++) {
+            time[b] = startTime + b * stepSeconds;
+        }
+        resourceUsageItem.setTime(time);
+
+        for (List<ChaosResourceUsage> chaosResourceUsages : chaosResourceUsagesList) {
+            int[] cpu = emptyBuckets(buckets);
+            int[] memory = emptyBuckets(buckets);
+            int[] appStatus = emptyBuckets(buckets);
+
+            for (ChaosResourceUsage chaosResourceUsage : chaosResourceUsages) {
+                long offset = chaosResourceUsage.getChaosResourceUsageId().getTs() - startTime;
+                long bucket = offset / stepSeconds;
+                if (offset < 0 || bucket >= buckets) {
+                    continue;
+                }
+                cpu[(int) bucket] = toValue(chaosResourceUsage.getCpu());
+                memory[(int) bucket] = toValue(chaosResourceUsage.getMemory());
+                appStatus[(int) bucket] = (chaosResourceUsage.getAppStatus() == null) ? EMPTY_VALUE : chaosResourceUsage.getAppStatus();
+            }
+
+            resourceUsageItem.getCpu().add(cpu);
+            resourceUsageItem.getMemory().add(memory);
+            if (withAppStatus) {
+                resourceUsageItem.getAppStatus().add(appStatus);
+            }
+        }
+        return resourceUsageItem;
+    }
+
+    private static int toValue(Long value) {
+        return (value == null) ? EMPTY_VALUE : Math.toIntExact(value);
+    }
+
+    private static int[] emptyBuckets(int buckets) {
+        int[] values = new int[buckets];
+        Arrays.fill(values, EMPTY_VALUE);
+        return values;
+    }
+}
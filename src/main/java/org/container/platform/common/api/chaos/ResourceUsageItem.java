@@ -1,5 +1,6 @@
 package org.container.platform.common.api.chaos;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -7,21 +8,23 @@ import java.util.List;
 
 /**
  * ResourceUsageItem 클래스
+ * (공유 시간 축과 리소스 별 int[] 사용량으로 보관, ResourceUsageItemSerializer 로 기존 JSON 형식 출력)
  *
  * @author Luna
  * @version 1.0
  * @since 2024-10-11
  */
 @Data
+@JsonSerialize(using = ResourceUsageItemSerializer.class)
 public class ResourceUsageItem {
-    private List<String> time;
+    private long[] time;            // 측정 시각 (epoch second)
     private List<String> resourceName;
-    private List<List<Integer>> cpu;
-    private List<List<Integer>> memory;
-    private List<List<Integer>> appStatus;
+    private List<int[]> cpu;
+    private List<int[]> memory;
+    private List<int[]> appStatus;
 
     public ResourceUsageItem() {
-        this.time = new ArrayList<>();
+        this.time = new long[0];
         this.resourceName = new ArrayList<>();
         this.cpu = new ArrayList<>();
         this.memory = new ArrayList<>();
@@ -0,0 +1,59 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ResourceUsageItem Serializer 클래스
+ * (int[] 사용량 배열을 박싱 없이 기존 JSON 형식으로 출력, 측정 시간은 yyyy-MM-dd'T'HH:mm:ss 문자열로 출력)
+ *
+ * <pre>
+ * {"time":[...], "resourceName":[...], "cpu":[[...], ...], "memory":[[...], ...], "appStatus":[[...], ...]}
+ * </pre>
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ResourceUsageItemSerializer extends StdSerializer<ResourceUsageItem> {
+
+    public ResourceUsageItemSerializer() {
+        super(ResourceUsageItem.class);
+    }
+
+
+    @Override
+    public void serialize(ResourceUsageItem resourceUsageItem, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+
+        gen.writeArrayFieldStart("time");
+        for (long time : resourceUsageItem.getTime()) {
+            gen.writeString(ChaosResourceUsageId.toMeasurementTime(time));
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("resourceName");
+        for (String resourceName : resourceUsageItem.getResourceName()) {
+            gen.writeString(resourceName);
+        }
+        gen.writeEndArray();
+
+        writeSeries(gen, "cpu", resourceUsageItem.getCpu());
+        writeSeries(gen, "memory", resourceUsageItem.getMemory());
+        writeSeries(gen, "appStatus", resourceUsageItem.getAppStatus());
+
+        gen.writeEndObject();
+    }
+
+    private static void writeSeries(JsonGenerator gen, String fieldName, List<int[]> series) throws IOException {
+        gen.writeArrayFieldStart(fieldName);
+        for (int[] values : series) {
+            gen.writeArray(values, 0, values.length);
+        }
+        gen.writeEndArray();
+    }
+}
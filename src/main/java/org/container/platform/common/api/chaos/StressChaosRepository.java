@@ -1,7 +1,9 @@
 package org.container.platform.common.api.chaos;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,4 +29,9 @@ public interface StressChaosRepository extends JpaRepository<StressChaos, Long>,
 
     @Query(value = "DELETE FROM cp_stress_chaos WHERE chaos_name = :chaosName ;", nativeQuery = true)
     void deleteByChaosName(@Param("chaosName") String chaosName);
+
+    // for chaos resource registration (chaos 행 잠금 조회, 동일 chaos 의 동시 리소스 등록 요청은 트랜잭션 종료 시까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT s FROM StressChaos s WHERE s.chaosId = :chaosId")
+    StressChaos findForResourceRegistration(@Param("chaosId") Long chaosId);
 }
@@ -3,8 +3,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
+import org.container.platform.common.api.common.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * CloudAccounts Controller 클래스
@@ -18,25 +21,32 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/cloudAccounts")
 public class CloudAccountsController {
     private final CloudAccountsService cloudAccountsService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a new CloudAccounts controller
      *
      * @param cloudAccountsService the CloudAccounts service
+     * @param changeVersions the change versions
      */
     @Autowired
-    public CloudAccountsController(CloudAccountsService cloudAccountsService){
+    public CloudAccountsController(CloudAccountsService cloudAccountsService, ChangeVersions changeVersions){
         this.cloudAccountsService = cloudAccountsService;
+        this.changeVersions = changeVersions;
     }
 
     /**
      * CloudAccounts 목록 조회(Get CloudAccounts List)
      *
+     * @param request the web request
      * @return the CloudAccountsList
      */
     @Operation(summary = "CloudAccounts 목록 조회(Get CloudAccounts List)", operationId = "getCloudAccountsList")
     @GetMapping
-    public CloudAccountsList getCloudAccountsList() {
+    public CloudAccountsList getCloudAccountsList(WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_CLOUD_ACCOUNTS)) {
+            return null;
+        }
         return cloudAccountsService.getCloudAccountsList();}
 
     /**
@@ -47,7 +57,10 @@ public class CloudAccountsController {
     @Operation(summary = "CloudAccounts 타입 별 목록 조회(Get CloudAccounts List By Provider)", operationId = "getCloudAccountsListByProvider")
     @Parameter(name = "provider", description = "프로바이더", required = true)
     @GetMapping(value = "/provider/{provider:.+}")
-    public CloudAccountsList getCloudAccountsListByProvider(@PathVariable String provider) {
+    public CloudAccountsList getCloudAccountsListByProvider(@PathVariable String provider, WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_CLOUD_ACCOUNTS)) {
+            return null;
+        }
         return cloudAccountsService.getCloudAccountsListByProvider(provider);}
 
     /**
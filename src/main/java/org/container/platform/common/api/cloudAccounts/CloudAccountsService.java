@@ -2,7 +2,9 @@ package org.container.platform.common.api.cloudAccounts;
 
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.TableChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,17 +21,20 @@ import java.util.List;
 public class CloudAccountsService {
     private final CommonService commonService;
     private final CloudAccountsRepository cloudAccountsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Instantiates a new Clusters service
      *
      * @param commonService the common Service
      * @param cloudAccountsRepository the CloudAccounts repository
+     * @param eventPublisher the event publisher
      */
     @Autowired
-    public CloudAccountsService(CommonService commonService, CloudAccountsRepository cloudAccountsRepository) {
+    public CloudAccountsService(CommonService commonService, CloudAccountsRepository cloudAccountsRepository, ApplicationEventPublisher eventPublisher) {
         this.commonService = commonService;
         this.cloudAccountsRepository = cloudAccountsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -43,6 +48,7 @@ public class CloudAccountsService {
         CloudAccounts createdCloudAccounts = new CloudAccounts();
         try {
             createdCloudAccounts = cloudAccountsRepository.save(cloudAccounts);
+            eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_CLOUD_ACCOUNTS));
         } catch (Exception e){
             createdCloudAccounts.setResultMessage(e.getMessage());
             return (CloudAccounts) commonService.setResultModel(createdCloudAccounts, Constants.RESULT_STATUS_FAIL);
@@ -100,6 +106,7 @@ public class CloudAccountsService {
             target = cloudAccountsRepository.findById(cloudAccounts.getId()).orElseThrow(NullPointerException::new);
             target.setName(cloudAccounts.getName());
             target = cloudAccountsRepository.save(target);
+            eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_CLOUD_ACCOUNTS));
         } catch (Exception e) {
             target.setResultMessage(e.getMessage());
             return (CloudAccounts) commonService.setResultModel(target, Constants.RESULT_STATUS_FAIL);
@@ -115,6 +122,7 @@ public class CloudAccountsService {
     @Transactional
     public CloudAccounts deleteCloudAccounts(Long id) {
         cloudAccountsRepository.deleteById(id);
+        eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_CLOUD_ACCOUNTS));
         return (CloudAccounts) commonService.setResultModel(new CloudAccounts(), Constants.RESULT_STATUS_SUCCESS);
     }
 }
@@ -2,8 +2,11 @@ package org.container.platform.common.api.clusterResource.ResourceQuotas;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
+import org.container.platform.common.api.common.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * ResourceQuotas Default Controller 클래스
@@ -17,26 +20,33 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/resourceQuotas")
 public class ResourceQuotasDefaultController {
     private final ResourceQuotasDefaultService resourceQuotasDefaultService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a ResourceQuotasDefault Controller
      *
      * @param resourceQuotasDefaultService the resourceQuotasDefault Service
+     * @param changeVersions the change versions
      */
     @Autowired
-    public ResourceQuotasDefaultController(ResourceQuotasDefaultService resourceQuotasDefaultService) {
+    public ResourceQuotasDefaultController(ResourceQuotasDefaultService resourceQuotasDefaultService, ChangeVersions changeVersions) {
         this.resourceQuotasDefaultService = resourceQuotasDefaultService;
+        this.changeVersions = changeVersions;
     }
 
 
     /**
      * ResourceQuotasDefault 목록 조회(Get ResourceQuotasDefault list)
      *
+     * @param request the web request
      * @return the ResourceQuotasDefault list
      */
     @Operation(summary = "ResourceQuotasDefault 목록 조회(Get ResourceQuotasDefault list)", operationId = "getRqDefaultList")
     @GetMapping
-    public ResourceQuotasDefaultList getRqDefaultList() {
+    public ResourceQuotasDefaultList getRqDefaultList(WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_RESOURCE_QUOTAS)) {
+            return null;
+        }
         return resourceQuotasDefaultService.getRqDefaultList();
     }
 }
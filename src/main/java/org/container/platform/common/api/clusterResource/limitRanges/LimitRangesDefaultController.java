@@ -2,8 +2,11 @@ package org.container.platform.common.api.clusterResource.limitRanges;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
+import org.container.platform.common.api.common.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * LimitRanges Default Controller 클래스
@@ -17,26 +20,33 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/limitRanges")
 public class LimitRangesDefaultController {
     private final LimitRangesDefaultService limitRangesDefaultService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a LimitRangesDefault Controller
      *
      * @param limitRangesDefaultService the limitRangesDefault Service
+     * @param changeVersions the change versions
      */
     @Autowired
-    public LimitRangesDefaultController(LimitRangesDefaultService limitRangesDefaultService) {
+    public LimitRangesDefaultController(LimitRangesDefaultService limitRangesDefaultService, ChangeVersions changeVersions) {
         this.limitRangesDefaultService = limitRangesDefaultService;
+        this.changeVersions = changeVersions;
     }
 
 
     /**
      * LimitRangesDefault 목록 조회(Get LimitRangesDefault list)
      *
+     * @param request the web request
      * @return the limitRangesDefault list
      */
     @Operation(summary = "LimitRangesDefault 목록 조회(Get LimitRangesDefault list)", operationId = "getLrDefaultList")
     @GetMapping
-    public LimitRangesDefaultList getLrDefaultList() {
+    public LimitRangesDefaultList getLrDefaultList(WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_LIMIT_RANGES)) {
+            return null;
+        }
         return limitRangesDefaultService.getLrDefaultList();
     }
 }
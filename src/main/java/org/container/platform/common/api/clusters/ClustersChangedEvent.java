@@ -0,0 +1,33 @@
+package org.container.platform.common.api.clusters;
+
+/**
+ * Clusters 변경 이벤트 클래스
+ * (cp_clusters 등록, 수정, 삭제 시 변경된 클러스터 id 를 전달)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ClustersChangedEvent {
+
+    private final String clusterId;
+
+    private ClustersChangedEvent(String clusterId) {
+        this.clusterId = clusterId;
+    }
+
+
+    /**
+     * 변경된 클러스터 id 로 이벤트 생성 (Create event from changed cluster id)
+     *
+     * @param clusterId the cluster id
+     * @return the clusters changed event
+     */
+    public static ClustersChangedEvent of(String clusterId) {
+        return new ClustersChangedEvent(clusterId);
+    }
+
+    public String getClusterId() {
+        return clusterId;
+    }
+}
@@ -5,9 +5,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
 import org.container.platform.common.api.common.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Clusters Controller 클래스
@@ -22,15 +24,18 @@ import org.springframework.web.bind.annotation.*;
 public class ClustersController {
 
     private final ClustersService clustersService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a new Clusters controller
      *
      * @param clustersService the clusters service
+     * @param changeVersions the change versions
      */
     @Autowired
-    public ClustersController(ClustersService clustersService) {
+    public ClustersController(ClustersService clustersService, ChangeVersions changeVersions) {
         this.clustersService = clustersService;
+        this.changeVersions = changeVersions;
     }
 
 
@@ -65,11 +70,15 @@ public class ClustersController {
     /**
      * Clusters 목록 조회(Get Clusters List)
      *
+     * @param request the web request
      * @return the clustersList
      */
     @Operation(summary = "Clusters 목록 조회(Get Clusters List)", operationId = "getClustersList")
     @GetMapping
-    public ClustersList getClustersList() {
+    public ClustersList getClustersList(WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_CLUSTERS)) {
+            return null;
+        }
         return clustersService.getClustersList();
     }
 
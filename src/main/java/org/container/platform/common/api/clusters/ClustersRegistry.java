@@ -0,0 +1,250 @@
+package org.container.platform.common.api.clusters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Clusters 레지스트리 클래스
+ * (cp_clusters 목록을 메모리에 유지하고 클러스터 id, 클러스터 유형 기준으로 조회)
+ * <p>
+ * 클러스터 등록, 수정, 삭제 시 ClustersChangedEvent 로 트랜잭션 커밋 이후 무효화되며,
+ * 다른 인스턴스의 변경은 maxStaleness 경과 후 재조회로 반영된다.
+ * 조회 결과는 복사본을 반환하므로 호출 측에서 결과 모델을 수정해도 레지스트리에 영향이 없다.
+ * DB 에도 없는 클러스터 id, 클러스터 유형은 다음 재적재 전까지 DB 재조회 없이 null 을 반환한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class ClustersRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClustersRegistry.class);
+
+    private static final String METRIC_PREFIX = "clusters.registry";
+    // 스냅샷 당 저장할 미존재 조회 키 최대 수 (임의 키 조회로 인한 메모리 증가 방지)
+    private static final int MAX_MISSING_KEYS = 1000;
+
+    private final ClustersRepository clustersRepository;
+    private final long maxStalenessMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Timer loadTimer;
+
+    private final AtomicLong generation = new AtomicLong();
+    // 요청 스레드에서 DB 재적재 대기 (synchronized 사용 시 가상 스레드가 캐리어 스레드에 고정됨)
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Instantiates a new Clusters registry
+     *
+     * @param clustersRepository the clusters repository
+     * @param meterRegistry      the meter registry
+     * @param maxStalenessMillis the max staleness millis
+     */
+    @Autowired
+    public ClustersRegistry(ClustersRepository clustersRepository, MeterRegistry meterRegistry,
+                            @Value("${cp.clustersRegistry.maxStaleness:60000}") long maxStalenessMillis) {
+        this.clustersRepository = clustersRepository;
+        this.maxStalenessMillis = maxStalenessMillis;
+
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "miss").register(meterRegistry);
+        this.invalidationCounter = Counter.builder(METRIC_PREFIX + ".invalidations").register(meterRegistry);
+        this.loadTimer = Timer.builder(METRIC_PREFIX + ".loads").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, ClustersRegistry::getSize).register(meterRegistry);
+    }
+
+
+    /**
+     * 클러스터 id 로 클러스터 조회 (Get clusters by cluster id)
+     * (레지스트리에 없는 경우 DB 조회 후 다음 조회 시 재적재, DB 에도 없는 경우 다음 재적재 전까지 null 반환)
+     *
+     * @param clusterId the cluster id
+     * @return the clusters
+     */
+    public Clusters getClusters(String clusterId) {
+        Snapshot current = getSnapshot();
+        Clusters clusters = current.byId.get(clusterId);
+        if (clusters != null) {
+            hitCounter.increment();
+            return copyOf(clusters);
+        }
+        if (current.missingIds.contains(clusterId)) {
+            hitCounter.increment();
+            return null;
+        }
+
+        missCounter.increment();
+        clusters = clustersRepository.findByClusterId(clusterId);
+        if (clusters == null) {
+            current.addMissing(current.missingIds, clusterId);
+            return null;
+        }
+        invalidate();
+        return copyOf(clusters);
+    }
+
+
+    /**
+     * 클러스터 유형으로 클러스터 조회 (Get clusters by cluster type)
+     * (동일 유형 클러스터가 여러 개인 경우 이름 순 첫 번째 클러스터, DB 에도 없는 경우 다음 재적재 전까지 null 반환)
+     *
+     * @param clusterType the cluster type
+     * @return the clusters
+     */
+    public Clusters getClustersByType(String clusterType) {
+        Snapshot current = getSnapshot();
+        List<Clusters> clustersList = current.byType.get(clusterType);
+        if (clustersList != null) {
+            hitCounter.increment();
+            return copyOf(clustersList.get(0));
+        }
+        if (current.missingTypes.contains(clusterType)) {
+            hitCounter.increment();
+            return null;
+        }
+
+        missCounter.increment();
+        Clusters clusters = clustersRepository.findByClusterType(clusterType);
+        if (clusters == null) {
+            current.addMissing(current.missingTypes, clusterType);
+            return null;
+        }
+        invalidate();
+        return copyOf(clusters);
+    }
+
+
+    /**
+     * 레지스트리 무효화 (Invalidate registry)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        this.snapshot = null;
+        invalidationCounter.increment();
+    }
+
+
+    /**
+     * 클러스터 변경 시 레지스트리 무효화 (Invalidate registry on clusters changed)
+     * (트랜잭션 커밋 이후 실행, 트랜잭션 외부 호출 시 즉시 실행)
+     *
+     * @param event the clusters changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClustersChanged(ClustersChangedEvent event) {
+        invalidate();
+        LOGGER.info("Clusters registry invalidated :: {}", event.getClusterId());
+    }
+
+
+    /**
+     * 레지스트리 클러스터 수 조회 (Get registry size)
+     *
+     * @return the size
+     */
+    public double getSize() {
+        Snapshot current = this.snapshot;
+        return (current == null) ? Double.NaN : current.byId.size();
+    }
+
+
+    /**
+     * 레지스트리 스냅샷 조회 (Get registry snapshot)
+     * (최초 조회, 무효화 이후 또는 maxStaleness 초과 시 재적재)
+     *
+     * @return the snapshot
+     */
+    private Snapshot getSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt > maxStalenessMillis) {
+            current = load();
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        loadLock.lock();
+        try {
+            Snapshot current = this.snapshot;
+            if (current != null && System.currentTimeMillis() - current.loadedAt <= maxStalenessMillis) {
+                return current;
+            }
+
+            // 조회 중 무효화된 경우 조회 결과는 이번 호출에만 사용하고 레지스트리에는 반영하지 않음
+            long loadGeneration = generation.get();
+            long startTime = System.nanoTime();
+            current = Snapshot.of(clustersRepository.findAllByOrderByName(), System.currentTimeMillis());
+            if (generation.get() == loadGeneration) {
+                this.snapshot = current;
+            }
+            loadTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static Clusters copyOf(Clusters source) {
+        Clusters clusters = new Clusters();
+        BeanUtils.copyProperties(source, clusters);
+        return clusters;
+    }
+
+
+    /**
+     * 레지스트리 스냅샷
+     * (클러스터 목록은 불변, 미존재 조회 키는 스냅샷과 함께 폐기)
+     */
+    private static final class Snapshot {
+        private final Map<String, Clusters> byId;
+        private final Map<String, List<Clusters>> byType;
+        private final Set<String> missingIds = ConcurrentHashMap.newKeySet();
+        private final Set<String> missingTypes = ConcurrentHashMap.newKeySet();
+        private final long loadedAt;
+
+        private Snapshot(Map<String, Clusters> byId, Map<String, List<Clusters>> byType, long loadedAt) {
+            this.byId = byId;
+            this.byType = byType;
+            this.loadedAt = loadedAt;
+        }
+
+        private void addMissing(Set<String> missingKeys, String key) {
+            if (key != null && missingKeys.size() < MAX_MISSING_KEYS) {
+                missingKeys.add(key);
+            }
+        }
+
+        private static Snapshot of(List<Clusters> clustersList, long now) {
+            Map<String, Clusters> byId = new HashMap<>();
+            Map<String, List<Clusters>> byType = new HashMap<>();
+            for (Clusters source : clustersList) {
+                Clusters clusters = copyOf(source);
+                byId.put(clusters.getClusterId(), clusters);
+                if (clusters.getClusterType() != null) {
+                    byType.computeIfAbsent(clusters.getClusterType(), k -> new ArrayList<>()).add(clusters);
+                }
+            }
+            return new Snapshot(byId, byType, now);
+        }
+    }
+}
@@ -5,12 +5,17 @@ import org.container.platform.common.api.clusters.metrics.ClusterStatusRepositor
 import org.container.platform.common.api.clusters.metrics.NodeStatusRepository;
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.users.Users;
+import org.container.platform.common.api.users.UsersChangedEvent;
 import org.container.platform.common.api.users.UsersRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Clusters Service 클래스
  *
@@ -29,6 +34,8 @@ public class ClustersService {
     private final ClusterLogsRepository clusterLogsRepository;
     private final ClusterStatusRepository clusterStatusRepository;
     private final NodeStatusRepository nodeStatusRepository;
+    private final ClustersRegistry clustersRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Instantiates a new Clusters service
@@ -38,13 +45,16 @@ public class ClustersService {
     @Autowired
     public ClustersService(CommonService commonService, ClustersRepository clustersRepository,
                            UsersRepository usersRepository, ClusterLogsRepository clusterLogsRepository,
-                           ClusterStatusRepository clusterStatusRepository, NodeStatusRepository nodeStatusRepository) {
+                           ClusterStatusRepository clusterStatusRepository, NodeStatusRepository nodeStatusRepository,
+                           ClustersRegistry clustersRegistry, ApplicationEventPublisher eventPublisher) {
         this.commonService = commonService;
         this.clustersRepository = clustersRepository;
         this.usersRepository = usersRepository;
         this.clusterLogsRepository = clusterLogsRepository;
         this.clusterStatusRepository = clusterStatusRepository;
         this.nodeStatusRepository = nodeStatusRepository;
+        this.clustersRegistry = clustersRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -58,6 +68,7 @@ public class ClustersService {
         Clusters createdClusters = new Clusters();
         try {
             createdClusters = clustersRepository.save(clusters);
+            eventPublisher.publishEvent(ClustersChangedEvent.of(createdClusters.getClusterId()));
         } catch (Exception e) {
             createdClusters.setResultMessage(e.getMessage());
             return (Clusters) commonService.setResultModel(createdClusters, Constants.RESULT_STATUS_FAIL);
@@ -72,7 +83,7 @@ public class ClustersService {
      * @return the clusters
      */
     public Clusters getClusters(String clusterId) {
-        return clustersRepository.findByClusterId(clusterId);
+        return clustersRegistry.getClusters(clusterId);
     }
 
     /**
@@ -110,7 +121,7 @@ public class ClustersService {
     public Clusters getHostClusters() {
         Clusters clusters = new Clusters();
         try {
-            clusters = clustersRepository.findByClusterType(Constants.HOST_CLUSTER_TYPE);
+            clusters = clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE);
         } catch (Exception e) {
             clusters.setResultMessage(e.getMessage());
             return (Clusters) commonService.setResultModel(clusters, Constants.RESULT_STATUS_FAIL);
@@ -132,6 +143,7 @@ public class ClustersService {
             if (!clusters.getDescription().equals(target.getDescription()))
                 target.setDescription(clusters.getDescription());
             target = clustersRepository.save(target);
+            eventPublisher.publishEvent(ClustersChangedEvent.of(target.getClusterId()));
         } catch (Exception e) {
             clusters.setResultMessage(e.getMessage());
             return (Clusters) commonService.setResultModel(clusters, Constants.RESULT_STATUS_FAIL);
@@ -145,9 +157,12 @@ public class ClustersService {
         try {
             // cp-clusters 데이터 삭제
             clustersRepository.deleteByClusterId(cluster);
+            eventPublisher.publishEvent(ClustersChangedEvent.of(cluster));
 
             // cp_users 데이터 삭제
+            List<Users> deletedUsers = usersRepository.getAllByClusterId(cluster);
             usersRepository.deleteAllByClusterId(cluster);
+            eventPublisher.publishEvent(UsersChangedEvent.of(deletedUsers));
 
             // cp_cluster_log 데이터 삭제
             clusterLogsRepository.deleteAllByClusterId(cluster);
@@ -2,6 +2,7 @@ package org.container.platform.common.api.clusters.clusterlogs;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
@@ -38,9 +39,16 @@ public class ClusterLogsController {
      * @return the Clusters
      */
     @Operation(summary = "Clusters Log 정보 조회(Get Clusters Info)", operationId = "getClusterLogs")
-    @Parameter(name = "clusterId", description = "클러스터 아이디", required = true)
+    @Parameters({
+            @Parameter(name = "clusterId", description = "클러스터 아이디", required = true),
+            @Parameter(name = "stream", description = "목록 스트리밍 응답 여부")
+    })
     @GetMapping(value = "/{clusterId:.+}")
-    public ClusterLogsList getClusterLogs(@PathVariable String clusterId) {
+    public Object getClusterLogs(@PathVariable String clusterId,
+                                 @RequestParam(required = false, defaultValue = "false") boolean stream) {
+        if (stream) {
+            return clusterLogsService.streamClusterLogs(clusterId);
+        }
         return clusterLogsService.getClusterLogs(clusterId);
     }
 
@@ -1,10 +1,15 @@
 package org.container.platform.common.api.clusters.clusterlogs;
 
+import jakarta.persistence.QueryHint;
+import org.container.platform.common.api.common.Constants;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -12,5 +17,8 @@ import java.util.List;
 public interface ClusterLogsRepository extends JpaRepository<ClusterLogs, String> {
     List<ClusterLogs> findClustersLogsByClusterIdOrderByProcessNoDesc(String clusterId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE))
+    Stream<ClusterLogs> streamByClusterIdOrderByProcessNoDesc(String clusterId);
+
     void deleteAllByClusterId(String clusterId);
 }
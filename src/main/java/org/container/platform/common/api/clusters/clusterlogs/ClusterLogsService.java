@@ -2,7 +2,10 @@ package org.container.platform.common.api.clusters.clusterlogs;
 
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.StreamingListWriter;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -10,10 +13,12 @@ import java.util.List;
 public class ClusterLogsService {
     private final ClusterLogsRepository clusterLogsRepository;
     private final CommonService commonService;
+    private final StreamingListWriter streamingListWriter;
 
-    ClusterLogsService(ClusterLogsRepository clusterLogsRepository, CommonService commonService) {
+    ClusterLogsService(ClusterLogsRepository clusterLogsRepository, CommonService commonService, StreamingListWriter streamingListWriter) {
         this.clusterLogsRepository = clusterLogsRepository;
         this.commonService = commonService;
+        this.streamingListWriter = streamingListWriter;
     }
 
 
@@ -29,4 +34,15 @@ public class ClusterLogsService {
         clusterLogsList.setResultMessage(Constants.DATA_NOT_FOUND_MESSAGE);
         return clusterLogsList;
     }
+
+
+    public ResponseEntity<StreamingResponseBody> streamClusterLogs(String clusterId) {
+        ClusterLogsList clusterLogsList = (ClusterLogsList) commonService.setResultModel(new ClusterLogsList(), Constants.RESULT_STATUS_SUCCESS);
+
+        ClusterLogsList emptyClusterLogsList = (ClusterLogsList) commonService.setResultModel(new ClusterLogsList(), Constants.RESULT_STATUS_FAIL);
+        emptyClusterLogsList.setResultMessage(Constants.DATA_NOT_FOUND_MESSAGE);
+
+        return streamingListWriter.stream(clusterLogsList, emptyClusterLogsList,
+                () -> clusterLogsRepository.streamByClusterIdOrderByProcessNoDesc(clusterId), x -> true);
+    }
 }
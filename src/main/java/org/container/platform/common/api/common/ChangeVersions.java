@@ -0,0 +1,162 @@
+package org.container.platform.common.api.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.container.platform.common.api.clusters.ClustersChangedEvent;
+import org.container.platform.common.api.users.UsersChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테이블 변경 버전 클래스
+ * (테이블 별 변경 버전을 cp_change_versions 에 유지하고 목록 조회 응답의 ETag 생성, If-None-Match 일치 시 목록 조회 없이 304 응답)
+ * <p>
+ * 변경 버전은 TableChangedEvent, UsersChangedEvent, ClustersChangedEvent 수신 시 변경 트랜잭션 커밋 직전에 같은 트랜잭션에서 증가하므로
+ * 변경이 커밋되면 모든 인스턴스의 ETag 에 즉시 반영되며, 재시작 후에도 유지된다.
+ * 애플리케이션 외부에서 변경된 테이블은 버전이 증가하지 않는다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class ChangeVersions {
+
+    private static final String METRIC_PREFIX = "change.versions";
+
+    private static final String SELECT_VERSIONS = "SELECT table_name, version FROM cp_change_versions WHERE table_name IN (%s)";
+    private static final String INCREASE_VERSION = "INSERT INTO cp_change_versions (table_name, version) VALUES (?, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    /**
+     * Instantiates a new Change versions
+     *
+     * @param jdbcTemplate  the jdbc template
+     * @param meterRegistry the meter registry
+     */
+    @Autowired
+    public ChangeVersions(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        this.notModifiedCounter = Counter.builder(METRIC_PREFIX + ".conditional").tag("result", "not_modified").register(meterRegistry);
+        this.modifiedCounter = Counter.builder(METRIC_PREFIX + ".conditional").tag("result", "modified").register(meterRegistry);
+    }
+
+
+    /**
+     * 테이블 변경 버전 조회 (Get table version)
+     *
+     * @param table the table
+     * @return the version
+     */
+    public long getVersion(String table) {
+        return getVersions(table).getOrDefault(table, 0L);
+    }
+
+
+    /**
+     * 테이블 변경 버전 증가 (Increase table version)
+     *
+     * @param table the table
+     */
+    public void increase(String table) {
+        jdbcTemplate.update(INCREASE_VERSION, table);
+    }
+
+
+    /**
+     * 테이블 목록의 ETag 생성 (Get ETag of tables)
+     *
+     * @param tables the tables
+     * @return the ETag
+     */
+    public String getETag(String... tables) {
+        Map<String, Long> versions = getVersions(tables);
+        StringBuilder eTag = new StringBuilder("W/\"v");
+        for (String table : tables) {
+            eTag.append('-').append(versions.getOrDefault(table, 0L));
+        }
+        return eTag.append('"').toString();
+    }
+
+
+    /**
+     * 조건부 조회 확인 (Check not modified)
+     * (ETag 응답 헤더 설정, If-None-Match 가 일치하는 경우 304 응답 설정 후 true 반환)
+     * <p>
+     * 조회 전 버전으로 ETag 를 생성하므로 조회 중 커밋된 변경은 다음 조회 시 200 으로 응답된다.
+     *
+     * @param request the web request
+     * @param tables  the tables
+     * @return the boolean
+     */
+    public boolean checkNotModified(WebRequest request, String... tables) {
+        if (request.checkNotModified(getETag(tables))) {
+            notModifiedCounter.increment();
+            return true;
+        }
+
+        modifiedCounter.increment();
+        return false;
+    }
+
+
+    /**
+     * 테이블 변경 시 버전 증가 (Increase version on table changed)
+     * (트랜잭션 커밋 직전 같은 트랜잭션에서 실행, 트랜잭션 외부 호출 시 즉시 실행)
+     *
+     * @param event the table changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTableChanged(TableChangedEvent event) {
+        increase(event.getTable());
+    }
+
+
+    /**
+     * 사용자 변경 시 cp_users 버전 증가 (Increase cp_users version on users changed)
+     *
+     * @param event the users changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        increase(Constants.TABLE_CP_USERS);
+    }
+
+
+    /**
+     * 클러스터 변경 시 cp_clusters 버전 증가 (Increase cp_clusters version on clusters changed)
+     *
+     * @param event the clusters changed event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onClustersChanged(ClustersChangedEvent event) {
+        increase(Constants.TABLE_CP_CLUSTERS);
+    }
+
+
+    /**
+     * 테이블 변경 버전 목록 조회 (Get versions of tables, 버전 행이 없는 테이블 제외)
+     */
+    private Map<String, Long> getVersions(String... tables) {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_VERSIONS, String.join(", ", Collections.nCopies(tables.length, "?"))),
+                rs -> {
+                    versions.put(rs.getString(1), rs.getLong(2));
+                }, (Object[]) tables);
+        return versions;
+    }
+}
@@ -1,5 +1,6 @@
 package org.container.platform.common.api.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 /**
@@ -15,4 +16,7 @@ public class CommonItemMetaData {
     private Integer allItemCount;
     private Integer remainingItemCount;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String continueToken;
+
 }
@@ -63,6 +63,25 @@ public class Constants {
     public static final String USER_REGISTRATION_AVAILABLE_MESSAGE = "USER_REGISTRATION_AVAILABLE";
     public static final String DATA_NOT_FOUND_MESSAGE = "DATA_NOT_FOUND";
     public static final String REQUEST_COULD_NOT_BE_PROCESSED = "REQUEST_COULD_NOT_BE_PROCESSED";
+    public static final String INVALID_CONTINUE_TOKEN_MESSAGE = "INVALID_CONTINUE_TOKEN";
+    public static final String INVALID_USERS_MAPPING_MESSAGE = "INVALID_USERS_MAPPING";
+    public static final String INVALID_USERS_ACCESS_MESSAGE = "INVALID_USERS_ACCESS";
+    public static final String KEYCLOAK_USERS_UNAVAILABLE_MESSAGE = "KEYCLOAK_USERS_UNAVAILABLE";
+
+    // 스트리밍 조회 시 JDBC fetch size (커서 단위 조회)
+    public static final String STREAM_FETCH_SIZE = "1000";
+
+    // Keycloak 사용자 인덱스 갱신 조회 제한 시간 (ms, 갱신 취소 시 DB 조회 중단)
+    public static final String KEYCLOAK_QUERY_TIMEOUT = "30000";
+
+    // 변경 버전 관리 대상 테이블
+    public static final String TABLE_CP_USERS = "cp_users";
+    public static final String TABLE_CP_CLUSTERS = "cp_clusters";
+    public static final String TABLE_CP_RESOURCE_QUOTAS = "cp_resource_quotas";
+    public static final String TABLE_CP_LIMIT_RANGES = "cp_limit_ranges";
+    public static final String TABLE_CP_HCL_TEMPLATES = "cp_hcl_templates";
+    public static final String TABLE_CP_CLOUD_ACCOUNTS = "cp_cloud_accounts";
+    public static final String TABLE_KEYCLOAK_USERS = "USER_ENTITY";
 
     public static final String CLUSTER_STATUS_ACTIVE = "A";
     public static final String CLUSTER_STATUS_CREATING = "C";
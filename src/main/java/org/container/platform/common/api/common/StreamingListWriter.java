@@ -0,0 +1,139 @@
+package org.container.platform.common.api.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 목록 스트리밍 응답 클래스
+ * (목록 모델의 응답 형식(resultCode, ..., items)을 유지하면서 items 를 DB 커서에서 한 건씩 읽어 응답에 기록)
+ * <p>
+ * 조회는 응답 기록 스레드의 읽기 전용 트랜잭션 내에서 Spring Data Stream 으로 수행하며,
+ * flushInterval 건마다 응답을 flush 하고 영속성 컨텍스트를 비워 행 수와 관계없이 힙 사용량을 일정하게 유지한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class StreamingListWriter {
+
+    private static final String ITEMS = "items";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushInterval;
+
+    /**
+     * Instantiates a new Streaming list writer
+     *
+     * @param objectMapper       the object mapper
+     * @param transactionManager the transaction manager
+     * @param flushInterval      the flush interval
+     */
+    @Autowired
+    public StreamingListWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                               @Value("${cp.streaming.flushInterval:500}") int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.flushInterval = flushInterval;
+    }
+
+
+    /**
+     * 목록 스트리밍 응답 생성 (Create streaming list response)
+     *
+     * @param envelope the list model (items 제외 항목을 응답 형식으로 사용)
+     * @param rows     the rows stream supplier
+     * @param <T>      the item type
+     * @return the response entity
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Object envelope, Supplier<Stream<T>> rows) {
+        return stream(envelope, null, rows, x -> true);
+    }
+
+
+    /**
+     * 목록 스트리밍 응답 생성 (Create streaming list response)
+     *
+     * @param envelope      the list model (items 제외 항목을 응답 형식으로 사용)
+     * @param emptyEnvelope the list model used when no rows (null 인 경우 빈 items 로 응답)
+     * @param rows          the rows stream supplier
+     * @param filter        the row filter
+     * @param <T>           the item type
+     * @return the response entity
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Object envelope, Object emptyEnvelope, Supplier<Stream<T>> rows,
+                                                            Predicate<? super T> filter) {
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get()) {
+                write(outputStream, envelope, emptyEnvelope, stream.filter(filter).iterator());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+
+    /**
+     * 목록 응답 기록 (Write list response)
+     */
+    private <T> void write(OutputStream outputStream, Object envelope, Object emptyEnvelope, Iterator<T> items) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 서블릿 컨테이너에서 종료
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (!items.hasNext() && emptyEnvelope != null) {
+                generator.writeObject(emptyEnvelope);
+                return;
+            }
+
+            ObjectNode header = objectMapper.valueToTree(envelope);
+            header.remove(ITEMS);
+
+            generator.writeStartObject();
+            for (Iterator<Map.Entry<String, JsonNode>> it = header.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+
+            generator.writeArrayFieldStart(ITEMS);
+            int count = 0;
+            while (items.hasNext()) {
+                generator.writeObject(items.next());
+                if (++count % flushInterval == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.container.platform.common.api.common;
+
+/**
+ * 테이블 변경 이벤트 클래스
+ * (등록, 수정, 삭제된 테이블 명을 전달)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class TableChangedEvent {
+
+    private final String table;
+
+    private TableChangedEvent(String table) {
+        this.table = table;
+    }
+
+
+    /**
+     * 변경된 테이블 명으로 이벤트 생성 (Create event from changed table)
+     *
+     * @param table the table
+     * @return the table changed event
+     */
+    public static TableChangedEvent of(String table) {
+        return new TableChangedEvent(table);
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
@@ -4,7 +4,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
+import org.container.platform.common.api.common.Constants;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * HclTemplates Controller 클래스
@@ -18,25 +21,32 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/hclTemplates")
 public class HclTemplatesController {
     private final HclTemplatesService hclTemplatesService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a new hclTemplates controller
      *
      * @param hclTemplatesService the hclTemplates service
+     * @param changeVersions the change versions
      */
-    HclTemplatesController(HclTemplatesService hclTemplatesService) {
+    HclTemplatesController(HclTemplatesService hclTemplatesService, ChangeVersions changeVersions) {
         this.hclTemplatesService = hclTemplatesService;
+        this.changeVersions = changeVersions;
     }
 
 
     /**
      * HclTemplates 목록 조회(Get HclTemplates List)
      *
+     * @param request the web request
      * @return the hclTemplatesList
      */
     @Operation(summary = "HclTemplates 목록 조회(Get HclTemplates List)", operationId = "getHclTemplatesList")
     @GetMapping
-    public HclTemplatesList getHclTemplatesList() {
+    public HclTemplatesList getHclTemplatesList(WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_HCL_TEMPLATES)) {
+            return null;
+        }
         return hclTemplatesService.getHclTemplatesList();
     }
 
@@ -44,12 +54,17 @@ public class HclTemplatesController {
     /**
      * Provider별 HclTemplates 목록 조회(Get HclTemplates List By Provider)
      *
+     * @param provider the provider
+     * @param request  the web request
      * @return the HclTemplatesList
      */
     @Operation(summary = "Provider별 HclTemplates 목록 조회(Get HclTemplates List By Provider)", operationId = "getHclTemplatesListByProvider")
     @Parameter(name = "provider", description = "프로바이더", required = true)
     @GetMapping(value = "/provider/{provider:.+}")
-    public HclTemplatesList getHclTemplatesListByProvider(@PathVariable String provider) {
+    public HclTemplatesList getHclTemplatesListByProvider(@PathVariable String provider, WebRequest request) {
+        if (changeVersions.checkNotModified(request, Constants.TABLE_CP_HCL_TEMPLATES)) {
+            return null;
+        }
         return hclTemplatesService.getHclTemplatesListByProvider(provider);}
 
 
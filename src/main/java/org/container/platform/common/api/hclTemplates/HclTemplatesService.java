@@ -2,7 +2,9 @@ package org.container.platform.common.api.hclTemplates;
 
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.TableChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,17 +21,20 @@ import java.util.List;
 public class HclTemplatesService {
     private final CommonService commonService;
     private final HclTemplatesRepository hclTemplatesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Instantiates a new Clusters service
      *
      * @param hclTemplatesRepository the hclTemplates repository
      * @param commonService the common Service
+     * @param eventPublisher the event publisher
      */
     @Autowired
-    HclTemplatesService(CommonService commonService, HclTemplatesRepository hclTemplatesRepository) {
+    HclTemplatesService(CommonService commonService, HclTemplatesRepository hclTemplatesRepository, ApplicationEventPublisher eventPublisher) {
         this.commonService = commonService;
         this.hclTemplatesRepository = hclTemplatesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -43,6 +48,7 @@ public class HclTemplatesService {
         HclTemplates createdHclTemplates = new HclTemplates();
         try {
             createdHclTemplates = hclTemplatesRepository.save(hclTemplates);
+            eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
         } catch (Exception e) {
             createdHclTemplates.setResultMessage(e.getMessage());
             return (HclTemplates) commonService.setResultModel(createdHclTemplates, Constants.RESULT_STATUS_FAIL);
@@ -96,6 +102,7 @@ public class HclTemplatesService {
     public HclTemplates modifyHclTemplates(HclTemplates hclTemplates) {
         try {
             hclTemplates = hclTemplatesRepository.save(hclTemplates);
+            eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
         } catch (Exception e) {
             hclTemplates.setResultMessage(e.getMessage());
             return (HclTemplates) commonService.setResultModel(hclTemplates, Constants.RESULT_STATUS_FAIL);
@@ -113,6 +120,7 @@ public class HclTemplatesService {
     @Transactional
     public HclTemplates deleteHclTemplates(Long id) {
         hclTemplatesRepository.deleteById(id);
+        eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
         return (HclTemplates) commonService.setResultModel(new HclTemplates(), Constants.RESULT_STATUS_SUCCESS);
 
     }
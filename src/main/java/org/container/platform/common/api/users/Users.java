@@ -1,5 +1,6 @@
 package org.container.platform.common.api.users;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 import org.container.platform.common.api.common.Constants;
@@ -64,6 +65,11 @@ public class Users {
     @Column(name = "last_modified", nullable = false)
     private String lastModified;
 
+    // 가입 등록 행 유일 키 (등록 행 INSERT 시에만 user_auth_id 로 설정, 그 외 행은 NULL)
+    @JsonIgnore
+    @Column(name = "signup_auth_id", updatable = false)
+    private String signupAuthId;
+
 
     @Transient
     private String isNsAdmin;
@@ -0,0 +1,44 @@
+package org.container.platform.common.api.users;
+
+/**
+ * User 접근 정보 클래스
+ * (클러스터, 네임스페이스에 대한 사용자 접근 정보 조회 결과, 불변)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public final class UsersAccess {
+
+    private static final UsersAccess NOT_FOUND = new UsersAccess(false, null, null);
+
+    private final boolean found;
+    private final String clusterName;
+    private final String roleSetCode;
+
+    private UsersAccess(boolean found, String clusterName, String roleSetCode) {
+        this.found = found;
+        this.clusterName = clusterName;
+        this.roleSetCode = roleSetCode;
+    }
+
+    public static UsersAccess of(String clusterName, String roleSetCode) {
+        return new UsersAccess(true, clusterName, roleSetCode);
+    }
+
+    public static UsersAccess notFound() {
+        return NOT_FOUND;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    public String getRoleSetCode() {
+        return roleSetCode;
+    }
+}
@@ -0,0 +1,270 @@
+package org.container.platform.common.api.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.container.platform.common.api.clusters.ClustersChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * User 접근 정보 캐시 클래스
+ * ((userAuthId, cluster, userType, namespace) 별 접근 정보 조회 결과를 ttl 동안 보관)
+ * <p>
+ * 사용자 변경 시 UsersChangedEvent 의 userAuthId 항목만, 클러스터 변경 시 해당 클러스터 항목만 트랜잭션 커밋 이후 삭제하며,
+ * 다른 인스턴스의 변경은 ttl 경과 후 재조회로 반영된다. 접근 정보가 없는 결과도 동일하게 보관한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class UsersAccessCache {
+
+    private static final String METRIC_PREFIX = "users.access.cache";
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Instantiates a new Users access cache
+     *
+     * @param meterRegistry the meter registry
+     * @param ttlMillis     the ttl millis
+     * @param maxEntries    the max entries
+     */
+    @Autowired
+    public UsersAccessCache(MeterRegistry meterRegistry,
+                            @Value("${cp.usersAccess.cacheTtl:10000}") long ttlMillis,
+                            @Value("${cp.usersAccess.cacheMaxEntries:10000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "miss").register(meterRegistry);
+        this.invalidationCounter = Counter.builder(METRIC_PREFIX + ".invalidations").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", this, x -> x.evictions.get()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", entries, Map::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hitRatio", this, UsersAccessCache::getHitRatio).register(meterRegistry);
+    }
+
+
+    /**
+     * 접근 정보 조회 (Get users access)
+     * (캐시에 없거나 만료된 경우 loader 로 조회 후 보관)
+     *
+     * @param userAuthId the user auth id
+     * @param cluster    the cluster
+     * @param userType   the user type
+     * @param namespace  the namespace
+     * @param loader     the loader
+     * @return the users access
+     */
+    public UsersAccess get(String userAuthId, String cluster, String userType, String namespace, Supplier<UsersAccess> loader) {
+        Key key = new Key(userAuthId, cluster, userType, namespace);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            hitCounter.increment();
+            return entry.access;
+        }
+
+        missCounter.increment();
+        // 조회 중 무효화된 경우 조회 결과는 이번 호출에만 사용하고 캐시에는 보관하지 않음
+        long loadGeneration = generation.get();
+        UsersAccess access = loader.get();
+        if (generation.get() == loadGeneration) {
+            evictIfFull(now);
+            entries.put(key, new Entry(access, now + ttlMillis));
+        }
+        return access;
+    }
+
+
+    /**
+     * 접근 정보 일괄 조회 (Get all users access)
+     * (캐시에 없거나 만료된 항목만 모아 loader 로 한 번에 조회 후 보관)
+     *
+     * @param userAuthId the user auth id
+     * @param items      the access items (clusterId, cpNamespace, userType)
+     * @param loader     the loader (items 순서대로 접근 정보 반환)
+     * @return the users access list in items order
+     */
+    public List<UsersAccess> getAll(String userAuthId, List<UsersAccessList.Item> items,
+                                    Function<List<UsersAccessList.Item>, List<UsersAccess>> loader) {
+        long now = System.currentTimeMillis();
+        UsersAccess[] accesses = new UsersAccess[items.size()];
+        List<Integer> missIndexes = new ArrayList<>();
+        List<UsersAccessList.Item> misses = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            UsersAccessList.Item item = items.get(i);
+            Entry entry = entries.get(new Key(userAuthId, item.getClusterId(), item.getUserType(), item.getCpNamespace()));
+            if (entry != null && entry.expiresAt > now) {
+                hitCounter.increment();
+                accesses[i] = entry.access;
+            } else {
+                missCounter.increment();
+                missIndexes.add(i);
+                misses.add(item);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long loadGeneration = generation.get();
+            List<UsersAccess> loaded = loader.apply(misses);
+            boolean store = generation.get() == loadGeneration;
+            for (int i = 0; i < misses.size(); i++) {
+                UsersAccessList.Item item = misses.get(i);
+                accesses[missIndexes.get(i)] = loaded.get(i);
+                if (store) {
+                    evictIfFull(now);
+                    entries.put(new Key(userAuthId, item.getClusterId(), item.getUserType(), item.getCpNamespace()),
+                            new Entry(loaded.get(i), now + ttlMillis));
+                }
+            }
+        }
+        return Arrays.asList(accesses);
+    }
+
+
+    /**
+     * 사용자 변경 시 해당 사용자 항목 삭제 (Invalidate entries on users changed)
+     * (트랜잭션 커밋 이후 실행, 트랜잭션 외부 호출 시 즉시 실행)
+     *
+     * @param event the users changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        Set<String> userAuthIds = event.getUserAuthIds();
+        if (userAuthIds.isEmpty()) {
+            clear();
+            return;
+        }
+
+        generation.incrementAndGet();
+        entries.keySet().removeIf(x -> userAuthIds.contains(x.userAuthId));
+        invalidationCounter.increment();
+    }
+
+
+    /**
+     * 클러스터 변경 시 해당 클러스터 항목 삭제 (Invalidate entries on clusters changed)
+     * (트랜잭션 커밋 이후 실행, 트랜잭션 외부 호출 시 즉시 실행)
+     *
+     * @param event the clusters changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClustersChanged(ClustersChangedEvent event) {
+        if (event.getClusterId() == null) {
+            clear();
+            return;
+        }
+
+        generation.incrementAndGet();
+        entries.keySet().removeIf(x -> event.getClusterId().equals(x.cluster));
+        invalidationCounter.increment();
+    }
+
+
+    /**
+     * 캐시 전체 삭제 (Clear cache)
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        invalidationCounter.increment();
+    }
+
+
+    /**
+     * 캐시 적중률 조회 (Get hit ratio)
+     *
+     * @return the hit ratio
+     */
+    public double getHitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return (total == 0) ? Double.NaN : hitCounter.count() / total;
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        int size = entries.size();
+        entries.values().removeIf(x -> x.expiresAt <= now);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        evictions.addAndGet(size - entries.size());
+    }
+
+
+    /**
+     * 접근 정보 캐시 키
+     */
+    private static final class Key {
+        private final String userAuthId;
+        private final String cluster;
+        private final String userType;
+        private final String namespace;
+
+        private Key(String userAuthId, String cluster, String userType, String namespace) {
+            this.userAuthId = userAuthId;
+            this.cluster = cluster;
+            this.userType = userType;
+            this.namespace = namespace;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(userAuthId, key.userAuthId) && Objects.equals(cluster, key.cluster)
+                    && Objects.equals(userType, key.userType) && Objects.equals(namespace, key.namespace);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userAuthId, cluster, userType, namespace);
+        }
+    }
+
+    private static final class Entry {
+        private final UsersAccess access;
+        private final long expiresAt;
+
+        private Entry(UsersAccess access, long expiresAt) {
+            this.access = access;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.container.platform.common.api.users;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * User 접근 정보 일괄 조회 Model 클래스
+ * (요청 : 사용자 한 명의 클러스터, 네임스페이스, 사용자 타입 목록 / 응답 : 요청 순서대로 클러스터 명, 역할 설정)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Data
+public class UsersAccessList {
+    private String resultCode;
+    private String resultMessage;
+
+    private String userAuthId;
+
+    // 조회 대상 목록 (clusterId, cpNamespace, userType)
+    // 응답 시 clusterName, roleSetCode 설정 (접근 정보가 없는 경우 found = false)
+    private List<Item> items;
+
+    public UsersAccessList() {
+    }
+
+
+    /**
+     * User 접근 정보 일괄 조회 항목
+     */
+    @Data
+    public static class Item {
+        private String clusterId;
+        private String cpNamespace;
+        private String userType;
+
+        private boolean found;
+        private String clusterName;
+        private String roleSetCode;
+
+        public Item() {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.container.platform.common.api.users;
+
+import java.util.*;
+
+/**
+ * User 변경 이벤트 클래스
+ * (cp_users 등록, 수정, 삭제 시 변경된 사용자의 user_id, user_auth_id 를 전달)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class UsersChangedEvent {
+
+    private final Set<String> userIds;
+    private final Set<String> userAuthIds;
+
+    private UsersChangedEvent(Set<String> userIds, Set<String> userAuthIds) {
+        this.userIds = Collections.unmodifiableSet(userIds);
+        this.userAuthIds = Collections.unmodifiableSet(userAuthIds);
+    }
+
+
+    /**
+     * 변경된 사용자 목록으로 이벤트 생성 (Create event from changed users)
+     *
+     * @param usersList the changed users list
+     * @return the users changed event
+     */
+    public static UsersChangedEvent of(Collection<Users> usersList) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> userAuthIds = new HashSet<>();
+        for (Users users : usersList) {
+            addIfPresent(userIds, users.getUserId());
+            addIfPresent(userAuthIds, users.getUserAuthId());
+        }
+        return new UsersChangedEvent(userIds, userAuthIds);
+    }
+
+
+    /**
+     * 변경된 사용자 키로 이벤트 생성 (Create event from changed user keys)
+     *
+     * @param userId     the user id
+     * @param userAuthId the user auth id
+     * @return the users changed event
+     */
+    public static UsersChangedEvent of(String userId, String userAuthId) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> userAuthIds = new HashSet<>();
+        addIfPresent(userIds, userId);
+        addIfPresent(userAuthIds, userAuthId);
+        return new UsersChangedEvent(userIds, userAuthIds);
+    }
+
+    public Set<String> getUserIds() {
+        return userIds;
+    }
+
+    public Set<String> getUserAuthIds() {
+        return userAuthIds;
+    }
+
+    public boolean isEmpty() {
+        return userIds.isEmpty() && userAuthIds.isEmpty();
+    }
+
+    private static void addIfPresent(Set<String> keys, String key) {
+        if (key != null) {
+            keys.add(key);
+        }
+    }
+}
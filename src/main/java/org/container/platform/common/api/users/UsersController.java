@@ -5,10 +5,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.container.platform.common.api.common.ChangeVersions;
 import org.container.platform.common.api.common.ResultStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -29,16 +31,22 @@ public class UsersController {
     @Value("${cp.defaultNamespace}")
     private String defaultNamespace;
 
+    // 사용자 목록 응답에 포함되는 테이블 (클러스터 명, Keycloak 사용자 존재 여부 포함)
+    private static final String[] USERS_LIST_TABLES = {TABLE_CP_USERS, TABLE_CP_CLUSTERS, TABLE_KEYCLOAK_USERS};
+
     private final UsersService userService;
+    private final ChangeVersions changeVersions;
 
     /**
      * Instantiates a new User controller
      *
      * @param userService the user service
+     * @param changeVersions the change versions
      */
     @Autowired
-    public UsersController(UsersService userService) {
+    public UsersController(UsersService userService, ChangeVersions changeVersions) {
         this.userService = userService;
+        this.changeVersions = changeVersions;
     }
 
     /**
@@ -73,6 +81,20 @@ public class UsersController {
     }
 
 
+    /**
+     * 사용자 네임스페이스 맵핑 일괄 반영(Replace Users Mappings)
+     *
+     * @param mappingList the users mapping list
+     * @return the users mapping list
+     */
+    @Operation(summary = "사용자 네임스페이스 맵핑 일괄 반영(Replace Users Mappings)", operationId = "replaceUsersMappings")
+    @Parameter(name = "mappingList", description = "사용자 맵핑 목록", required = true, schema = @Schema(implementation = UsersMappingList.class))
+    @PutMapping(value = "/users/mappings")
+    public UsersMappingList replaceUsersMappings(@RequestBody UsersMappingList mappingList) {
+        return userService.replaceUsersMappings(mappingList);
+    }
+
+
     /**
      * 등록 된 Users 목록 조회(Get Registered Users list)
      *
@@ -89,13 +111,50 @@ public class UsersController {
      * 전체 Users 목록 조회(Get All Users list)
      *
      * @param namespace the namespace
+     * @param request   the web request
      * @return the users list
      */
     @Operation(summary = "전체 Users 목록 조회(Get All Users list)", operationId = "getUsersList")
-    @Parameter(name = "namespace", description = "네임스페이스 명", required = true)
+    @Parameters ({
+            @Parameter(name = "namespace", description = "네임스페이스 명", required = true),
+            @Parameter(name = "limit", description = "페이지 항목 수 (0 인 경우 전체 조회)"),
+            @Parameter(name = "continue", description = "다음 페이지 continue 토큰"),
+            @Parameter(name = "withTotal", description = "전체 건수 조회 여부")
+    })
     @GetMapping(value = "/users")
-    public UsersList getUsersList(@RequestParam(name = "namespace") String namespace) {
-        return userService.getUsersList(namespace);
+    public UsersList getUsersList(@RequestParam(name = "namespace") String namespace,
+                                  @RequestParam(required = false, defaultValue = "0") int limit,
+                                  @RequestParam(name = "continue", required = false) String continueToken,
+                                  @RequestParam(required = false, defaultValue = "false") boolean withTotal,
+                                  WebRequest request) {
+        if (changeVersions.checkNotModified(request, USERS_LIST_TABLES)) {
+            return null;
+        }
+        return userService.getUsersList(namespace, UsersPageRequest.of(limit, continueToken, withTotal));
+    }
+
+
+    /**
+     * 사용자 프로젝션 상태 조회(Get Users Projection Status)
+     *
+     * @return the users projection status
+     */
+    @Operation(summary = "사용자 프로젝션 상태 조회(Get Users Projection Status)", operationId = "getUsersProjectionStatus")
+    @GetMapping(value = "/users/projection")
+    public UsersProjectionStatus getUsersProjectionStatus() {
+        return userService.getUsersProjectionStatus();
+    }
+
+
+    /**
+     * 사용자 프로젝션 재구성(Rebuild Users Projection)
+     *
+     * @return the users projection status
+     */
+    @Operation(summary = "사용자 프로젝션 재구성(Rebuild Users Projection)", operationId = "rebuildUsersProjection")
+    @PostMapping(value = "/users/projection/rebuild")
+    public UsersProjectionStatus rebuildUsersProjection() {
+        return userService.rebuildUsersProjection();
     }
 
 
@@ -104,6 +163,7 @@ public class UsersController {
      *
      * @param cluster    the cluster
      * @param searchName the searchName
+     * @param request    the web request
      * @return the users list
      *
      */
@@ -112,18 +172,29 @@ public class UsersController {
             @Parameter(name = "cluster", description = "클러스터 명", required = true),
             @Parameter(name = "namespace", description = "네임스페이스 명", required = true),
             @Parameter(name = "searchName", description = "검색 조건"),
-            @Parameter(name = "isActive", description = "상태")
+            @Parameter(name = "isActive", description = "상태"),
+            @Parameter(name = "limit", description = "페이지 항목 수 (0 인 경우 전체 조회)"),
+            @Parameter(name = "continue", description = "다음 페이지 continue 토큰"),
+            @Parameter(name = "withTotal", description = "전체 건수 조회 여부")
     })
     @GetMapping(value = "/clusters/{cluster:.+}/namespaces/{namespace:.+}/usersList")
     public UsersDetailsList getUsersListAllByCluster(@PathVariable(value = "cluster") String cluster,
                                                      @PathVariable(value = "namespace") String namespace,
                                                      @RequestParam(required = false, defaultValue = "") String searchName,
-                                                     @RequestParam(required = false, defaultValue = "true") String isActive) {
+                                                     @RequestParam(required = false, defaultValue = "true") String isActive,
+                                                     @RequestParam(required = false, defaultValue = "0") int limit,
+                                                     @RequestParam(name = "continue", required = false) String continueToken,
+                                                     @RequestParam(required = false, defaultValue = "false") boolean withTotal,
+                                                     WebRequest request) {
+        if (changeVersions.checkNotModified(request, USERS_LIST_TABLES)) {
+            return null;
+        }
+        UsersPageRequest page = UsersPageRequest.of(limit, continueToken, withTotal);
         if (isActive.equalsIgnoreCase(IS_ADMIN_FALSE)) {
             // 비활성화 사용자인 경우
-            return userService.getInActiveUsersList(cluster, searchName);
+            return userService.getInActiveUsersList(cluster, searchName, page);
         }
-        return userService.getActiveUsersList(cluster, namespace, searchName);
+        return userService.getActiveUsersList(cluster, namespace, searchName, page);
     }
 
 
@@ -306,6 +377,20 @@ public class UsersController {
     }
 
 
+    /**
+     * 여러 Cluster, Namespace 에 속한 User 접근 정보 일괄 조회(Get Users Access Info List)
+     *
+     * @param accessList the users access list
+     * @return the users access list
+     */
+    @Operation(summary = "여러 Cluster, Namespace 에 속한 User 접근 정보 일괄 조회(Get Users Access Info List)", operationId = "getUsersAccessInfoList")
+    @Parameter(name = "accessList", description = "사용자 접근 정보 조회 목록", required = true, schema = @Schema(implementation = UsersAccessList.class))
+    @PostMapping(value = "/cluster/info/all/user/details")
+    public UsersAccessList getUsersAccessInfoList(@RequestBody UsersAccessList accessList) {
+        return userService.getUsersAccessInfoList(accessList);
+    }
+
+
     /**
      * 네임스페이스 관리자 체크 조회 (Get user list whether user is namespace admin or not)
      *
@@ -497,12 +582,22 @@ public class UsersController {
     @Operation(summary = "클러스터 관리자 목록 조회(Get Cluster Admin List)", operationId = "getClusterAdminList")
     @Parameters ({
             @Parameter(name = "cluster", description = "클러스터 명", required = true),
-            @Parameter(name = "searchName", description = "검색 조건")
+            @Parameter(name = "searchName", description = "검색 조건"),
+            @Parameter(name = "limit", description = "페이지 항목 수 (0 인 경우 전체 조회)"),
+            @Parameter(name = "continue", description = "다음 페이지 continue 토큰"),
+            @Parameter(name = "withTotal", description = "전체 건수 조회 여부")
     })
     @GetMapping(value = "/cluster/{cluster:.+}/admin")
     public UsersList getClusterAdminList(@PathVariable String cluster,
-                                         @RequestParam(required = false, defaultValue = "") String searchName) {
-        return userService.getClusterAdminList(cluster, searchName);
+                                         @RequestParam(required = false, defaultValue = "") String searchName,
+                                         @RequestParam(required = false, defaultValue = "0") int limit,
+                                         @RequestParam(name = "continue", required = false) String continueToken,
+                                         @RequestParam(required = false, defaultValue = "false") boolean withTotal,
+                                         WebRequest request) {
+        if (changeVersions.checkNotModified(request, USERS_LIST_TABLES)) {
+            return null;
+        }
+        return userService.getClusterAdminList(cluster, searchName, UsersPageRequest.of(limit, continueToken, withTotal));
     }
 
 
@@ -570,11 +665,17 @@ public class UsersController {
     @Operation(summary = "클러스터 또는 클러스터 내 네임스페이스 사용자 전체 목록 조회 (Get Cluster or Namespace All Users List)", operationId = "getAllUsersByClusterAndNamespace")
     @Parameters({
             @Parameter(name = "cluster", description = "클러스터 명", required = true),
-            @Parameter(name = "namespace", description = "네임스페이스 명", required = true)
+            @Parameter(name = "namespace", description = "네임스페이스 명", required = true),
+            @Parameter(name = "stream", description = "목록 스트리밍 응답 여부")
     })
     @GetMapping("/clusters/{cluster:.+}/namespaces/{namespace:.+}/users")
-    public UsersList getAllUsersByClusterAndNamespace(@PathVariable(value = "cluster") String cluster,
-                                                      @PathVariable(value = "namespace") String namespace) {
+    public Object getAllUsersByClusterAndNamespace(@PathVariable(value = "cluster") String cluster,
+                                                   @PathVariable(value = "namespace") String namespace,
+                                                   @RequestParam(required = false, defaultValue = "false") boolean stream) {
+        if (stream) {
+            return namespace.equalsIgnoreCase(ALL_VAL) ? userService.streamAllUsersByClusters(cluster)
+                    : userService.streamAllUsersByClusterAndNamespace(cluster, namespace);
+        }
         if(namespace.equalsIgnoreCase(ALL_VAL)) {
             return userService.getAllUsersByClusters(cluster);
         }
@@ -601,10 +702,27 @@ public class UsersController {
      * @return the resultStatus
      */
     @Operation(summary = "클러스터 전체 사용자 목록 조회(Get Users List By Cluster)", operationId = "getUsersListByCluster")
-    @Parameter(name = "cluster", description = "클러스터 명", required = true)
+    @Parameters ({
+            @Parameter(name = "cluster", description = "클러스터 명", required = true),
+            @Parameter(name = "limit", description = "페이지 항목 수 (0 인 경우 전체 조회)"),
+            @Parameter(name = "continue", description = "다음 페이지 continue 토큰"),
+            @Parameter(name = "withTotal", description = "전체 건수 조회 여부"),
+            @Parameter(name = "stream", description = "목록 스트리밍 응답 여부 (limit 미지정 시)")
+    })
     @GetMapping(value = "/clusters/{cluster:.+}/users")
-    public UsersList getUsersListByCluster(@PathVariable(value = "cluster") String cluster) {
-        return  userService.getUsersListByCluster(cluster);
+    public Object getUsersListByCluster(@PathVariable(value = "cluster") String cluster,
+                                        @RequestParam(required = false, defaultValue = "0") int limit,
+                                        @RequestParam(name = "continue", required = false) String continueToken,
+                                        @RequestParam(required = false, defaultValue = "false") boolean withTotal,
+                                        @RequestParam(required = false, defaultValue = "false") boolean stream,
+                                        WebRequest request) {
+        if (changeVersions.checkNotModified(request, USERS_LIST_TABLES)) {
+            return null;
+        }
+        if (stream && limit <= 0) {
+            return userService.streamUsersListByCluster(cluster);
+        }
+        return  userService.getUsersListByCluster(cluster, UsersPageRequest.of(limit, continueToken, withTotal));
     }
 
 
@@ -0,0 +1,75 @@
+package org.container.platform.common.api.users;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * User 목록 전체 건수 캐시 클래스
+ * ((cluster, 필터) 별 목록 전체 건수를 ttl 동안 보관하는 근사 건수 캐시)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class UsersCountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UsersCountCache(@Value("${cp.usersPage.countCacheTtl:30000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+
+    /**
+     * 전체 건수 조회 (Get total count)
+     * (캐시 만료 시 counter 로 재조회)
+     *
+     * @param key     the key
+     * @param counter the counter
+     * @return the total count
+     */
+    public int get(String key, Supplier<Number> counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(x -> x.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+
+        int count = counter.get().intValue();
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+
+    /**
+     * 캐시 전체 삭제 (Clear cache)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final int count;
+        private final long expiresAt;
+
+        private Entry(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
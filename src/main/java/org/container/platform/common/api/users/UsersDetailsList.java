@@ -1,6 +1,8 @@
 package org.container.platform.common.api.users;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import org.container.platform.common.api.common.CommonItemMetaData;
 
 import java.util.List;
 
@@ -12,6 +14,9 @@ public class UsersDetailsList {
 
     private List<UsersDetails> items;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CommonItemMetaData itemMetaData;
+
     public UsersDetailsList() {}
     public UsersDetailsList(List<UsersDetails> items) {
         this.items = items;
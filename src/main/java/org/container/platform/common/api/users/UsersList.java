@@ -1,6 +1,8 @@
 package org.container.platform.common.api.users;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import org.container.platform.common.api.common.CommonItemMetaData;
 import org.container.platform.common.api.common.Constants;
 
 import jakarta.persistence.Column;
@@ -29,6 +31,9 @@ public class UsersList {
     @ElementCollection(targetClass = String.class)
     private List<Users> items;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CommonItemMetaData itemMetaData;
+
     public UsersList() {
     }
 
@@ -0,0 +1,36 @@
+package org.container.platform.common.api.users;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * User 네임스페이스 맵핑 일괄 반영 Model 클래스
+ * (요청 : 사용자 한 명의 클러스터, 네임스페이스 맵핑 목록 / 응답 : 반영 건수)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Data
+public class UsersMappingList {
+    private String resultCode;
+    private String resultMessage;
+
+    private String userId;
+    private String userAuthId;
+
+    // 반영 대상 클러스터 목록 (맵핑 목록에 없는 클러스터의 맵핑을 모두 삭제하려는 경우 지정)
+    private List<String> clusterIds;
+
+    // 맵핑 목록 (clusterId, cpNamespace, userType, roleSetCode, serviceAccountName)
+    private List<Users> items;
+
+    private int createdCount;
+    private int updatedCount;
+    private int deletedCount;
+    private int unchangedCount;
+
+    public UsersMappingList() {
+    }
+}
@@ -0,0 +1,93 @@
+package org.container.platform.common.api.users;
+
+import lombok.Getter;
+import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.exception.ResultStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * User 목록 페이지 요청 Model 클래스
+ * (created DESC, id DESC 정렬 기준 keyset 페이지 요청, continue 토큰은 직전 페이지 마지막 항목의 (created, id))
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Getter
+public class UsersPageRequest {
+
+    public static final int MAX_LIMIT = 500;
+    private static final String TOKEN_DELIMITER = "|";
+
+    private final int limit;
+    private final String afterCreated;
+    private final Long afterId;
+    private final boolean withTotal;
+
+    private UsersPageRequest(int limit, String afterCreated, Long afterId, boolean withTotal) {
+        this.limit = limit;
+        this.afterCreated = afterCreated;
+        this.afterId = afterId;
+        this.withTotal = withTotal;
+    }
+
+
+    /**
+     * 페이지 요청 생성 (Create page request)
+     *
+     * @param limit         the limit (0 이하인 경우 전체 조회)
+     * @param continueToken the continue token
+     * @param withTotal     the with total
+     * @return the users page request
+     */
+    public static UsersPageRequest of(int limit, String continueToken, boolean withTotal) {
+        if (limit > MAX_LIMIT) {
+            limit = MAX_LIMIT;
+        }
+
+        if (continueToken == null || continueToken.isEmpty()) {
+            return new UsersPageRequest(limit, null, null, withTotal);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(continueToken), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(TOKEN_DELIMITER);
+            return new UsersPageRequest(limit, decoded.substring(0, index), Long.parseLong(decoded.substring(index + 1)), withTotal);
+        } catch (Exception e) {
+            throw new ResultStatusException(Constants.INVALID_CONTINUE_TOKEN_MESSAGE);
+        }
+    }
+
+
+    /**
+     * 해당 항목 이후 페이지 요청 생성 (Create page request after users)
+     *
+     * @param users the users
+     * @return the users page request
+     */
+    public UsersPageRequest after(Users users) {
+        return new UsersPageRequest(limit, users.getCreated(), users.getId(), withTotal);
+    }
+
+
+    /**
+     * continue 토큰 생성 (Create continue token)
+     *
+     * @param users the last users of page
+     * @return the continue token
+     */
+    public static String continueToken(Users users) {
+        String token = users.getCreated() + TOKEN_DELIMITER + users.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isPaged() {
+        return limit > 0;
+    }
+
+    public boolean hasCursor() {
+        return afterCreated != null;
+    }
+}
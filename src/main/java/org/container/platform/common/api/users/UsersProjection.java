@@ -0,0 +1,187 @@
+package org.container.platform.common.api.users;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+/**
+ * User 프로젝션 클래스
+ * (기본 네임스페이스(temp-namespace)에 등록된 사용자별 최근 맵핑 id 를 cp_users_projection 테이블에 유지)
+ * <p>
+ * 사용자 목록 조회(findAllUsersByProjection)는 프로젝션 테이블 기준으로 해당 네임스페이스 맵핑 또는
+ * 최근 맵핑을 조회하며, 프로젝션은 사용자 변경 이벤트 발생 시 변경된 사용자만 재계산한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class UsersProjection {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersProjection.class);
+
+    private static final String EXPECTED_PROJECTION_SQL = "SELECT user_id, MAX(id) AS latest_id FROM cp_users %s " +
+            "GROUP BY user_id HAVING SUM(CASE WHEN namespace = :defaultNamespace THEN 1 ELSE 0 END) > 0";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String defaultNamespace;
+    private final boolean enabled;
+
+    private volatile boolean available;
+
+    public UsersProjection(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           @Value("${cp.defaultNamespace}") String defaultNamespace,
+                           @Value("${cp.usersProjection.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultNamespace = defaultNamespace;
+        this.enabled = enabled;
+    }
+
+
+    /**
+     * 프로젝션 사용 가능 여부 (Check projection availability)
+     *
+     * @return the boolean
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+
+    /**
+     * 프로젝션 초기화 (Initialize projection)
+     * (프로젝션 테이블이 없는 경우 사용하지 않고, 비어있는 경우 재구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_users_projection", new MapSqlParameterSource(), Long.class);
+            if (count == null || count == 0) {
+                rebuild();
+            }
+            available = true;
+        } catch (Exception e) {
+            LOGGER.warn("Users projection disabled :: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 사용자 변경 이벤트 처리 (Handle users changed event)
+     * (변경 트랜잭션 커밋 후 처리, 실패 시 정합성 주기 확인에서 재구성)
+     *
+     * @param event the users changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        if (!available || event.getUserIds().isEmpty()) {
+            return;
+        }
+
+        try {
+            refresh(event.getUserIds());
+        } catch (Exception e) {
+            LOGGER.error("Users projection refresh failed :: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 사용자 프로젝션 재계산 (Refresh projection of users)
+     *
+     * @param userIds the user ids
+     */
+    public void refresh(Collection<String> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds).addValue("defaultNamespace", defaultNamespace);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM cp_users_projection WHERE user_id IN (:userIds)", params);
+            jdbcTemplate.update("INSERT INTO cp_users_projection (user_id, latest_id) " +
+                    String.format(EXPECTED_PROJECTION_SQL, "WHERE user_id IN (:userIds)"), params);
+        });
+    }
+
+
+    /**
+     * 프로젝션 재구성 (Rebuild projection)
+     * (재구성 성공 시 프로젝션 사용)
+     *
+     * @return the projection count
+     */
+    public long rebuild() {
+        MapSqlParameterSource params = new MapSqlParameterSource("defaultNamespace", defaultNamespace);
+        Integer count = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM cp_users_projection", params);
+            return jdbcTemplate.update("INSERT INTO cp_users_projection (user_id, latest_id) " + String.format(EXPECTED_PROJECTION_SQL, ""), params);
+        });
+        available = enabled;
+        LOGGER.info("Users projection rebuilt :: {} users", count);
+        return (count == null) ? 0 : count;
+    }
+
+
+    /**
+     * 프로젝션 정합성 확인 (Check projection consistency)
+     * (누락 또는 최근 맵핑 id 불일치 건수, 불필요한 프로젝션 건수 조회)
+     *
+     * @return the users projection status
+     */
+    public UsersProjectionStatus check() {
+        if (!available) {
+            return new UsersProjectionStatus(false, 0, 0, 0);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("defaultNamespace", defaultNamespace);
+        String expected = String.format(EXPECTED_PROJECTION_SQL, "");
+
+        Long projectionCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_users_projection", params, Long.class);
+        Long missingCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + expected + ") e " +
+                "LEFT JOIN cp_users_projection p ON p.user_id = e.user_id " +
+                "WHERE p.user_id IS NULL OR p.latest_id <> e.latest_id", params, Long.class);
+        Long orphanCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_users_projection p " +
+                "LEFT JOIN (" + expected + ") e ON e.user_id = p.user_id " +
+                "WHERE e.user_id IS NULL", params, Long.class);
+
+        return new UsersProjectionStatus(true, projectionCount, missingCount, orphanCount);
+    }
+
+
+    /**
+     * 프로젝션 정합성 주기 확인 (Check projection consistency periodically)
+     * (불일치 시 재구성)
+     */
+    @Scheduled(initialDelayString = "${cp.usersProjection.checkInterval:3600000}", fixedDelayString = "${cp.usersProjection.checkInterval:3600000}")
+    public void scheduledCheck() {
+        if (!available) {
+            return;
+        }
+
+        try {
+            UsersProjectionStatus status = check();
+            if (!status.isConsistent()) {
+                LOGGER.warn("Users projection inconsistent :: missing {}, orphan {}", status.getMissingCount(), status.getOrphanCount());
+                rebuild();
+            }
+        } catch (Exception e) {
+            LOGGER.error("Users projection check failed :: {}", e.getMessage());
+        }
+    }
+}
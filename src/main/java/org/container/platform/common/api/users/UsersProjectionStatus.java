@@ -0,0 +1,33 @@
+package org.container.platform.common.api.users;
+
+import lombok.Data;
+
+/**
+ * User 프로젝션 상태 Model 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Data
+public class UsersProjectionStatus {
+    private String resultCode;
+    private String resultMessage;
+
+    private boolean available;
+    private boolean consistent;
+    private long projectionCount;
+    private long missingCount;
+    private long orphanCount;
+
+    public UsersProjectionStatus() {
+    }
+
+    public UsersProjectionStatus(boolean available, long projectionCount, long missingCount, long orphanCount) {
+        this.available = available;
+        this.projectionCount = projectionCount;
+        this.missingCount = missingCount;
+        this.orphanCount = orphanCount;
+        this.consistent = available && missingCount == 0 && orphanCount == 0;
+    }
+}
@@ -1,14 +1,21 @@
 package org.container.platform.common.api.users;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.container.platform.common.api.common.Constants;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * User Repository 인터페이스
@@ -19,7 +26,7 @@ import java.util.List;
  */
 @Repository
 @Transactional
-public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecificationExecutor<Users> {
+public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecificationExecutor<Users>, UsersRepositoryCustom {
 
     @Query(value = "SELECT DISTINCT service_account_name FROM cp_users", nativeQuery = true)
     List<String> getUsersNameList();
@@ -60,8 +67,14 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
                     "               order by created desc;", nativeQuery = true)
     List<Object[]> findAllUsers(@Param("namespace") String namespace, @Param("defaultNamespace") String defaultNamespace);
 
+    // 사용자 프로젝션 기반 전체 사용자 목록 조회 (해당 네임스페이스 맵핑 'Y', 미맵핑 사용자는 최근 맵핑 'N')
+    @Query(value = UsersRepositoryImpl.USERS_PROJECTION_SELECT + "ORDER BY created DESC", nativeQuery = true)
+    List<Object[]> findAllUsersByProjection(@Param("namespace") String namespace);
+
     Users findByCpNamespaceAndUserId(String namespace, String userId);
 
+    List<Users> findAllByCpNamespaceAndUserId(String namespace, String userId);
+
     void deleteByCpNamespaceAndUserId(String namespace, String userId);
 
     @Query(value = "SELECT * FROM cp_users WHERE cluster_name = :cluster AND namespace = :namespace AND user_type ='" + Constants.AUTH_NAMESPACE_ADMIN + "'limit 1;", nativeQuery = true)
@@ -81,6 +94,24 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
             "order by created desc", nativeQuery = true)
     List<Users> findByOnlyTempNamespaceUser(@Param("namespace") String namespace, @Param("searchParam") String searchParam, @Param("clusterAdmin") String clusterAdmin);
 
+    @Query(value = "select * from cp_users where namespace = :namespace " +
+            "and user_id not in (select distinct(user_id) from cp_users where namespace !=  :namespace) " +
+            "and user_id not in (select distinct(user_id) from cp_users where user_type = :clusterAdmin) " +
+            "and user_id in (:userIds) " +
+            "order by created desc", nativeQuery = true)
+    List<Users> findByOnlyTempNamespaceUserIn(@Param("namespace") String namespace, @Param("userIds") Collection<String> userIds, @Param("clusterAdmin") String clusterAdmin);
+
+    // user_id 검색 인덱스 적재 (전체 user_id, last_modified 이후 추가 및 변경된 user_id)
+    // (last_modified 는 yyyy-MM-dd HH:mm:ss 형식 문자열이므로 문자열 비교 순서가 시간 순서와 같음)
+    @Query(value = "SELECT MAX(last_modified) FROM cp_users", nativeQuery = true)
+    String getMaxUsersLastModified();
+
+    @Query(value = "SELECT DISTINCT user_id FROM cp_users", nativeQuery = true)
+    List<String> findAllUserIds();
+
+    @Query(value = "SELECT DISTINCT user_id FROM cp_users WHERE last_modified >= :since", nativeQuery = true)
+    List<String> findUserIdsModifiedSince(@Param("since") String since);
+
 
     List<Users> findAllByUserType(String userType);
 
@@ -187,14 +218,6 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
 
 
 
-    @Query(value = "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created FROM " +
-            "(SELECT * FROM cp_users WHERE cluster_id = :cluster AND namespace != :defaultNamespace AND user_type = :authUser) a, "+
-            "(SELECT c.* FROM cp_users c, cp_clusters d WHERE c.cluster_id = d.cluster_id AND d.cluster_type = :clusterType  AND c.namespace = :defaultNamespace  AND c.user_type = :authUser) b "+
-            "WHERE a.user_auth_id = b.user_auth_id " +
-            "AND a.user_id LIKE %:searchParam% " +
-            "ORDER BY b.created DESC", nativeQuery = true)
-    List<Object[]> getActiveUsersListByCluster(@Param("cluster") String cluster, @Param("defaultNamespace") String defaultNamespace,
-                                               @Param("authUser") String authUser, @Param("clusterType") String clusterType, @Param("searchParam") String searchParam);
 
 
     @Query(value = "SELECT a.* FROM  cp_users a, cp_clusters b " +
@@ -212,6 +235,8 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
 
     List<Users> findAllByClusterIdAndUserAuthId(String clusterId, String userAuthId);
 
+    List<Users> findAllByUserAuthIdAndClusterIdIn(String userAuthId, Collection<String> clusterIds);
+
     @Query(value = "SELECT cp_clusters.name FROM cp_clusters WHERE cluster_id = :cluster ;", nativeQuery = true)
     List<Object[]> findAllByClusters(@Param("cluster") String cluster);
 
@@ -222,6 +247,16 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
             "AND cp_users.user_type = :userType ;", nativeQuery = true)
     List<Object[]> findAllUsersAndClusters(@Param("cluster") String cluster, @Param("userAuthId") String userAuthId, @Param("userType") String userType);
 
+    // 여러 클러스터의 사용자 접근 정보 일괄 조회 (사용자 맵핑이 없는 클러스터도 클러스터 명 조회를 위해 1건 반환)
+    @Query(value = "SELECT c.cluster_id, c.name, u.namespace, u.user_type, u.role_set_code FROM cp_clusters c " +
+            "LEFT JOIN cp_users u ON u.cluster_id = c.cluster_id AND u.user_auth_id = :userAuthId AND u.user_type IN (:userTypes) " +
+            "WHERE c.cluster_id IN (:clusterIds) " +
+            "ORDER BY u.id", nativeQuery = true)
+    List<Object[]> findAllUsersAccessByClusters(@Param("userAuthId") String userAuthId, @Param("userTypes") Collection<String> userTypes,
+                                                @Param("clusterIds") Collection<String> clusterIds);
+
+    List<Users> findAllByClusterIdAndCpNamespaceAndUserAuthIdAndUserType(String clusterId, String namespace, String userAuthId, String userType);
+
     void deleteAllByClusterIdAndCpNamespaceAndUserAuthIdAndUserType(String clusterId, String namespace, String userAuthId, String userType);
 
     @Query(value = "DELETE FROM cp_users WHERE id IN (:id) ;", nativeQuery = true)
@@ -234,14 +269,20 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
 
 
 
-   // for sign up
-    @Query(value = "SELECT * FROM cp_users WHERE user_id = :userId " +
-                   "AND user_type != :authSuperAdmin " +
-                   "AND NOT (user_type = :authUser AND namespace = :defaultNamespace) ;", nativeQuery = true)
-    List<Users> getNonExistUserBySignUp(@Param("userId") String userId, @Param("authSuperAdmin") String authSuperAdmin,
-                                                  @Param("authUser") String authUser,  @Param("defaultNamespace") String defaultNamespace);
+   // for sign up (동일 사용자 아이디 또는 인증 아이디 행 잠금 조회, 기존 행이 있으면 동시 가입 요청은 트랜잭션 종료 시까지 대기)
+   // 조회 결과가 없으면 InnoDB 갭 잠금만 획득하므로 동시 요청이 모두 통과, 중복 등록은 V5 가입 등록 행 유일 키(ux_cp_users_signup)로 거부
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT u FROM Users u WHERE u.userId = :userId OR u.userAuthId = :userAuthId")
+    List<Users> findAllForSignUp(@Param("userId") String userId, @Param("userAuthId") String userAuthId);
 
-    void deleteAllByUserId(String userId);
+    // for super admin sign up (SUPER-ADMIN 가입 잠금 행 잠금, 항상 존재하는 행이므로 동시 SUPER-ADMIN 가입 요청은 트랜잭션 종료 시까지 대기)
+    @Query(value = "SELECT lock_name FROM cp_users_signup_locks WHERE lock_name = :lockName FOR UPDATE", nativeQuery = true)
+    String lockSignUp(@Param("lockName") String lockName);
+
+    // for super admin sign up (동일 사용자 아이디 또는 SUPER-ADMIN 권한 행 잠금 조회, lockSignUp 이후 조회)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT u FROM Users u WHERE u.userId = :userId OR u.userType = :authSuperAdmin")
+    List<Users> findAllForSuperAdminSignUp(@Param("userId") String userId, @Param("authSuperAdmin") String authSuperAdmin);
 
 
     @Query(value = "SELECT * FROM cp_users WHERE cluster_id = :cluster " +
@@ -253,5 +294,18 @@ public interface UsersRepository extends JpaRepository<Users, Long>, JpaSpecific
 
     List<Users> getAllByClusterId(String clusterId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE))
+    Stream<Users> streamAllByClusterId(String clusterId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE))
+    Stream<Users> streamAllByClusterIdAndCpNamespaceAndUserType(String clusterId, String namespace, String userType);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE))
+    @Query(value = "SELECT * FROM cp_users WHERE cluster_id = :cluster " +
+            "AND user_type != :authSuperAdmin " +
+            "AND NOT (user_type = :authUser AND namespace = :defaultNamespace)", nativeQuery = true)
+    Stream<Users> streamAllUsersByClusters(@Param("cluster") String cluster, @Param("authSuperAdmin") String authSuperAdmin,
+                                           @Param("authUser") String authUser, @Param("defaultNamespace") String defaultNamespace);
+
     void deleteAllByClusterId(String clusterId);
 }
@@ -0,0 +1,77 @@
+package org.container.platform.common.api.users;
+
+import java.util.List;
+
+/**
+ * User Repository Custom 인터페이스
+ * (Keycloak USER_ENTITY 존재 여부 조건을 SQL 내에서 처리하는 조회)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public interface UsersRepositoryCustom {
+
+    /**
+     * Keycloak 조인 조회 사용 가능 여부 (Check keycloak join query availability)
+     * (keycloak.pushDownJoin 설정이 활성화되어 있고 cp 데이터소스에서 Keycloak 스키마 조회가 가능한 경우)
+     *
+     * @return the boolean
+     */
+    boolean isKeycloakJoinAvailable();
+
+
+    List<Object[]> getClusterAdminListByClusterJoinKeycloak(String cluster, String authClusterAdmin, String clusterType,
+                                                           String defaultNamespace, String authUser, String searchParam);
+
+    List<Users> findAllByClusterIdAndCpNamespaceAndUserTypeJoinKeycloak(String clusterId, String namespace, String userType);
+
+
+    // keyset 페이지 조회 (created DESC, id DESC 정렬, page.limit + 1 건 조회)
+    List<Object[]> getUsersListPage(String namespace, String defaultNamespace, boolean useProjection, UsersPageRequest page);
+
+    long countUsersList(String namespace, String defaultNamespace, boolean useProjection);
+
+    List<Object[]> getClusterAdminListPage(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                           String authUser, UsersSearch search, UsersPageRequest page);
+
+    long countClusterAdminList(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                               String authUser, UsersSearch search);
+
+    List<Object[]> getActiveUsersPage(String cluster, String namespace, String defaultNamespace, String authUser,
+                                      String clusterType, UsersSearch search, UsersPageRequest page);
+
+    long countActiveUsers(String cluster, String namespace, String defaultNamespace, String authUser,
+                          String clusterType, UsersSearch search);
+
+    List<Object[]> getActiveUsersMappingList(String cluster, String namespace, String defaultNamespace, String authUser,
+                                             String clusterType, List<String> userAuthIds);
+
+    List<Users> getInactiveUsersListPage(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                         String authUser, UsersSearch search, UsersPageRequest page);
+
+    long countInactiveUsersList(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                String authUser, UsersSearch search);
+
+    // 검색 조건 전체 목록 조회 (keycloak 조인 조회 사용 가능한 경우 SQL 내에서 확인)
+    List<Object[]> getClusterAdminList(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                       String authUser, UsersSearch search);
+
+    List<Object[]> getActiveUsersMappingList(String cluster, String namespace, String defaultNamespace, String authUser,
+                                             String clusterType, UsersSearch search);
+
+    List<Users> getInactiveUsersList(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                     String authUser, UsersSearch search);
+
+    List<Users> getUsersPageByCluster(String clusterId, UsersPageRequest page);
+
+    long countUsersByCluster(String clusterId);
+
+
+    // 사용자 네임스페이스 맵핑 일괄 반영 (JDBC batch, 호출 측 트랜잭션 참여)
+    void insertUsersBatch(List<Users> usersList);
+
+    void updateUsersBatch(List<Users> usersList);
+
+    void deleteUsersBatch(List<Long> ids);
+}
@@ -0,0 +1,510 @@
+package org.container.platform.common.api.users;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.container.platform.common.api.common.Constants;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * User Repository Custom 구현 클래스
+ * (Keycloak 스키마가 cp 스키마와 동일한 DB 서버에 있는 경우, (user_id, user_auth_id) 의
+ * Keycloak USER_ENTITY 존재 여부를 EXISTS 조건으로 SQL 내에서 처리)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class UsersRepositoryImpl implements UsersRepositoryCustom {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersRepositoryImpl.class);
+    private static final Pattern SCHEMA_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_$]+");
+    private static final int BATCH_SIZE = 500;
+
+    private static final String USERS_LIST_FROM = "FROM (" +
+            "SELECT id, user_id, user_auth_id, service_account_name, namespace, role_set_code, user_type, created, " +
+            "(SELECT CASE WHEN COUNT(user_id) > 0 THEN 'Y' ELSE 'N' END FROM cp_users WHERE namespace = :namespace AND user_id = cu.user_id) AS display_yn " +
+            "FROM cp_users cu " +
+            "WHERE id IN (SELECT id FROM cp_users cu WHERE namespace = :namespace " +
+            "UNION ALL SELECT MAX(id) AS id FROM cp_users cu " +
+            "WHERE NOT EXISTS (SELECT '1' FROM cp_users a WHERE namespace = :namespace AND cu.user_id = a.user_id) GROUP BY user_id)" +
+            ") cp WHERE user_id IN (SELECT DISTINCT user_id FROM cp_users WHERE namespace = :defaultNamespace) ";
+
+    // 사용자 프로젝션 기반 사용자 목록 (해당 네임스페이스 맵핑 'Y', 미맵핑 사용자는 최근 맵핑 'N', UsersRepository.findAllUsersByProjection 공용)
+    static final String USERS_PROJECTION_SELECT =
+            "SELECT c.id, c.user_id, c.user_auth_id, c.service_account_name, c.namespace, c.role_set_code, c.user_type, c.created, 'Y' AS display_yn " +
+            "FROM cp_users_projection p JOIN cp_users c ON c.user_id = p.user_id AND c.namespace = :namespace " +
+            "UNION ALL " +
+            "SELECT c.id, c.user_id, c.user_auth_id, c.service_account_name, c.namespace, c.role_set_code, c.user_type, c.created, 'N' AS display_yn " +
+            "FROM cp_users_projection p JOIN cp_users c ON c.id = p.latest_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM cp_users x WHERE x.namespace = :namespace AND x.user_id = p.user_id) ";
+
+    private static final String USERS_LIST_PROJECTION_FROM = "FROM (" + USERS_PROJECTION_SELECT + ") cp WHERE 1 = 1 ";
+
+    private static final String CLUSTER_ADMIN_FROM = "FROM " +
+            "(SELECT * FROM cp_users WHERE cluster_id = :cluster AND user_type = :authClusterAdmin) a, " +
+            "(SELECT c.* FROM cp_users c, cp_clusters d WHERE c.cluster_id = d.cluster_id AND d.cluster_type = :clusterType AND c.namespace = :defaultNamespace AND c.user_type = :authUser) b " +
+            "WHERE a.user_auth_id = b.user_auth_id " +
+            "AND %s ";
+
+    private static final String ACTIVE_USERS_FROM = "FROM cp_users b, cp_clusters d " +
+            "WHERE b.cluster_id = d.cluster_id AND d.cluster_type = :clusterType AND b.namespace = :defaultNamespace AND b.user_type = :authUser " +
+            "AND EXISTS (SELECT 1 FROM cp_users a WHERE a.cluster_id = :cluster AND a.namespace != :defaultNamespace AND a.user_type = :authUser " +
+            "AND a.user_auth_id = b.user_auth_id AND %s %s) ";
+
+    private static final String INACTIVE_USERS_FROM = "FROM cp_users a, cp_clusters b " +
+            "WHERE a.cluster_id = b.cluster_id AND b.cluster_type = :clusterType AND a.namespace = :defaultNamespace AND a.user_type = :authUser " +
+            "AND a.user_auth_id NOT IN (" +
+            "SELECT user_auth_id FROM cp_users WHERE cluster_id = :cluster AND namespace != :defaultNamespace AND user_type = :authUser " +
+            "UNION ALL SELECT user_auth_id FROM cp_users WHERE cluster_id = :cluster AND user_type = :authClusterAdmin) " +
+            "AND %s ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean pushDownJoinEnabled;
+    private final String keycloakSchema;
+    private final String keycloakCpRealmId;
+
+    private volatile Boolean keycloakJoinAvailable;
+
+    public UsersRepositoryImpl(JdbcTemplate jdbcTemplate,
+                               @Value("${keycloak.pushDownJoin:false}") boolean pushDownJoinEnabled,
+                               @Value("${keycloak.schema:}") String keycloakSchema,
+                               @Value("${keycloak.cpRealmId}") String keycloakCpRealmId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pushDownJoinEnabled = pushDownJoinEnabled;
+        this.keycloakSchema = keycloakSchema;
+        this.keycloakCpRealmId = keycloakCpRealmId;
+    }
+
+
+    @Override
+    public boolean isKeycloakJoinAvailable() {
+        Boolean available = keycloakJoinAvailable;
+        if (available == null) {
+            available = probeKeycloakSchema();
+            keycloakJoinAvailable = available;
+        }
+        return available;
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getClusterAdminListByClusterJoinKeycloak(String cluster, String authClusterAdmin, String clusterType,
+                                                                  String defaultNamespace, String authUser, String searchParam) {
+        String sql = "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created FROM " +
+                "(SELECT * FROM cp_users WHERE cluster_id = :cluster AND user_type = :authClusterAdmin) a, " +
+                "(SELECT c.* FROM cp_users c, cp_clusters d WHERE c.cluster_id = d.cluster_id AND d.cluster_type = :clusterType AND c.namespace = :defaultNamespace AND c.user_type = :authUser) b " +
+                "WHERE a.user_auth_id = b.user_auth_id " +
+                "AND a.user_id LIKE CONCAT('%', :searchParam, '%') " +
+                "AND " + keycloakUserExists("a") + " " +
+                "ORDER BY b.created DESC";
+
+        return entityManager.createNativeQuery(sql)
+                .setParameter("cluster", cluster)
+                .setParameter("authClusterAdmin", authClusterAdmin)
+                .setParameter("clusterType", clusterType)
+                .setParameter("defaultNamespace", defaultNamespace)
+                .setParameter("authUser", authUser)
+                .setParameter("searchParam", searchParam)
+                .setParameter("realmId", keycloakCpRealmId)
+                .getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Users> findAllByClusterIdAndCpNamespaceAndUserTypeJoinKeycloak(String clusterId, String namespace, String userType) {
+        String sql = "SELECT a.* FROM cp_users a " +
+                "WHERE a.cluster_id = :clusterId AND a.namespace = :namespace AND a.user_type = :userType " +
+                "AND " + keycloakUserExists("a");
+
+        return entityManager.createNativeQuery(sql, Users.class)
+                .setParameter("clusterId", clusterId)
+                .setParameter("namespace", namespace)
+                .setParameter("userType", userType)
+                .setParameter("realmId", keycloakCpRealmId)
+                .getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getUsersListPage(String namespace, String defaultNamespace, boolean useProjection, UsersPageRequest page) {
+        String sql = "SELECT cp.* " + usersListFrom(useProjection) + keycloakCondition("cp") + keysetCondition(page, "cp.created", "cp.id") +
+                "ORDER BY cp.created DESC, cp.id DESC";
+
+        return createPageQuery(sql, null, usersListParams(namespace, defaultNamespace, useProjection), page).getResultList();
+    }
+
+
+    @Override
+    public long countUsersList(String namespace, String defaultNamespace, boolean useProjection) {
+        return count("SELECT COUNT(*) " + usersListFrom(useProjection) + keycloakCondition("cp"),
+                usersListParams(namespace, defaultNamespace, useProjection));
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getClusterAdminListPage(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                                  String authUser, UsersSearch search, UsersPageRequest page) {
+        String sql = "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created " +
+                clusterAdminFrom(search) + keycloakCondition("a") + keysetCondition(page, "b.created", "a.id") +
+                "ORDER BY b.created DESC, a.id DESC";
+
+        return createPageQuery(sql, null, clusterAdminParams(cluster, authClusterAdmin, clusterType, defaultNamespace, authUser, search), page)
+                .getResultList();
+    }
+
+
+    @Override
+    public long countClusterAdminList(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                      String authUser, UsersSearch search) {
+        return count("SELECT COUNT(*) " + clusterAdminFrom(search) + keycloakCondition("a"),
+                clusterAdminParams(cluster, authClusterAdmin, clusterType, defaultNamespace, authUser, search));
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getActiveUsersPage(String cluster, String namespace, String defaultNamespace, String authUser,
+                                             String clusterType, UsersSearch search, UsersPageRequest page) {
+        String sql = "SELECT b.id, b.user_id, b.user_auth_id, b.service_account_name, b.namespace, b.user_type, b.role_set_code, b.created " +
+                activeUsersFrom(namespace, search) + keycloakCondition("b") + keysetCondition(page, "b.created", "b.id") +
+                "ORDER BY b.created DESC, b.id DESC";
+
+        return createPageQuery(sql, null, activeUsersParams(cluster, namespace, defaultNamespace, authUser, clusterType, search), page)
+                .getResultList();
+    }
+
+
+    @Override
+    public long countActiveUsers(String cluster, String namespace, String defaultNamespace, String authUser,
+                                 String clusterType, UsersSearch search) {
+        return count("SELECT COUNT(*) " + activeUsersFrom(namespace, search) + keycloakCondition("b"),
+                activeUsersParams(cluster, namespace, defaultNamespace, authUser, clusterType, search));
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getActiveUsersMappingList(String cluster, String namespace, String defaultNamespace, String authUser,
+                                                    String clusterType, List<String> userAuthIds) {
+        Map<String, Object> params = activeUsersMappingParams(cluster, namespace, defaultNamespace, authUser, clusterType);
+        params.put("userAuthIds", userAuthIds);
+        return createMappingQuery(activeUsersMappingSql(namespace, "a.user_auth_id IN (:userAuthIds)"), params).getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getActiveUsersMappingList(String cluster, String namespace, String defaultNamespace, String authUser,
+                                                    String clusterType, UsersSearch search) {
+        Map<String, Object> params = activeUsersMappingParams(cluster, namespace, defaultNamespace, authUser, clusterType);
+        search.bind(params);
+        return createQuery(activeUsersMappingSql(namespace, search.condition("a.user_id") + " " + keycloakCondition("b")), null, params).getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Users> getInactiveUsersListPage(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                                String authUser, UsersSearch search, UsersPageRequest page) {
+        String sql = "SELECT a.* " + inactiveUsersFrom(search) + keycloakCondition("a") + keysetCondition(page, "a.created", "a.id") +
+                "ORDER BY a.created DESC, a.id DESC";
+
+        return createPageQuery(sql, Users.class, inactiveUsersParams(clusterType, cluster, defaultNamespace, authClusterAdmin, authUser, search), page)
+                .getResultList();
+    }
+
+
+    @Override
+    public long countInactiveUsersList(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                       String authUser, UsersSearch search) {
+        return count("SELECT COUNT(*) " + inactiveUsersFrom(search) + keycloakCondition("a"),
+                inactiveUsersParams(clusterType, cluster, defaultNamespace, authClusterAdmin, authUser, search));
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> getClusterAdminList(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                              String authUser, UsersSearch search) {
+        String sql = "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created " +
+                clusterAdminFrom(search) + keycloakCondition("a") + "ORDER BY b.created DESC";
+
+        return createQuery(sql, null, clusterAdminParams(cluster, authClusterAdmin, clusterType, defaultNamespace, authUser, search)).getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Users> getInactiveUsersList(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                            String authUser, UsersSearch search) {
+        String sql = "SELECT a.* " + inactiveUsersFrom(search) + keycloakCondition("a");
+
+        return createQuery(sql, Users.class, inactiveUsersParams(clusterType, cluster, defaultNamespace, authClusterAdmin, authUser, search)).getResultList();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Users> getUsersPageByCluster(String clusterId, UsersPageRequest page) {
+        String sql = "SELECT a.* FROM cp_users a WHERE a.cluster_id = :clusterId " + keycloakCondition("a") +
+                keysetCondition(page, "a.created", "a.id") + "ORDER BY a.created DESC, a.id DESC";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("clusterId", clusterId);
+        return createPageQuery(sql, Users.class, params, page).getResultList();
+    }
+
+
+    @Override
+    public long countUsersByCluster(String clusterId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("clusterId", clusterId);
+        return count("SELECT COUNT(*) FROM cp_users a WHERE a.cluster_id = :clusterId " + keycloakCondition("a"), params);
+    }
+
+
+    @Override
+    public void insertUsersBatch(List<Users> usersList) {
+        String now = now();
+        jdbcTemplate.batchUpdate("INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, " +
+                        "service_account_name, created, last_modified) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", usersList, BATCH_SIZE,
+                (ps, users) -> {
+                    ps.setString(1, users.getClusterId());
+                    ps.setString(2, users.getUserId());
+                    ps.setString(3, users.getUserAuthId());
+                    ps.setString(4, users.getCpNamespace());
+                    ps.setString(5, users.getUserType());
+                    ps.setString(6, users.getRoleSetCode());
+                    ps.setString(7, users.getServiceAccountName());
+                    ps.setString(8, now);
+                    ps.setString(9, now);
+                });
+    }
+
+
+    @Override
+    public void updateUsersBatch(List<Users> usersList) {
+        String now = now();
+        jdbcTemplate.batchUpdate("UPDATE cp_users SET user_id = ?, user_type = ?, role_set_code = ?, service_account_name = ?, last_modified = ? " +
+                        "WHERE id = ?", usersList, BATCH_SIZE,
+                (ps, users) -> {
+                    ps.setString(1, users.getUserId());
+                    ps.setString(2, users.getUserType());
+                    ps.setString(3, users.getRoleSetCode());
+                    ps.setString(4, users.getServiceAccountName());
+                    ps.setString(5, now);
+                    ps.setLong(6, users.getId());
+                });
+    }
+
+
+    @Override
+    public void deleteUsersBatch(List<Long> ids) {
+        jdbcTemplate.batchUpdate("DELETE FROM cp_users WHERE id = ?", ids, BATCH_SIZE, (ps, id) -> ps.setLong(1, id));
+    }
+
+
+    private static String now() {
+        return LocalDateTime.now(ZoneId.of(Constants.STRING_TIME_ZONE_ID)).format(DateTimeFormatter.ofPattern(Constants.STRING_DATE_TYPE));
+    }
+
+    private String usersListFrom(boolean useProjection) {
+        return useProjection ? USERS_LIST_PROJECTION_FROM : USERS_LIST_FROM;
+    }
+
+    private Map<String, Object> usersListParams(String namespace, String defaultNamespace, boolean useProjection) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("namespace", namespace);
+        if (!useProjection) {
+            params.put("defaultNamespace", defaultNamespace);
+        }
+        return params;
+    }
+
+    private String clusterAdminFrom(UsersSearch search) {
+        return String.format(CLUSTER_ADMIN_FROM, search.condition("a.user_id"));
+    }
+
+    private String activeUsersFrom(String namespace, UsersSearch search) {
+        return String.format(ACTIVE_USERS_FROM, search.condition("a.user_id"), (namespace == null) ? "" : "AND a.namespace = :namespace");
+    }
+
+    private String inactiveUsersFrom(UsersSearch search) {
+        return String.format(INACTIVE_USERS_FROM, search.condition("a.user_id"));
+    }
+
+    /**
+     * 활성화 사용자 네임스페이스 맵핑 조회 SQL (사용자 생성일 역순, 사용자 내 id 순)
+     */
+    private String activeUsersMappingSql(String namespace, String userCondition) {
+        return "SELECT a.id, a.user_id, a.user_auth_id, a.service_account_name, a.namespace, a.user_type, a.role_set_code, b.created " +
+                "FROM cp_users a, cp_users b, cp_clusters d " +
+                "WHERE a.cluster_id = :cluster AND a.namespace != :defaultNamespace AND a.user_type = :authUser " +
+                (namespace == null ? "" : "AND a.namespace = :namespace ") +
+                "AND " + userCondition + " " +
+                "AND b.user_auth_id = a.user_auth_id AND b.cluster_id = d.cluster_id AND d.cluster_type = :clusterType " +
+                "AND b.namespace = :defaultNamespace AND b.user_type = :authUser " +
+                "ORDER BY b.created DESC, b.id DESC, a.id";
+    }
+
+    private Map<String, Object> activeUsersMappingParams(String cluster, String namespace, String defaultNamespace, String authUser,
+                                                         String clusterType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cluster", cluster);
+        params.put("defaultNamespace", defaultNamespace);
+        params.put("authUser", authUser);
+        params.put("clusterType", clusterType);
+        if (namespace != null) {
+            params.put("namespace", namespace);
+        }
+        return params;
+    }
+
+    private Query createMappingQuery(String sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    private Map<String, Object> clusterAdminParams(String cluster, String authClusterAdmin, String clusterType, String defaultNamespace,
+                                                   String authUser, UsersSearch search) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cluster", cluster);
+        params.put("authClusterAdmin", authClusterAdmin);
+        params.put("clusterType", clusterType);
+        params.put("defaultNamespace", defaultNamespace);
+        params.put("authUser", authUser);
+        search.bind(params);
+        return params;
+    }
+
+    private Map<String, Object> activeUsersParams(String cluster, String namespace, String defaultNamespace, String authUser,
+                                                  String clusterType, UsersSearch search) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cluster", cluster);
+        params.put("defaultNamespace", defaultNamespace);
+        params.put("authUser", authUser);
+        params.put("clusterType", clusterType);
+        search.bind(params);
+        if (namespace != null) {
+            params.put("namespace", namespace);
+        }
+        return params;
+    }
+
+    private Map<String, Object> inactiveUsersParams(String clusterType, String cluster, String defaultNamespace, String authClusterAdmin,
+                                                    String authUser, UsersSearch search) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("clusterType", clusterType);
+        params.put("cluster", cluster);
+        params.put("defaultNamespace", defaultNamespace);
+        params.put("authClusterAdmin", authClusterAdmin);
+        params.put("authUser", authUser);
+        search.bind(params);
+        return params;
+    }
+
+
+    /**
+     * keyset 페이지 쿼리 생성 (Create keyset page query)
+     * (다음 페이지 존재 여부 확인을 위해 limit + 1 건 조회)
+     */
+    private Query createPageQuery(String sql, Class<?> resultClass, Map<String, Object> params, UsersPageRequest page) {
+        Query query = createQuery(sql, resultClass, params);
+        if (page.hasCursor()) {
+            query.setParameter("afterCreated", page.getAfterCreated());
+            query.setParameter("afterId", page.getAfterId());
+        }
+        return query.setMaxResults(page.getLimit() + 1);
+    }
+
+    private Query createQuery(String sql, Class<?> resultClass, Map<String, Object> params) {
+        Query query = (resultClass == null) ? entityManager.createNativeQuery(sql) : entityManager.createNativeQuery(sql, resultClass);
+        params.forEach(query::setParameter);
+        if (isKeycloakJoinAvailable()) {
+            query.setParameter("realmId", keycloakCpRealmId);
+        }
+        return query;
+    }
+
+    private long count(String sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        if (isKeycloakJoinAvailable()) {
+            query.setParameter("realmId", keycloakCpRealmId);
+        }
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * keyset 조건 (Keyset condition, (created, id) < (afterCreated, afterId))
+     */
+    private String keysetCondition(UsersPageRequest page, String createdColumn, String idColumn) {
+        if (!page.hasCursor()) {
+            return "";
+        }
+        return "AND (" + createdColumn + " < :afterCreated OR (" + createdColumn + " = :afterCreated AND " + idColumn + " < :afterId)) ";
+    }
+
+    /**
+     * Keycloak 사용자 존재 조건 (조인 조회 사용 가능한 경우)
+     */
+    private String keycloakCondition(String alias) {
+        return isKeycloakJoinAvailable() ? "AND " + keycloakUserExists(alias) + " " : "";
+    }
+
+
+    /**
+     * Keycloak 사용자 존재 조건 (Keycloak user exists condition)
+     * (keycloak username <-> cp user_id, keycloak id <-> cp user_auth_id)
+     */
+    private String keycloakUserExists(String alias) {
+        return "EXISTS (SELECT 1 FROM `" + keycloakSchema + "`.USER_ENTITY k " +
+                "WHERE k.realm_id = :realmId AND k.id = " + alias + ".user_auth_id AND k.username = " + alias + ".user_id)";
+    }
+
+
+    /**
+     * Keycloak 스키마 조회 가능 여부 확인 (Probe keycloak schema)
+     */
+    private boolean probeKeycloakSchema() {
+        if (!pushDownJoinEnabled) {
+            return false;
+        }
+
+        if (keycloakSchema == null || !SCHEMA_NAME_PATTERN.matcher(keycloakSchema).matches()) {
+            LOGGER.warn("Keycloak join query disabled :: invalid keycloak schema name");
+            return false;
+        }
+
+        try {
+            // JPA 트랜잭션에 영향을 주지 않도록 JDBC 로 확인
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `" + keycloakSchema + "`.USER_ENTITY WHERE 1 = 0", Long.class);
+            LOGGER.info("Keycloak join query enabled :: schema {}", keycloakSchema);
+            return true;
+        } catch (Exception e) {
+            LOGGER.warn("Keycloak join query disabled, falling back to in-memory filter :: {}", e.getMessage());
+            return false;
+        }
+    }
+}
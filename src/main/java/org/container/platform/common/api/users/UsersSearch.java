@@ -0,0 +1,88 @@
+package org.container.platform.common.api.users;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * User ID 검색 조건 Model 클래스
+ * (검색 인덱스로 일치하는 user_id 후보를 찾은 경우 user_id IN 조건, 그 외 user_id LIKE 조건)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Getter
+public class UsersSearch {
+
+    private final String searchParam;
+    private final Collection<String> userIds;
+
+    private UsersSearch(String searchParam, Collection<String> userIds) {
+        this.searchParam = searchParam;
+        this.userIds = userIds;
+    }
+
+
+    /**
+     * LIKE 검색 조건 생성 (Create LIKE search)
+     *
+     * @param searchParam the search param
+     * @return the users search
+     */
+    public static UsersSearch like(String searchParam) {
+        return new UsersSearch(searchParam, null);
+    }
+
+
+    /**
+     * user_id 후보 검색 조건 생성 (Create search by user id candidates)
+     *
+     * @param searchParam the search param
+     * @param userIds     the user ids containing search param
+     * @return the users search
+     */
+    public static UsersSearch userIds(String searchParam, Collection<String> userIds) {
+        return new UsersSearch(searchParam, userIds);
+    }
+
+
+    /**
+     * 일치하는 user_id 후보가 없는지 여부 (조회 없이 빈 목록)
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return userIds != null && userIds.isEmpty();
+    }
+
+    public boolean isIndexed() {
+        return userIds != null;
+    }
+
+
+    /**
+     * 검색 SQL 조건 (Search condition)
+     *
+     * @param column the user_id column
+     * @return the sql condition
+     */
+    public String condition(String column) {
+        return isIndexed() ? column + " IN (:userIds)" : column + " LIKE CONCAT('%', :searchParam, '%')";
+    }
+
+
+    /**
+     * 검색 파라미터 설정 (Bind search parameters)
+     *
+     * @param params the query params
+     */
+    public void bind(Map<String, Object> params) {
+        if (isIndexed()) {
+            params.put("userIds", userIds);
+        } else {
+            params.put("searchParam", searchParam);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package org.container.platform.common.api.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.container.platform.common.api.common.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User ID 검색 인덱스 클래스
+ * (cp_users 의 user_id 목록을 3-gram 역색인으로 메모리에 유지하고 user_id 부분 문자열 검색 후보를 조회)
+ * <p>
+ * 검색어에 해당하는 user_id 후보를 찾아 목록 조회의 user_id LIKE '%검색어%' 조건을 user_id IN 조건으로 대체한다.
+ * 후보가 없거나 maxCandidates 를 넘는 경우, 검색어에 LIKE 와일드카드가 있는 경우 LIKE 조건을 그대로 사용한다.
+ * (다른 인스턴스의 변경, 커밋 순서가 id 순서와 다른 추가는 갱신 전까지 인덱스에 없을 수 있으므로 후보 없음을 조회 결과 없음으로 판단하지 않음)
+ * 갱신 시 마지막으로 확인한 last_modified 에서 changeLookback 이전 이후 추가, 변경된 user_id 를 조회하여 반영하고,
+ * 이 인스턴스의 사용자 변경은 UsersChangedEvent 로 즉시 반영한다.
+ * 인덱스에 남은 삭제, 변경 전 user_id 는 SQL 조건에서 걸러지며, fullReloadInterval 주기의 전체 재조회로 정리된다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class UsersSearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersSearchIndex.class);
+
+    private static final String METRIC_PREFIX = "users.search.index";
+    private static final String REFRESH_FULL = "full";
+    private static final String REFRESH_INCREMENTAL = "incremental";
+    private static final String RESULT_INDEXED = "indexed";
+    private static final String RESULT_EMPTY = "empty";
+    private static final String RESULT_FALLBACK = "fallback";
+
+    private static final int GRAM_LENGTH = 3;
+    private static final DateTimeFormatter LAST_MODIFIED_FORMAT = DateTimeFormatter.ofPattern(Constants.STRING_DATE_TYPE);
+
+    private final UsersRepository usersRepository;
+    private final long maxStalenessMillis;
+    private final long fullReloadIntervalMillis;
+    private final int maxCandidates;
+    private final long changeLookbackMillis;
+
+    private final Map<String, Counter> lookupCounters = new HashMap<>();
+    private final Map<String, Timer> refreshTimers = new HashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Instantiates a new Users search index
+     *
+     * @param usersRepository          the users repository
+     * @param meterRegistry            the meter registry
+     * @param maxStalenessMillis       the max staleness millis
+     * @param fullReloadIntervalMillis the full reload interval millis
+     * @param maxCandidates            the max candidates
+     * @param changeLookbackMillis     the change lookback millis
+     */
+    @Autowired
+    public UsersSearchIndex(UsersRepository usersRepository, MeterRegistry meterRegistry,
+                            @Value("${cp.usersSearch.maxStaleness:60000}") long maxStalenessMillis,
+                            @Value("${cp.usersSearch.fullReloadInterval:600000}") long fullReloadIntervalMillis,
+                            @Value("${cp.usersSearch.maxCandidates:1000}") int maxCandidates,
+                            @Value("${cp.usersSearch.changeLookback:60000}") long changeLookbackMillis) {
+        this.usersRepository = usersRepository;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.fullReloadIntervalMillis = fullReloadIntervalMillis;
+        this.maxCandidates = maxCandidates;
+        this.changeLookbackMillis = changeLookbackMillis;
+
+        for (String result : Arrays.asList(RESULT_INDEXED, RESULT_EMPTY, RESULT_FALLBACK)) {
+            lookupCounters.put(result, Counter.builder(METRIC_PREFIX + ".lookups").tag("result", result).register(meterRegistry));
+        }
+        for (String type : Arrays.asList(REFRESH_FULL, REFRESH_INCREMENTAL)) {
+            refreshTimers.put(type, Timer.builder(METRIC_PREFIX + ".refresh").tag("type", type).register(meterRegistry));
+        }
+        Gauge.builder(METRIC_PREFIX + ".size", this, UsersSearchIndex::getSize).register(meterRegistry);
+    }
+
+
+    /**
+     * user_id 검색 조건 조회 (Get user id search)
+     *
+     * @param searchParam the search param
+     * @return the users search
+     */
+    public UsersSearch search(String searchParam) {
+        if (searchParam == null || searchParam.isEmpty() || hasWildcard(searchParam)) {
+            return fallback(searchParam);
+        }
+
+        Snapshot current;
+        try {
+            current = getSnapshot();
+        } catch (Exception e) {
+            LOGGER.error("Users search index unavailable :: {}", e.getMessage());
+            return fallback(searchParam);
+        }
+
+        String term = searchParam.toLowerCase(Locale.ROOT);
+        List<String> userIds = new ArrayList<>();
+        for (String userId : current.grams.candidates(term)) {
+            if (userId.toLowerCase(Locale.ROOT).contains(term)) {
+                if (userIds.size() == maxCandidates) {
+                    return fallback(searchParam);
+                }
+                userIds.add(userId);
+            }
+        }
+
+        if (userIds.isEmpty()) {
+            // 인덱스 누락 가능성이 있으므로 LIKE 조건으로 조회
+            lookupCounters.get(RESULT_EMPTY).increment();
+            return UsersSearch.like(searchParam);
+        }
+
+        lookupCounters.get(RESULT_INDEXED).increment();
+        return UsersSearch.userIds(searchParam, userIds);
+    }
+
+
+    /**
+     * 사용자 변경 시 user_id 추가 (Add user ids on users changed)
+     * (트랜잭션 커밋 이후 실행, 트랜잭션 외부 호출 시 즉시 실행)
+     *
+     * @param event the users changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        Snapshot current = this.snapshot;
+        if (current != null) {
+            event.getUserIds().forEach(current.grams::add);
+        }
+    }
+
+
+    /**
+     * 인덱스 주기 갱신 (Refresh index periodically)
+     */
+    @Scheduled(fixedDelayString = "${cp.usersSearch.refreshInterval:10000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOGGER.error("Users search index refresh failed :: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 인덱스 갱신 (Refresh index)
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Snapshot current = this.snapshot;
+            long now = System.currentTimeMillis();
+
+            if (current == null || now - current.fullReloadedAt >= fullReloadIntervalMillis) {
+                fullReload();
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            String lastModified = usersRepository.getMaxUsersLastModified();
+            // 커밋 지연, 인스턴스 간 시각 차이로 늦게 보이는 변경을 위해 changeLookback 구간을 다시 조회
+            String since = lookback(current.lastModified);
+            if (since == null) {
+                usersRepository.findAllUserIds().forEach(current.grams::add);
+            } else {
+                usersRepository.findUserIdsModifiedSince(since).forEach(current.grams::add);
+            }
+            this.snapshot = new Snapshot(current.grams, latest(lastModified, current.lastModified), current.fullReloadedAt, now);
+            refreshTimers.get(REFRESH_INCREMENTAL).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+
+    /**
+     * 인덱스 전체 재조회 (Reload whole index)
+     */
+    private void fullReload() {
+        long startTime = System.nanoTime();
+        // 전체 조회 중 변경된 사용자는 다음 갱신에서 다시 조회하도록 조회 전 last_modified 기록
+        String lastModified = usersRepository.getMaxUsersLastModified();
+        Grams grams = new Grams();
+        usersRepository.findAllUserIds().forEach(grams::add);
+
+        long now = System.currentTimeMillis();
+        this.snapshot = new Snapshot(grams, lastModified, now, now);
+        refreshTimers.get(REFRESH_FULL).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        LOGGER.info("Users search index reloaded :: {} user ids", grams.size());
+    }
+
+
+    /**
+     * 인덱스 스냅샷 조회 (Get index snapshot)
+     * (최초 조회 또는 maxStaleness 초과 시 동기 갱신)
+     *
+     * @return the snapshot
+     */
+    private Snapshot getSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null || System.currentTimeMillis() - current.refreshedAt > maxStalenessMillis) {
+            refresh();
+            current = this.snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * 변경 조회 기준 last_modified (changeLookback 이전, 확인한 last_modified 가 없거나 형식이 다른 경우 null)
+     */
+    private String lookback(String lastModified) {
+        if (lastModified == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(lastModified, LAST_MODIFIED_FORMAT).minus(changeLookbackMillis, ChronoUnit.MILLIS).format(LAST_MODIFIED_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String latest(String a, String b) {
+        return (a == null || (b != null && b.compareTo(a) > 0)) ? b : a;
+    }
+
+    private UsersSearch fallback(String searchParam) {
+        lookupCounters.get(RESULT_FALLBACK).increment();
+        return UsersSearch.like(searchParam);
+    }
+
+    /**
+     * LIKE 와일드카드 포함 여부 (검색어 그대로 LIKE 조건에 사용되므로 '%', '_' 는 와일드카드로 동작)
+     */
+    private static boolean hasWildcard(String searchParam) {
+        return searchParam.indexOf('%') >= 0 || searchParam.indexOf('_') >= 0 || searchParam.indexOf('\\') >= 0;
+    }
+
+    /**
+     * 인덱스 user_id 수 조회 (Get index size)
+     *
+     * @return the size
+     */
+    public double getSize() {
+        Snapshot current = this.snapshot;
+        return (current == null) ? Double.NaN : current.grams.size();
+    }
+
+
+    /**
+     * 인덱스 스냅샷
+     */
+    private static final class Snapshot {
+        private final Grams grams;
+        private final String lastModified;
+        private final long fullReloadedAt;
+        private final long refreshedAt;
+
+        private Snapshot(Grams grams, String lastModified, long fullReloadedAt, long refreshedAt) {
+            this.grams = grams;
+            this.lastModified = lastModified;
+            this.fullReloadedAt = fullReloadedAt;
+            this.refreshedAt = refreshedAt;
+        }
+    }
+
+
+    /**
+     * user_id 3-gram 역색인 (소문자 기준, 추가만 가능)
+     */
+    private static final class Grams {
+        private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+        private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+
+        private void add(String userId) {
+            if (userId == null || !userIds.add(userId)) {
+                return;
+            }
+
+            String lower = userId.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM_LENGTH <= lower.length(); i++) {
+                postings.computeIfAbsent(lower.substring(i, i + GRAM_LENGTH), k -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+
+        /**
+         * 검색어를 포함할 수 있는 user_id 후보 (검색어 3-gram 중 가장 작은 역색인 목록, 3자 미만인 경우 전체)
+         */
+        private Collection<String> candidates(String term) {
+            if (term.length() < GRAM_LENGTH) {
+                return userIds;
+            }
+
+            Collection<String> smallest = null;
+            for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+                Set<String> posting = postings.get(term.substring(i, i + GRAM_LENGTH));
+                if (posting == null) {
+                    return Collections.emptySet();
+                }
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+            return smallest;
+        }
+
+        private int size() {
+            return userIds.size();
+        }
+    }
+}
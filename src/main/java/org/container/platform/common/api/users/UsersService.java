@@ -6,19 +6,30 @@ import org.container.platform.common.api.clusters.ClustersService;
 import org.container.platform.common.api.common.*;
 import org.container.platform.common.api.exception.ResultStatusException;
 import org.container.platform.keycloak.users.KeycloakUsers;
+import org.container.platform.keycloak.users.KeycloakUsersFetcher;
+import org.container.platform.keycloak.users.KeycloakUsersIndex;
+import org.container.platform.keycloak.users.KeycloakUsersMembership;
 import org.container.platform.keycloak.users.KeycloakUsersService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import jakarta.transaction.Transactional;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * User Service 클래스
@@ -47,25 +58,55 @@ public class UsersService {
     private final UsersRepository userRepository;
     private final PropertyService propertyService;
     private final KeycloakUsersService keycloakUsersService;
+    private final KeycloakUsersIndex keycloakUsersIndex;
+    private final KeycloakUsersFetcher keycloakUsersFetcher;
     private final ClustersService clustersService;
+    private final UsersCountCache usersCountCache;
+    private final UsersProjection usersProjection;
+    private final UsersAccessCache usersAccessCache;
+    private final UsersSearchIndex usersSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StreamingListWriter streamingListWriter;
 
     /**
      * Instantiates a new User service
      *
-     * @param passwordEncoder the password encoder
-     * @param commonService   the common service
-     * @param userRepository  the user repository
-     * @param propertyService the property service
+     * @param passwordEncoder      the password encoder
+     * @param commonService        the common service
+     * @param userRepository       the user repository
+     * @param propertyService      the property service
+     * @param keycloakUsersService the keycloak users service
+     * @param keycloakUsersIndex   the keycloak users index
+     * @param keycloakUsersFetcher the keycloak users fetcher
+     * @param clustersService      the clusters service
+     * @param usersCountCache      the users count cache
+     * @param usersProjection      the users projection
+     * @param usersAccessCache     the users access cache
+     * @param usersSearchIndex     the users search index
+     * @param eventPublisher       the event publisher
+     * @param streamingListWriter  the streaming list writer
      */
     @Autowired
     public UsersService(PasswordEncoder passwordEncoder, CommonService commonService, UsersRepository userRepository, PropertyService propertyService,
-                        KeycloakUsersService keycloakUsersService, ClustersService clustersService) {
+                        KeycloakUsersService keycloakUsersService, KeycloakUsersIndex keycloakUsersIndex,
+                        KeycloakUsersFetcher keycloakUsersFetcher, ClustersService clustersService,
+                        UsersCountCache usersCountCache, UsersProjection usersProjection, UsersAccessCache usersAccessCache,
+                        UsersSearchIndex usersSearchIndex, ApplicationEventPublisher eventPublisher,
+                        StreamingListWriter streamingListWriter) {
         this.passwordEncoder = passwordEncoder;
         this.commonService = commonService;
         this.userRepository = userRepository;
         this.propertyService = propertyService;
         this.keycloakUsersService = keycloakUsersService;
+        this.keycloakUsersIndex = keycloakUsersIndex;
+        this.keycloakUsersFetcher = keycloakUsersFetcher;
         this.clustersService = clustersService;
+        this.usersCountCache = usersCountCache;
+        this.usersProjection = usersProjection;
+        this.usersAccessCache = usersAccessCache;
+        this.usersSearchIndex = usersSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.streamingListWriter = streamingListWriter;
     }
 
 
@@ -81,6 +122,7 @@ public class UsersService {
 
         try {
             createdUsers = userRepository.save(users);
+            publishUsersChanged(UsersChangedEvent.of(Collections.singletonList(createdUsers)));
         } catch (Exception e) {
             createdUsers.setResultMessage(e.getMessage());
             return (Users) commonService.setResultModel(createdUsers, Constants.RESULT_STATUS_FAIL);
@@ -99,7 +141,15 @@ public class UsersService {
     @Transactional
     public Users modifyUsers(Users users) {
         try {
+            // 조회한 영속 엔티티에는 save 시 변경 값이 병합되므로 변경 전 키를 별도 객체에 보관
+            Users previousKeys = new Users();
+            userRepository.findById(users.getId()).ifPresent(x -> {
+                previousKeys.setUserId(x.getUserId());
+                previousKeys.setUserAuthId(x.getUserAuthId());
+            });
+
             users = userRepository.save(users);
+            publishUsersChanged(UsersChangedEvent.of(Arrays.asList(previousKeys, users)));
         } catch (Exception e) {
             users.setResultMessage(e.getMessage());
             return (Users) commonService.setResultModel(users, Constants.RESULT_STATUS_FAIL);
@@ -122,13 +172,11 @@ public class UsersService {
         UsersList usersList = new UsersList();
 
         if (searchName != null && !searchName.trim().isEmpty()) {
-            usersList.setItems(userRepository.findAllByCpNamespaceAndUserIdContainingIgnoreCase(namespace, searchName, userSortDirection(orderBy, order)));
+            usersList.setItems(fetchKeycloakUsers(() -> userRepository.findAllByCpNamespaceAndUserIdContainingIgnoreCase(namespace, searchName, userSortDirection(orderBy, order))));
         } else {
-            usersList.setItems(userRepository.findAllByCpNamespace(namespace, userSortDirection(orderBy, order)));
+            usersList.setItems(fetchKeycloakUsers(() -> userRepository.findAllByCpNamespace(namespace, userSortDirection(orderBy, order))));
         }
 
-        usersList = compareKeycloakUser(usersList);
-
         return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
     }
 
@@ -238,16 +286,11 @@ public class UsersService {
         UsersList usersList = new UsersList();
 
         try {
-            List<Object[]> findAllUserList = userRepository.findAllUsers(namespace, propertyService.getDefaultNamespace());
-            List<Users> resultLIst = new ArrayList<>();
-
-            if (findAllUserList != null && !findAllUserList.isEmpty()) {
-                resultLIst = findAllUserList.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList());
-                usersList.setItems(resultLIst);
-
-                // keycloak user 비교
-                usersList = compareKeycloakUser(usersList);
-            }
+            // 사용자 프로젝션 사용 가능한 경우 프로젝션 기반 조회
+            // (keycloak user 비교)
+            usersList.setItems(fetchKeycloakUsers(() -> toUsers(usersProjection.isAvailable()
+                    ? userRepository.findAllUsersByProjection(namespace)
+                    : userRepository.findAllUsers(namespace, propertyService.getDefaultNamespace()))));
 
         } catch (Exception e) {
             usersList.setResultMessage(e.getMessage());
@@ -259,6 +302,27 @@ public class UsersService {
     }
 
 
+    /**
+     * 전체 Users 목록 페이지 조회(Get All Users list page)
+     *
+     * @param namespace the namespace
+     * @param page      the page request
+     * @return the users list
+     */
+    public UsersList getUsersList(String namespace, UsersPageRequest page) {
+        if (!page.isPaged()) {
+            return getUsersList(namespace);
+        }
+
+        List<Users> items = fetchUsersPage(page, x -> toUsers(userRepository.getUsersListPage(namespace, propertyService.getDefaultNamespace(), usersProjection.isAvailable(), x)));
+
+        UsersList usersList = new UsersList(items);
+        usersList.setItemMetaData(toPageMetaData(items, page, "users:" + namespace,
+                () -> userRepository.countUsersList(namespace, propertyService.getDefaultNamespace(), usersProjection.isAvailable())));
+        return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
     /**
      * Namespace 와 UserId로 Users 단 건 상세 조회(Get Users namespace userId detail)
      *
@@ -269,8 +333,7 @@ public class UsersService {
      */
     public Users getUsers(String cluster, String namespace, String userAuthId) {
 
-        UsersList usersList = new UsersList(userRepository.findAllByClusterIdAndCpNamespaceAndUserAuthId(cluster, namespace, userAuthId));
-        usersList = compareKeycloakUser(usersList);
+        UsersList usersList = new UsersList(fetchKeycloakUsers(() -> userRepository.findAllByClusterIdAndCpNamespaceAndUserAuthId(cluster, namespace, userAuthId)));
 
         if (usersList.getItems().size() < 1) {
             return Constants.USER_NOT_FOUND;
@@ -287,7 +350,9 @@ public class UsersService {
      */
     @Transactional
     public ResultStatus deleteUsers(Long id) {
+        Optional<Users> deletedUsers = userRepository.findById(id);
         userRepository.deleteById(id);
+        deletedUsers.ifPresent(x -> publishUsersChanged(UsersChangedEvent.of(Collections.singletonList(x))));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.", 200, "User number " + id + "is deleted success.");
     }
 
@@ -301,7 +366,9 @@ public class UsersService {
      */
     @Transactional
     public ResultStatus deleteUsersByOne(String namespace, String userId) {
+        List<Users> deletedUsers = userRepository.findAllByCpNamespaceAndUserId(namespace, userId);
         userRepository.deleteByCpNamespaceAndUserId(namespace, userId);
+        publishUsersChanged(UsersChangedEvent.of(deletedUsers));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.", 200, "User" + userId + "is deleted success in " + namespace + " namespace.");
     }
 
@@ -326,10 +393,8 @@ public class UsersService {
      * @return the users list
      */
     public UsersList getNamespaceListByUserId(String cluster, String userId) {
-        List<Users> users = userRepository.findAllByClusterNameAndUserId(cluster, userId, propertyService.getDefaultNamespace());
         UsersList usersList = new UsersList();
-        usersList.setItems(users);
-        usersList = compareKeycloakUser(usersList);
+        usersList.setItems(fetchKeycloakUsers(() -> userRepository.findAllByClusterNameAndUserId(cluster, userId, propertyService.getDefaultNamespace())));
         return usersList;
     }
 
@@ -355,7 +420,10 @@ public class UsersService {
      * @return the user detail
      */
     public UsersList getUserListOnlyTempNamesapce(String cluster, String searchParam) {
-        List<Users> tempUserList = userRepository.findByOnlyTempNamespaceUser(defaultNamespace, searchParam, Constants.AUTH_CLUSTER_ADMIN);
+        UsersSearch search = usersSearchIndex.search(searchParam);
+        List<Users> tempUserList = search.isEmpty() ? new ArrayList<>()
+                : search.isIndexed() ? userRepository.findByOnlyTempNamespaceUserIn(defaultNamespace, search.getUserIds(), Constants.AUTH_CLUSTER_ADMIN)
+                : userRepository.findByOnlyTempNamespaceUser(defaultNamespace, searchParam, Constants.AUTH_CLUSTER_ADMIN);
 
         UsersList usersList = new UsersList();
         usersList.setItems(tempUserList);
@@ -368,31 +436,29 @@ public class UsersService {
 
     /**
      * Super Admin(시스템 관리자) 등록여부 조회(Check Super Admin Registration)
+     * (SUPER-ADMIN 가입 잠금 후 SUPER-ADMIN 권한 및 동일 USER-ID 정보를 행 잠금 조회하여 한 번에 삭제, 동시 요청은 커밋 시까지 대기)
      *
      * @return the resultStatus
      */
+    @Transactional
     public UsersList getSuperAdminRegisterCheck(String userId, String userAuthId) {
 
         // 1. 해당 사용자 KEYCLOAK 계정 등록 여부 확인
         checkKeycloakUser(userId, userAuthId);
 
-        // 2. CP_USERS 에 'SUPER-ADMIN' 권한 등록 여부 확인
+        // 2. CP_USERS 에 'SUPER-ADMIN' 권한 및 동일한 USER-ID 정보 행 잠금 조회
+        userRepository.lockSignUp(Constants.AUTH_SUPER_ADMIN);
+        List<Users> lockedUsers = userRepository.findAllForSuperAdminSignUp(userId, Constants.AUTH_SUPER_ADMIN);
+
         // 2-1. KEYCLOAK 계정과 비교 : KEYCLOAK 내 삭제된 계정 제외 처리
-        List<Users> superAdmin = userRepository.findAllByUserType(Constants.AUTH_SUPER_ADMIN);
-        UsersList superAdminList = new UsersList(superAdmin);
-        superAdminList = compareKeycloakUser(superAdminList);
-        if (superAdminList.getItems().size() > 0) {
-            // 'SUPER-ADMIN' 권한 사용자 등록된 경우 메세지 반환 처리
-            throw new ResultStatusException(Constants.SUPER_ADMIN_ALREADY_REGISTERED_MESSAGE);
-        }
+        checkSuperAdminNotRegistered(lockedUsers);
 
         // 3. 현재 'SUPER-ADMIN' 권한 사용자 없음 & 신규 'SUPER-ADMIN' 사용자 생성 필요
         // 신규 사용자와 동일한 USER-ID로 등록되어있는 맵핑정보 조회(SA, RB, Vault token 삭제를 위한 리스트 조회)
-        List<Users> usersList = userRepository.getNonExistUserBySignUp(userId, Constants.AUTH_SUPER_ADMIN, Constants.AUTH_USER, defaultNamespace);
+        List<Users> usersList = lockedUsers.stream().filter(x -> isSignUpMapping(x, userId)).collect(Collectors.toList());
 
         //4. 신규 사용자 생성 전 SUPER-ADMIN 권한 삭제 & 동일한 USER-ID 정보 삭제
-        userRepository.deleteAllByUserType(Constants.AUTH_SUPER_ADMIN);
-        userRepository.deleteAllByUserId(userId);
+        deleteSignUpUsers(lockedUsers);
 
         return new UsersList(usersList);
     }
@@ -400,32 +466,91 @@ public class UsersService {
 
     /**
      * User 등록여부 조회(User Registration Check)
+     * (동일 USER-ID, USER-AUTH-ID 정보를 행 잠금 조회 후 한 번에 삭제, 동시 요청은 커밋 시까지 대기)
      *
      * @return the resultStatus
      */
+    @Transactional
     public UsersList getUserRegisterCheck(String userId, String userAuthId) {
 
         // 1. 해당 사용자 KEYCLOAK 계정 등록 여부 확인
         checkKeycloakUser(userId, userAuthId);
 
-        // 2. CP_USERS 에 사용자 DEFAULT 정보 유무 확인 ( HOST_CUSTER & DEFAULT_NAMESPACE & AUTH USER)
-        List<Users> users = userRepository.getUsersDefaultInfo(Constants.HOST_CLUSTER_TYPE, userAuthId, defaultNamespace, Constants.AUTH_USER);
-        if (users.size() > 0) {
-            // 사용자 등록된 경우 메세지 반환 처리
-            throw new ResultStatusException(Constants.USER_ALREADY_REGISTERED_MESSAGE);
-        }
+        // 2. CP_USERS 에 동일한 USER-ID, USER-AUTH-ID 정보 행 잠금 조회 후 사용자 DEFAULT 정보 유무 확인 ( HOST_CUSTER & DEFAULT_NAMESPACE & AUTH USER)
+        List<Users> lockedUsers = userRepository.findAllForSignUp(userId, userAuthId);
+        checkUserNotRegistered(lockedUsers, userAuthId);
 
         // 3. 해당 USER-AUTH-ID 로 등록된 계정 없음 & 신규 계정 생성 필요
         // 신규 사용자와 동일한 USER-ID로 등록되어있는 맵핑정보 조회(SA, RB, Vault token 삭제를 위한 리스트 조회)
-        List<Users> usersList = userRepository.getNonExistUserBySignUp(userId, Constants.AUTH_SUPER_ADMIN, Constants.AUTH_USER, defaultNamespace);
+        List<Users> usersList = lockedUsers.stream().filter(x -> isSignUpMapping(x, userId)).collect(Collectors.toList());
 
         //4. 신규 사용자 생성 전 동일한 USER-ID 정보 삭제
-        userRepository.deleteAllByUserId(userId);
+        deleteSignUpUsers(lockedUsers.stream().filter(x -> userId.equals(x.getUserId())).collect(Collectors.toList()));
 
         return new UsersList(usersList);
     }
 
 
+    /**
+     * 'SUPER-ADMIN' 권한 사용자 미등록 확인 (Check super admin not registered)
+     * (KEYCLOAK 내 삭제된 계정 제외)
+     *
+     * @param lockedUsers the locked users
+     */
+    private void checkSuperAdminNotRegistered(List<Users> lockedUsers) {
+        List<Users> superAdminList = lockedUsers.stream().filter(x -> Constants.AUTH_SUPER_ADMIN.equals(x.getUserType())).collect(Collectors.toList());
+        if (!keycloakUsersIndex.filter(superAdminList, Users::getUserId, Users::getUserAuthId).isEmpty()) {
+            // 'SUPER-ADMIN' 권한 사용자 등록된 경우 메세지 반환 처리
+            throw new ResultStatusException(Constants.SUPER_ADMIN_ALREADY_REGISTERED_MESSAGE);
+        }
+    }
+
+
+    /**
+     * 사용자 DEFAULT 정보 미등록 확인 (Check user default info not registered)
+     *
+     * @param lockedUsers the locked users
+     * @param userAuthId  the user auth id
+     */
+    private void checkUserNotRegistered(List<Users> lockedUsers, String userAuthId) {
+        String hostClusterId = clustersService.getHostClusters().getClusterId();
+        boolean registered = lockedUsers.stream().anyMatch(x -> userAuthId.equals(x.getUserAuthId()) && Objects.equals(hostClusterId, x.getClusterId())
+                && defaultNamespace.equals(x.getCpNamespace()) && Constants.AUTH_USER.equals(x.getUserType()));
+        if (registered) {
+            // 사용자 등록된 경우 메세지 반환 처리
+            throw new ResultStatusException(Constants.USER_ALREADY_REGISTERED_MESSAGE);
+        }
+    }
+
+
+    /**
+     * 가입 시 정리 대상 맵핑 정보 여부 (Whether users is a mapping to clean up on sign up)
+     * (동일한 USER-ID 의 SUPER-ADMIN 권한, temp-namespace 사용자 정보 제외)
+     *
+     * @param users  the users
+     * @param userId the user id
+     * @return the boolean
+     */
+    private boolean isSignUpMapping(Users users, String userId) {
+        return userId.equals(users.getUserId()) && !Constants.AUTH_SUPER_ADMIN.equals(users.getUserType())
+                && !(Constants.AUTH_USER.equals(users.getUserType()) && defaultNamespace.equals(users.getCpNamespace()));
+    }
+
+
+    /**
+     * 가입 전 기존 사용자 정보 삭제 (Delete users before sign up)
+     *
+     * @param deletedUsers the deleted users
+     */
+    private void deleteSignUpUsers(List<Users> deletedUsers) {
+        if (deletedUsers.isEmpty()) {
+            return;
+        }
+        userRepository.deleteAllInBatch(deletedUsers);
+        publishUsersChanged(UsersChangedEvent.of(deletedUsers));
+    }
+
+
     public void checkKeycloakUser(String userId, String userAuthId) {
         List<KeycloakUsers> keycloakUser = keycloakUsersService.getKeycloakUser(keycloakCpRealmId, userAuthId, userId);
         if (keycloakUser.size() < 1) {
@@ -442,19 +567,8 @@ public class UsersService {
      */
     public UsersList compareKeycloakUser(UsersList usersList) {
 
-        // keycloak 사용자 목록 조회
-        List<KeycloakUsers> keycloakUsersList = keycloakUsersService.getKeycloakUserListByRealm(keycloakCpRealmId);
-
-        // keycloak 사용자 UserName Map
-        List<String> keycloakUserNameList = keycloakUsersList.stream().map(KeycloakUsers::getUsername).collect(Collectors.toList());
-        // keycloak 사용자 UserID Map
-        List<String> keycloakUserIdList = keycloakUsersList.stream().map(KeycloakUsers::getId).collect(Collectors.toList());
-
-        //keycloak 사용자 User Name 포함 체크 (keycloak username <-> cp userid)
-        List<Users> userKeycloakCompareUsersList = usersList.getItems().stream().filter(Users -> keycloakUserNameList.contains(Users.getUserId())).collect(Collectors.toList());
-
-        //keycloak 사용자 ID 포함 체크 (keycloak id <-> cp userAuthId)
-        userKeycloakCompareUsersList = userKeycloakCompareUsersList.stream().filter(Users -> keycloakUserIdList.contains(Users.getUserAuthId())).collect(Collectors.toList());
+        // keycloak 사용자 멤버십 비교 ((keycloak username, keycloak id) <-> (cp userid, cp userAuthId))
+        List<Users> userKeycloakCompareUsersList = keycloakUsersIndex.filter(usersList.getItems(), Users::getUserId, Users::getUserAuthId);
 
         // 필터 목록 set
         usersList.setItems(userKeycloakCompareUsersList);
@@ -463,19 +577,52 @@ public class UsersService {
     }
 
 
+    /**
+     * CP 사용자 조회 후 Keycloak 사용자 비교 (Fetch users and compare keycloak user list)
+     * (Keycloak 멤버십 갱신이 필요한 경우 CP 사용자 조회와 동시에 실행)
+     *
+     * @param cpQuery the cp users query
+     * @return the user list
+     */
+    private List<Users> fetchKeycloakUsers(Supplier<List<Users>> cpQuery) {
+        return keycloakUsersFetcher.fetch(cpQuery, Users::getUserId, Users::getUserAuthId);
+    }
+
+
     /**
      * User 등록(Sign Up User)
+     * (등록 행이 없는 사용자의 동시 요청은 행 잠금 조회 시 갭 잠금만 획득하므로 양쪽 모두 조회를 통과,
+     * 등록 행 유일 키 위반 또는 INSERT 간 교착 상태로 실패한 요청은 이미 등록된 사용자로 처리.
+     * SUPER-ADMIN 가입 요청은 가입 잠금 행으로 순서대로 처리)
      *
      * @param users the users
      * @return the resultStatus
      */
     @Transactional
     public ResultStatus signUpUser(Users users) {
+        boolean superAdmin = Constants.AUTH_SUPER_ADMIN.equals(users.getUserType());
+
+        // 동시 가입 요청 중복 등록 확인 (동일 USER-ID, USER-AUTH-ID 및 SUPER-ADMIN 권한 행 잠금 조회)
+        if (superAdmin) {
+            userRepository.lockSignUp(Constants.AUTH_SUPER_ADMIN);
+            checkSuperAdminNotRegistered(userRepository.findAllForSuperAdminSignUp(users.getUserId(), Constants.AUTH_SUPER_ADMIN));
+        } else {
+            checkUserNotRegistered(userRepository.findAllForSignUp(users.getUserId(), users.getUserAuthId()), users.getUserAuthId());
+        }
+
         try {
             //클러스터 정보 가져오기
             Clusters clusters = clustersService.getHostClusters();
             users.setClusterId(clusters.getClusterId());
-            userRepository.save(users);
+            if (isUserRegistration(users)) {
+                users.setSignupAuthId(users.getUserAuthId());
+            }
+            // 유일 키 위반, 교착 상태를 이 메서드 안에서 확인하도록 즉시 반영
+            userRepository.saveAndFlush(users);
+            publishUsersChanged(UsersChangedEvent.of(users.getUserId(), users.getUserAuthId()));
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            LOGGER.info("Concurrent sign up rejected :: {}", CommonUtils.loggerReplace(users.getUserId()));
+            throw new ResultStatusException(superAdmin ? Constants.SUPER_ADMIN_ALREADY_REGISTERED_MESSAGE : Constants.USER_ALREADY_REGISTERED_MESSAGE);
         } catch (Exception e) {
             throw new ResultStatusException(Constants.USER_CREATE_FAILED_MESSAGE);
         }
@@ -495,9 +642,7 @@ public class UsersService {
     public Users getUsersByNamespaceAndUserIdAndUserType(String namespace, String userId, String userType) {
 
         UsersList usersList = new UsersList();
-        usersList.setItems(userRepository.findAllByCpNamespaceAndUserIdAndUserType(namespace, userId, userType));
-
-        usersList = compareKeycloakUser(usersList);
+        usersList.setItems(fetchKeycloakUsers(() -> userRepository.findAllByCpNamespaceAndUserIdAndUserType(namespace, userId, userType)));
 
 
         return usersList.getItems().get(0);
@@ -506,21 +651,39 @@ public class UsersService {
 
 
     public Object getUsersAccessInfo(String userAuthId, String cluster, String userType, String namespace) {
+        UsersAccess access = usersAccessCache.get(userAuthId, cluster, userType, namespace,
+                () -> loadUsersAccess(userAuthId, cluster, userType, namespace));
+
+        if (!access.isFound()) {
+            throw new ResultStatusException(CommonStatusCode.NOT_FOUND.getMsg());
+        }
 
         Users users = new Users();
-        Clusters clusters = new Clusters();
+        users.setClusterName(access.getClusterName());
+        users.setRoleSetCode(access.getRoleSetCode());
+        return commonService.setResultModel(users, Constants.RESULT_STATUS_SUCCESS);
+    }
 
+
+    /**
+     * 사용자 접근 정보 DB 조회 (Load User Access Info)
+     *
+     * @param userAuthId the userAuthId
+     * @param cluster    the cluster
+     * @param userType   the userType
+     * @param namespace  the namespace
+     * @return the users access
+     */
+    private UsersAccess loadUsersAccess(String userAuthId, String cluster, String userType, String namespace) {
         if (userType.equals(Constants.AUTH_SUPER_ADMIN)) {
 
             List<Object[]> listCluster = userRepository.findAllByClusters(cluster);
             ClustersList clustersList = new ClustersList(listCluster.stream().map(x -> new Clusters(x[0])).collect(Collectors.toList()));
 
             if (clustersList.getItems().size() > 0) {
-                users.setClusterName(clustersList.getItems().get(0).getName());
-                users.setRoleSetCode((Constants.DEFAULT_SUPER_ADMIN_ROLE));
-            } else {
-                throw new ResultStatusException(CommonStatusCode.NOT_FOUND.getMsg());
+                return UsersAccess.of(clustersList.getItems().get(0).getName(), Constants.DEFAULT_SUPER_ADMIN_ROLE);
             }
+            return UsersAccess.notFound();
 
         } else if (userType.equals(Constants.AUTH_USER) || userType.equals(Constants.AUTH_CLUSTER_ADMIN)) {
 
@@ -532,15 +695,98 @@ public class UsersService {
             }
 
             if (usersList.getItems().size() > 0) {
-                users.setClusterName(usersList.getItems().get(0).getClusterName());
-                users.setRoleSetCode(usersList.getItems().get(0).getRoleSetCode());
+                return UsersAccess.of(usersList.getItems().get(0).getClusterName(), usersList.getItems().get(0).getRoleSetCode());
+            }
+            return UsersAccess.notFound();
+        }
+
+        return UsersAccess.of(null, null);
+    }
+
+    /**
+     * 여러 클러스터, 네임스페이스에 대한 사용자 접근 정보 일괄 조회 (Get Users Access Info List)
+     * (캐시에 없는 항목은 cp_users, cp_clusters 1회 조회로 확인, 항목별 조회 결과는 getUsersAccessInfo 와 동일)
+     *
+     * @param accessList the users access list
+     * @return the users access list
+     */
+    public UsersAccessList getUsersAccessInfoList(UsersAccessList accessList) {
+        String userAuthId = accessList.getUserAuthId();
+        List<UsersAccessList.Item> items = (accessList.getItems() == null) ? new ArrayList<>() : accessList.getItems();
+        if (isBlank(userAuthId) || items.stream().anyMatch(x -> isBlank(x.getClusterId()) || isBlank(x.getUserType()))) {
+            throw new ResultStatusException(Constants.INVALID_USERS_ACCESS_MESSAGE);
+        }
+
+        List<UsersAccess> accesses = items.isEmpty() ? Collections.emptyList()
+                : usersAccessCache.getAll(userAuthId, items, x -> loadUsersAccessList(userAuthId, x));
+        for (int i = 0; i < items.size(); i++) {
+            UsersAccess access = accesses.get(i);
+            items.get(i).setFound(access.isFound());
+            items.get(i).setClusterName(access.getClusterName());
+            items.get(i).setRoleSetCode(access.getRoleSetCode());
+        }
+
+        accessList.setItems(items);
+        return (UsersAccessList) commonService.setResultModel(accessList, Constants.RESULT_STATUS_SUCCESS);
+    }
 
-            } else {
-                throw new ResultStatusException(CommonStatusCode.NOT_FOUND.getMsg());
+
+    /**
+     * 사용자 접근 정보 DB 일괄 조회 (Load User Access Info List)
+     *
+     * @param userAuthId the userAuthId
+     * @param items      the access items
+     * @return the users access list in items order
+     */
+    private List<UsersAccess> loadUsersAccessList(String userAuthId, List<UsersAccessList.Item> items) {
+        Set<String> clusterIds = items.stream().map(UsersAccessList.Item::getClusterId).collect(Collectors.toSet());
+
+        // 클러스터별 클러스터 명, 사용자 맵핑 목록 (맵핑이 없는 클러스터는 user_type 이 null 인 1건)
+        Map<String, String> clusterNames = new HashMap<>();
+        Map<String, List<Users>> usersByCluster = new HashMap<>();
+        for (Object[] x : userRepository.findAllUsersAccessByClusters(userAuthId, Arrays.asList(Constants.AUTH_USER, Constants.AUTH_CLUSTER_ADMIN), clusterIds)) {
+            clusterNames.put((String) x[0], (String) x[1]);
+            if (x[3] != null) {
+                Users users = new Users();
+                users.setCpNamespace((String) x[2]);
+                users.setUserType((String) x[3]);
+                users.setRoleSetCode((String) x[4]);
+                usersByCluster.computeIfAbsent((String) x[0], k -> new ArrayList<>()).add(users);
             }
         }
 
-        return commonService.setResultModel(users, Constants.RESULT_STATUS_SUCCESS);
+        List<UsersAccess> accesses = new ArrayList<>(items.size());
+        for (UsersAccessList.Item item : items) {
+            String clusterName = clusterNames.get(item.getClusterId());
+            List<Users> usersList = usersByCluster.getOrDefault(item.getClusterId(), Collections.emptyList());
+            accesses.add(toUsersAccess(item.getUserType(), item.getCpNamespace(), clusterName, usersList));
+        }
+        return accesses;
+    }
+
+
+    /**
+     * 사용자 접근 정보 확인 (Resolve User Access Info)
+     *
+     * @param userType    the userType
+     * @param namespace   the namespace
+     * @param clusterName the cluster name (클러스터가 없는 경우 null)
+     * @param usersList   the users list of the cluster
+     * @return the users access
+     */
+    private UsersAccess toUsersAccess(String userType, String namespace, String clusterName, List<Users> usersList) {
+        if (userType.equals(Constants.AUTH_SUPER_ADMIN)) {
+            return (clusterName == null) ? UsersAccess.notFound() : UsersAccess.of(clusterName, Constants.DEFAULT_SUPER_ADMIN_ROLE);
+        } else if (userType.equals(Constants.AUTH_USER) || userType.equals(Constants.AUTH_CLUSTER_ADMIN)) {
+            return usersList.stream()
+                    .filter(x -> x.getUserType().equals(userType))
+                    .filter(x -> !userType.equals(Constants.AUTH_USER) || x.getCpNamespace().equals(namespace))
+                    .findFirst()
+                    .map(x -> UsersAccess.of(clusterName, x.getRoleSetCode()))
+                    .orElse(UsersAccess.notFound());
+        }
+
+        return UsersAccess.of(null, null);
     }
 
     /**
@@ -568,15 +814,10 @@ public class UsersService {
 
         UsersList returnUsersList = new UsersList();
 
-        // 1. 검색 네임스페이스에 따라 관리자 여부 체크 조회
-        List<Object[]> isNsAdminCheckList = userRepository.findNamespaceAdminCheck(propertyService.getDefaultNamespace(), searchNamespace, Constants.AUTH_NAMESPACE_ADMIN);
-
-        // 2. Users 객체 형태로 변환
-        List<Users> usersList = isNsAdminCheckList.stream().map(x -> new Users(x[0], x[1], x[2])).collect(Collectors.toList());
-
-        // 3. Keycloak 사용자 비교처리
-        returnUsersList.setItems(usersList);
-        returnUsersList = compareKeycloakUser(returnUsersList);
+        // 1. 검색 네임스페이스에 따라 관리자 여부 체크 조회 후 Users 객체 형태로 변환
+        // 2. Keycloak 사용자 비교처리
+        returnUsersList.setItems(fetchKeycloakUsers(() -> userRepository.findNamespaceAdminCheck(propertyService.getDefaultNamespace(), searchNamespace,
+                Constants.AUTH_NAMESPACE_ADMIN).stream().map(x -> new Users(x[0], x[1], x[2])).collect(Collectors.toList())));
 
         return (UsersList) commonService.setResultModel(returnUsersList, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -593,6 +834,7 @@ public class UsersService {
     @Transactional
     public ResultStatus deleteUsersByUserIdAndUserAuthIdAndNamespace(String userId, String userAuthId, String namespace) {
         userRepository.deleteAllByUserIdAndUserAuthIdAndCpNamespace(userId, userAuthId, namespace);
+        publishUsersChanged(UsersChangedEvent.of(userId, userAuthId));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.", 200, "user delete success.");
     }
 
@@ -603,8 +845,11 @@ public class UsersService {
      * @param cluster the cluster
      * @return return is succeeded
      */
+    @Transactional
     public ResultStatus deleteClusterAdmin(String cluster) {
+        List<Users> deletedUsers = userRepository.findAllByUserType(Constants.AUTH_CLUSTER_ADMIN);
         userRepository.deleteAllByUserType(Constants.AUTH_CLUSTER_ADMIN);
+        publishUsersChanged(UsersChangedEvent.of(deletedUsers));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "cluster admin delete success.", 200, "cluster admin delete success.");
     }
 
@@ -653,8 +898,7 @@ public class UsersService {
      * @return the users list
      */
     public UsersList getUserMappingListByCluster(String cluster, String userAuthId) {
-        UsersList usersList = new UsersList(userRepository.getUserMappingListByCluster(cluster, userAuthId, propertyService.getDefaultNamespace()));
-        usersList = compareKeycloakUser(usersList);
+        UsersList usersList = new UsersList(fetchKeycloakUsers(() -> userRepository.getUserMappingListByCluster(cluster, userAuthId, propertyService.getDefaultNamespace())));
         return usersList;
     }
 
@@ -672,6 +916,7 @@ public class UsersService {
         try {
             userRepository.deleteUserMappingListByCluster(users.getClusterId(), users.getUserAuthId(), defaultNamespace);
             userRepository.save(users);
+            publishUsersChanged(UsersChangedEvent.of(users.getUserId(), users.getUserAuthId()));
         } catch (Exception e) {
             throw new ResultStatusException(Constants.USER_CREATE_FAILED_MESSAGE);
         }
@@ -679,16 +924,142 @@ public class UsersService {
     }
 
 
+    /**
+     * 사용자 네임스페이스 맵핑 일괄 반영 (Replace Users Mappings)
+     * (요청 맵핑 목록과 대상 클러스터의 기존 맵핑을 (클러스터, 네임스페이스) 기준으로 비교하여
+     * 등록, 수정, 삭제 대상을 JDBC batch 로 하나의 트랜잭션에서 반영, 사용자 등록 정보(기본 네임스페이스 USER)는 제외)
+     *
+     * @param mappingList the users mapping list
+     * @return the users mapping list
+     */
+    @Transactional
+    public UsersMappingList replaceUsersMappings(UsersMappingList mappingList) {
+        String userId = mappingList.getUserId();
+        String userAuthId = mappingList.getUserAuthId();
+        List<Users> items = (mappingList.getItems() == null) ? Collections.emptyList() : mappingList.getItems();
+        if (isBlank(userId) || isBlank(userAuthId)) {
+            throw new ResultStatusException(Constants.INVALID_USERS_MAPPING_MESSAGE);
+        }
+
+        Set<String> clusterIds = new HashSet<>();
+        if (mappingList.getClusterIds() != null) {
+            clusterIds.addAll(mappingList.getClusterIds());
+        }
+
+        Map<String, Users> desired = new LinkedHashMap<>();
+        for (Users item : items) {
+            if (isBlank(item.getClusterId()) || isBlank(item.getCpNamespace()) || isBlank(item.getUserType()) || isUserRegistration(item)
+                    || desired.put(mappingKey(item), item) != null) {
+                throw new ResultStatusException(Constants.INVALID_USERS_MAPPING_MESSAGE);
+            }
+            item.setUserId(userId);
+            item.setUserAuthId(userAuthId);
+            clusterIds.add(item.getClusterId());
+        }
+
+        if (clusterIds.isEmpty()) {
+            return (UsersMappingList) commonService.setResultModel(mappingList, Constants.RESULT_STATUS_SUCCESS);
+        }
+
+        List<Users> inserts = new ArrayList<>();
+        List<Users> updates = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        List<Users> changedUsers = new ArrayList<>();
+        Set<String> matchedKeys = new HashSet<>();
+
+        for (Users existing : userRepository.findAllByUserAuthIdAndClusterIdIn(userAuthId, clusterIds)) {
+            if (isUserRegistration(existing)) {
+                continue;
+            }
+
+            String key = mappingKey(existing);
+            Users item = desired.get(key);
+            // 요청에 없거나 동일 (클러스터, 네임스페이스) 의 중복 행인 경우 삭제
+            if (item == null || !matchedKeys.add(key)) {
+                deletes.add(existing.getId());
+                changedUsers.add(existing);
+            } else if (!isSameMapping(existing, item)) {
+                item.setId(existing.getId());
+                updates.add(item);
+                changedUsers.add(existing);
+            }
+        }
+
+        for (Map.Entry<String, Users> entry : desired.entrySet()) {
+            if (!matchedKeys.contains(entry.getKey())) {
+                inserts.add(entry.getValue());
+            }
+        }
+
+        userRepository.deleteUsersBatch(deletes);
+        userRepository.updateUsersBatch(updates);
+        userRepository.insertUsersBatch(inserts);
+        changedUsers.addAll(updates);
+        changedUsers.addAll(inserts);
+        publishUsersChanged(UsersChangedEvent.of(changedUsers));
+
+        mappingList.setCreatedCount(inserts.size());
+        mappingList.setUpdatedCount(updates.size());
+        mappingList.setDeletedCount(deletes.size());
+        mappingList.setUnchangedCount(matchedKeys.size() - updates.size());
+        return (UsersMappingList) commonService.setResultModel(mappingList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
     /**
      * 클러스터 관리자 목록 조회(Get Cluster Admin List)
      *
      * @return the usersList
      */
     public UsersList getClusterAdminList(String cluster, String searchName) {
-        List<Object[]> clusterAdminRawData = userRepository.getClusterAdminListByCluster(cluster, Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE,
-                defaultNamespace, Constants.AUTH_USER, searchName.trim());
-        UsersList clusterAdminList = new UsersList(clusterAdminRawData.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList()));
-        clusterAdminList = compareKeycloakUser(clusterAdminList);
+        // user_id 검색 인덱스 후보가 있는 경우 후보 조건 조회, 후보가 없는 경우 빈 목록
+        UsersSearch search = usersSearchIndex.search(searchName.trim());
+        if (search.isIndexed()) {
+            List<Object[]> clusterAdminRawData = search.isEmpty() ? new ArrayList<>() : userRepository.getClusterAdminList(cluster, Constants.AUTH_CLUSTER_ADMIN,
+                    Constants.HOST_CLUSTER_TYPE, defaultNamespace, Constants.AUTH_USER, search);
+            UsersList clusterAdminList = new UsersList(toUsers(clusterAdminRawData));
+            if (!userRepository.isKeycloakJoinAvailable()) {
+                clusterAdminList = compareKeycloakUser(clusterAdminList);
+            }
+            return (UsersList) commonService.setResultModel(clusterAdminList, Constants.RESULT_STATUS_SUCCESS);
+        }
+
+        // keycloak 사용자 존재 여부를 SQL 내에서 확인 가능한 경우 조인 조회, 불가한 경우 keycloak 사용자 목록 비교
+        if (userRepository.isKeycloakJoinAvailable()) {
+            List<Object[]> clusterAdminRawData = userRepository.getClusterAdminListByClusterJoinKeycloak(cluster, Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE,
+                    defaultNamespace, Constants.AUTH_USER, searchName.trim());
+            UsersList clusterAdminList = new UsersList(clusterAdminRawData.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList()));
+            return (UsersList) commonService.setResultModel(clusterAdminList, Constants.RESULT_STATUS_SUCCESS);
+        }
+
+        UsersList clusterAdminList = new UsersList(fetchKeycloakUsers(() -> toUsers(userRepository.getClusterAdminListByCluster(cluster, Constants.AUTH_CLUSTER_ADMIN,
+                Constants.HOST_CLUSTER_TYPE, defaultNamespace, Constants.AUTH_USER, searchName.trim()))));
+        return (UsersList) commonService.setResultModel(clusterAdminList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
+    /**
+     * 클러스터 관리자 목록 페이지 조회(Get Cluster Admin List page)
+     *
+     * @param cluster    the cluster
+     * @param searchName the search name
+     * @param page       the page request
+     * @return the usersList
+     */
+    public UsersList getClusterAdminList(String cluster, String searchName, UsersPageRequest page) {
+        if (!page.isPaged()) {
+            return getClusterAdminList(cluster, searchName);
+        }
+
+        String searchParam = searchName.trim();
+        UsersSearch search = usersSearchIndex.search(searchParam);
+        List<Users> items = search.isEmpty() ? new ArrayList<>() : fetchUsersPage(page, x -> toUsers(userRepository.getClusterAdminListPage(cluster,
+                Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE, defaultNamespace, Constants.AUTH_USER, search, x)));
+
+        UsersList clusterAdminList = new UsersList(items);
+        clusterAdminList.setItemMetaData(toPageMetaData(items, page, "clusterAdmin:" + cluster + ":" + searchParam,
+                () -> search.isEmpty() ? 0 : userRepository.countClusterAdminList(cluster, Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE,
+                        defaultNamespace, Constants.AUTH_USER, search)));
         return (UsersList) commonService.setResultModel(clusterAdminList, Constants.RESULT_STATUS_SUCCESS);
     }
 
@@ -715,8 +1086,7 @@ public class UsersService {
         Users userInfo = userRepository.getUsersDefaultInfo(Constants.HOST_CLUSTER_TYPE, userAuthId, defaultNamespace, Constants.AUTH_USER).get(0);
 
         // 해당 클러스터에 맵핑된 네임스페이스 목록 조회
-        UsersList userMappingList = new UsersList(userRepository.getUserMappingListByCluster(cluster, userAuthId, defaultNamespace));
-        userMappingList = compareKeycloakUser(userMappingList);
+        UsersList userMappingList = new UsersList(fetchKeycloakUsers(() -> userRepository.getUserMappingListByCluster(cluster, userAuthId, defaultNamespace)));
 
         UsersDetails usersDetails = new UsersDetails(userInfo.getUserId(), userInfo.getUserAuthId(), userInfo.getServiceAccountName(), Constants.AUTH_USER,
                 userInfo.getCreated(), userMappingList.getItems());
@@ -728,33 +1098,77 @@ public class UsersService {
 
     /**
      * Portal 활성화 사용자 목록 조회 (Get active users list)
+     * (네임스페이스 맵핑 목록을 사용자 생성일 역순, 사용자 단위로 연속되도록 조회, 네임스페이스 조건과 정렬은 SQL 에서 처리)
      *
      * @return the users list
      */
     public UsersDetailsList getActiveUsersList(String cluster, String namespace, String searchName) {
-        // 1. 클러스터 조건, USER 권한, temp-namespace 조회,  생성날짜 조인
-        List<Object[]> usersRawData = userRepository.getActiveUsersListByCluster(cluster, defaultNamespace, Constants.AUTH_USER, Constants.HOST_CLUSTER_TYPE, searchName.trim());
-
-        //2 Users 목록 으로 변환
-        UsersList usersList = new UsersList(usersRawData.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList()));
-        usersList = compareKeycloakUser(usersList);
+        String mappingNamespace = namespace.equalsIgnoreCase(Constants.ALL_VAL) ? null : namespace;
+        UsersSearch search = usersSearchIndex.search(searchName.trim());
+        if (search.isEmpty()) {
+            return (UsersDetailsList) commonService.setResultModel(new UsersDetailsList(new ArrayList<>()), Constants.RESULT_STATUS_SUCCESS);
+        }
 
-        if (!namespace.equalsIgnoreCase(Constants.ALL_VAL)) {
-            usersList.setItems(usersList.getItems().stream().filter(x -> x.getCpNamespace().equals(namespace)).collect(Collectors.toList()));
+        // 1. 사용자의 Namespace & Role 리스트 조회
+        // (keycloak 사용자 존재 여부를 SQL 내에서 확인 가능한 경우 조인 조회)
+        List<Users> rows = toUsers(userRepository.getActiveUsersMappingList(cluster, mappingNamespace, defaultNamespace, Constants.AUTH_USER,
+                Constants.HOST_CLUSTER_TYPE, search));
+        if (!userRepository.isKeycloakJoinAvailable()) {
+            rows = keycloakUsersIndex.filter(rows, Users::getUserId, Users::getUserAuthId);
         }
 
-        // 3. User ID 별 속한 Namespace & Role 리스트화
-        List<UsersDetails> usersDetailsList = new ArrayList<>();
+        // 2. User ID 별 조합 (조회 순서 유지)
+        Map<String, List<Users>> mappings = new LinkedHashMap<>();
+        rows.forEach(x -> mappings.computeIfAbsent(x.getUserAuthId(), k -> new ArrayList<>()).add(x));
 
-        usersList.getItems().stream().collect(Collectors.groupingBy(s -> s.getUserAuthId())).forEach((k, v) -> {
-            if (v.size() > 0) {
-                Users users = v.get(0);
-                UsersDetails usersDetails = new UsersDetails(users.getUserId(), users.getUserAuthId(), users.getServiceAccountName(), Constants.AUTH_USER, users.getCreated(), v);
-                usersDetailsList.add(usersDetails);
-            }
+        List<UsersDetails> usersDetailsList = new ArrayList<>(mappings.size());
+        mappings.values().forEach(v -> {
+            Users users = v.get(0);
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), users.getServiceAccountName(), Constants.AUTH_USER, users.getCreated(), v));
         });
 
-        UsersDetailsList resultList = new UsersDetailsList(usersDetailsList.stream().sorted(Comparator.comparing(UsersDetails::getCreated).reversed()).collect(Collectors.toList()));
+        UsersDetailsList resultList = new UsersDetailsList(usersDetailsList);
+        return (UsersDetailsList) commonService.setResultModel(resultList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
+    /**
+     * Portal 활성화 사용자 목록 페이지 조회 (Get active users list page)
+     * (사용자 단위 페이지, 페이지에 포함된 사용자의 네임스페이스 맵핑 목록만 추가 조회)
+     *
+     * @param cluster    the cluster
+     * @param namespace  the namespace
+     * @param searchName the search name
+     * @param page       the page request
+     * @return the users list
+     */
+    public UsersDetailsList getActiveUsersList(String cluster, String namespace, String searchName, UsersPageRequest page) {
+        if (!page.isPaged()) {
+            return getActiveUsersList(cluster, namespace, searchName);
+        }
+
+        String searchParam = searchName.trim();
+        String mappingNamespace = namespace.equalsIgnoreCase(Constants.ALL_VAL) ? null : namespace;
+
+        UsersSearch search = usersSearchIndex.search(searchParam);
+
+        // 1. 사용자 (temp-namespace) 목록 페이지 조회
+        List<Users> items = search.isEmpty() ? new ArrayList<>() : fetchUsersPage(page, x -> toUsers(userRepository.getActiveUsersPage(cluster,
+                mappingNamespace, defaultNamespace, Constants.AUTH_USER, Constants.HOST_CLUSTER_TYPE, search, x)));
+        CommonItemMetaData itemMetaData = toPageMetaData(items, page, "active:" + cluster + ":" + namespace + ":" + searchParam,
+                () -> search.isEmpty() ? 0 : userRepository.countActiveUsers(cluster, mappingNamespace, defaultNamespace, Constants.AUTH_USER,
+                        Constants.HOST_CLUSTER_TYPE, search));
+
+        // 2. 페이지 사용자의 Namespace & Role 리스트 조회
+        Map<String, List<Users>> mappings = new HashMap<>();
+        if (!items.isEmpty()) {
+            List<String> userAuthIds = items.stream().map(Users::getUserAuthId).collect(Collectors.toList());
+            toUsers(userRepository.getActiveUsersMappingList(cluster, mappingNamespace, defaultNamespace, Constants.AUTH_USER,
+                    Constants.HOST_CLUSTER_TYPE, userAuthIds)).forEach(x -> mappings.computeIfAbsent(x.getUserAuthId(), k -> new ArrayList<>()).add(x));
+        }
+
+        UsersDetailsList resultList = new UsersDetailsList(toActiveUsersDetails(items, mappings));
+        resultList.setItemMetaData(itemMetaData);
         return (UsersDetailsList) commonService.setResultModel(resultList, Constants.RESULT_STATUS_SUCCESS);
     }
 
@@ -767,11 +1181,13 @@ public class UsersService {
     public UsersDetailsList getInActiveUsersList(String cluster, String searchName) {
         // 1. temp-namespace 에만 속한 사용자 추출 (클러스터 관리자 계정 제외)
 
-        List<Users> inactiveUsersList = userRepository.getInactiveUsersListByCluster(Constants.HOST_CLUSTER_TYPE, cluster, defaultNamespace,
-                Constants.AUTH_CLUSTER_ADMIN, Constants.AUTH_USER, searchName.trim());
-
-        UsersList usersList = new UsersList(inactiveUsersList);
-        usersList = compareKeycloakUser(usersList);
+        // (user_id 검색 인덱스 후보가 있는 경우 후보 조건 조회, 후보가 없는 경우 빈 목록)
+        UsersSearch search = usersSearchIndex.search(searchName.trim());
+        UsersList usersList = new UsersList(search.isEmpty() ? new ArrayList<>() : fetchKeycloakUsers(() -> search.isIndexed()
+                ? userRepository.getInactiveUsersList(Constants.HOST_CLUSTER_TYPE, cluster, defaultNamespace,
+                Constants.AUTH_CLUSTER_ADMIN, Constants.AUTH_USER, search)
+                : userRepository.getInactiveUsersListByCluster(Constants.HOST_CLUSTER_TYPE, cluster, defaultNamespace,
+                Constants.AUTH_CLUSTER_ADMIN, Constants.AUTH_USER, searchName.trim())));
 
         UsersDetailsList resultList = new UsersDetailsList(usersList.getItems().stream().map(x -> new UsersDetails(x.getUserId(), x.getUserAuthId(),
                 x.getServiceAccountName(), Constants.AUTH_USER, x.getCreated())).sorted(Comparator.comparing(UsersDetails::getCreated).reversed()).collect(Collectors.toList()));
@@ -781,6 +1197,34 @@ public class UsersService {
     }
 
 
+    /**
+     * Portal 비활성화 사용자 목록 페이지 조회(Get Inactive Users list page)
+     *
+     * @param cluster    the cluster
+     * @param searchName the search name
+     * @param page       the page request
+     * @return the users list
+     */
+    public UsersDetailsList getInActiveUsersList(String cluster, String searchName, UsersPageRequest page) {
+        if (!page.isPaged()) {
+            return getInActiveUsersList(cluster, searchName);
+        }
+
+        String searchParam = searchName.trim();
+        UsersSearch search = usersSearchIndex.search(searchParam);
+        List<Users> items = search.isEmpty() ? new ArrayList<>() : fetchUsersPage(page, x -> userRepository.getInactiveUsersListPage(Constants.HOST_CLUSTER_TYPE,
+                cluster, defaultNamespace, Constants.AUTH_CLUSTER_ADMIN, Constants.AUTH_USER, search, x));
+        CommonItemMetaData itemMetaData = toPageMetaData(items, page, "inactive:" + cluster + ":" + searchParam,
+                () -> search.isEmpty() ? 0 : userRepository.countInactiveUsersList(Constants.HOST_CLUSTER_TYPE, cluster, defaultNamespace,
+                        Constants.AUTH_CLUSTER_ADMIN, Constants.AUTH_USER, search));
+
+        UsersDetailsList resultList = new UsersDetailsList(items.stream().map(x -> new UsersDetails(x.getUserId(), x.getUserAuthId(),
+                x.getServiceAccountName(), Constants.AUTH_USER, x.getCreated())).collect(Collectors.toList()));
+        resultList.setItemMetaData(itemMetaData);
+        return (UsersDetailsList) commonService.setResultModel(resultList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
     /**
      * 사용자 상세 조회(Get user info details)
      *
@@ -804,8 +1248,7 @@ public class UsersService {
         Users userInfo = userRepository.getUsersDefaultInfo(Constants.HOST_CLUSTER_TYPE, userAuthId, defaultNamespace, Constants.AUTH_USER).get(0);
 
 
-        UsersList usersLIst = new UsersList(userRepository.findAllByClusterIdAndUserAuthId(cluster, userAuthId));
-        usersLIst = compareKeycloakUser(usersLIst);
+        UsersList usersLIst = new UsersList(fetchKeycloakUsers(() -> userRepository.findAllByClusterIdAndUserAuthId(cluster, userAuthId)));
 
         List<Users> checkClusterAdmin = usersLIst.getItems().stream().filter(x -> x.getUserType().equalsIgnoreCase(Constants.AUTH_CLUSTER_ADMIN)).collect(Collectors.toList());
 
@@ -823,14 +1266,20 @@ public class UsersService {
     }
 
 
+    @Transactional
     public ResultStatus deleteUsers(String clusterId, String namespace, String userAuthId, String userType) {
+        List<Users> deletedUsers = userRepository.findAllByClusterIdAndCpNamespaceAndUserAuthIdAndUserType(clusterId, namespace, userAuthId, userType);
         userRepository.deleteAllByClusterIdAndCpNamespaceAndUserAuthIdAndUserType(clusterId, namespace, userAuthId, userType);
+        publishUsersChanged(UsersChangedEvent.of(deletedUsers));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.");
     }
 
+    @Transactional
     public ResultStatus deleteUsers(Long[] ids) {
         if (ids.length > 0) {
+            List<Users> deletedUsers = userRepository.findAllById(Arrays.asList(ids));
             userRepository.deleteUsers(ids);
+            publishUsersChanged(UsersChangedEvent.of(deletedUsers));
         }
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.");
     }
@@ -844,13 +1293,28 @@ public class UsersService {
      * @return usersList the UsersList
      */
     public UsersList getAllUsersByClusterAndNamespace(String cluster, String namespace) {
-        List<Users> items = userRepository.findAllByClusterIdAndCpNamespaceAndUserType(cluster, namespace, Constants.AUTH_USER);
-        UsersList usersList = new UsersList(items);
-        usersList = compareKeycloakUser(usersList);
+        if (userRepository.isKeycloakJoinAvailable()) {
+            UsersList usersList = new UsersList(userRepository.findAllByClusterIdAndCpNamespaceAndUserTypeJoinKeycloak(cluster, namespace, Constants.AUTH_USER));
+            return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
+        }
+
+        UsersList usersList = new UsersList(fetchKeycloakUsers(() -> userRepository.findAllByClusterIdAndCpNamespaceAndUserType(cluster, namespace, Constants.AUTH_USER)));
         return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
     }
 
 
+    /**
+     * 클러스터 내 특정 네임스페이스 사용자 목록 스트리밍 조회 (Stream Namespace All User)
+     *
+     * @param cluster   the cluster
+     * @param namespace the namespace
+     * @return the streaming response
+     */
+    public ResponseEntity<StreamingResponseBody> streamAllUsersByClusterAndNamespace(String cluster, String namespace) {
+        return streamUsersList(new UsersList(), () -> userRepository.streamAllByClusterIdAndCpNamespaceAndUserType(cluster, namespace, Constants.AUTH_USER));
+    }
+
+
     /**
      * 네임스페이스 사용자 전체 삭제 (Delete Namespace All User)
      *
@@ -858,12 +1322,15 @@ public class UsersService {
      * @param namespace the namespace
      * @return return is succeeded
      */
+    @Transactional
     public ResultStatus deleteAllUsersByClusterAndNamespace(String cluster, String namespace) {
         if (namespace.equalsIgnoreCase(defaultNamespace)) {
             throw new ResultStatusException(Constants.REQUEST_COULD_NOT_BE_PROCESSED);
         }
 
+        List<Users> deletedUsers = userRepository.findAllByClusterIdAndCpNamespaceAndUserType(cluster, namespace, Constants.AUTH_USER);
         userRepository.deleteAllByClusterIdAndCpNamespaceAndUserType(cluster, namespace, Constants.AUTH_USER);
+        publishUsersChanged(UsersChangedEvent.of(deletedUsers));
         return new ResultStatus(Constants.RESULT_STATUS_SUCCESS, "user delete success.", 200, "user delete success.");
     }
 
@@ -874,23 +1341,30 @@ public class UsersService {
      * @return usersList the UsersList
      */
     public UsersList getAllUsersByClusters(String cluster) {
-        List<Users> items = userRepository.getAllUsersByClusters(cluster, Constants.AUTH_SUPER_ADMIN, Constants.AUTH_USER, defaultNamespace);
-        UsersList usersList = new UsersList(items);
-        usersList = compareKeycloakUser(usersList);
+        UsersList usersList = new UsersList(fetchKeycloakUsers(() -> userRepository.getAllUsersByClusters(cluster, Constants.AUTH_SUPER_ADMIN, Constants.AUTH_USER, defaultNamespace)));
         return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
     }
 
 
 
+    /**
+     * 클러스터 사용자 목록 스트리밍 조회 (Stream Cluster All User)
+     *
+     * @param cluster the cluster
+     * @return the streaming response
+     */
+    public ResponseEntity<StreamingResponseBody> streamAllUsersByClusters(String cluster) {
+        return streamUsersList(new UsersList(), () -> userRepository.streamAllUsersByClusters(cluster, Constants.AUTH_SUPER_ADMIN, Constants.AUTH_USER, defaultNamespace));
+    }
+
+
     /**
      * 서비스 브로커를 위한 SUPER-ADMIN 등록 여부 조회 (Check Auth 'SUPER-ADMIN' User Registration for Service Broker)
      *
      * @return the resultStatus
      */
     public ResultStatus isExistsCpPortalAdmin() {
-        List<Users> superAdmin = userRepository.findAllByUserType(Constants.AUTH_SUPER_ADMIN);
-        UsersList superAdminList = new UsersList(superAdmin);
-        superAdminList = compareKeycloakUser(superAdminList);
+        UsersList superAdminList = new UsersList(fetchKeycloakUsers(() -> userRepository.findAllByUserType(Constants.AUTH_SUPER_ADMIN)));
         if (superAdminList.getItems().size() > 0) {
             // 'SUPER-ADMIN' 권한 사용자 등록된 경우
             throw new ResultStatusException(Constants.SUPER_ADMIN_ALREADY_REGISTERED_MESSAGE);
@@ -908,9 +1382,205 @@ public class UsersService {
     public UsersList getUsersListByCluster(String clusterId) {
         UsersList usersList = new UsersList();
         usersList.setClusterType(clustersService.getClusters(clusterId).getClusterType());
-        usersList.setItems(userRepository.getAllByClusterId(clusterId));
-        usersList = compareKeycloakUser(usersList);
+        usersList.setItems(fetchKeycloakUsers(() -> userRepository.getAllByClusterId(clusterId)));
         return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * 클러스터 사용자 목록 페이지 조회(Get Users List By Cluster page)
+     *
+     * @param clusterId the cluster id
+     * @param page      the page request
+     * @return the usersList
+     */
+    public UsersList getUsersListByCluster(String clusterId, UsersPageRequest page) {
+        if (!page.isPaged()) {
+            return getUsersListByCluster(clusterId);
+        }
+
+        List<Users> items = fetchUsersPage(page, x -> userRepository.getUsersPageByCluster(clusterId, x));
+
+        UsersList usersList = new UsersList(items);
+        usersList.setClusterType(clustersService.getClusters(clusterId).getClusterType());
+        usersList.setItemMetaData(toPageMetaData(items, page, "cluster:" + clusterId, () -> userRepository.countUsersByCluster(clusterId)));
+        return (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
+    /**
+     * 클러스터 사용자 목록 스트리밍 조회(Stream Users List By Cluster)
+     *
+     * @param clusterId the cluster id
+     * @return the streaming response
+     */
+    public ResponseEntity<StreamingResponseBody> streamUsersListByCluster(String clusterId) {
+        UsersList usersList = new UsersList();
+        usersList.setClusterType(clustersService.getClusters(clusterId).getClusterType());
+        return streamUsersList(usersList, () -> userRepository.streamAllByClusterId(clusterId));
+    }
+
+
+    /**
+     * 사용자 목록 스트리밍 응답 생성 (Create users list streaming response)
+     * (Keycloak 사용자 비교는 요청 시점의 멤버십 스냅샷 기준으로 행 단위 수행)
+     *
+     * @param usersList the users list
+     * @param rows      the users rows supplier
+     * @return the streaming response
+     */
+    private ResponseEntity<StreamingResponseBody> streamUsersList(UsersList usersList, Supplier<Stream<Users>> rows) {
+        KeycloakUsersMembership membership = keycloakUsersIndex.getMembership();
+        usersList = (UsersList) commonService.setResultModel(usersList, Constants.RESULT_STATUS_SUCCESS);
+        return streamingListWriter.stream(usersList, null, rows, x -> membership.contains(x.getUserId(), x.getUserAuthId()));
+    }
+
+
+    /**
+     * 사용자 프로젝션 상태 조회 (Get users projection status)
+     *
+     * @return the users projection status
+     */
+    public UsersProjectionStatus getUsersProjectionStatus() {
+        return (UsersProjectionStatus) commonService.setResultModel(usersProjection.check(), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
+    /**
+     * 사용자 프로젝션 재구성 (Rebuild users projection)
+     *
+     * @return the users projection status
+     */
+    public UsersProjectionStatus rebuildUsersProjection() {
+        try {
+            usersProjection.rebuild();
+        } catch (Exception e) {
+            LOGGER.error("Users projection rebuild failed :: {}", e.getMessage());
+            throw new ResultStatusException(Constants.REQUEST_COULD_NOT_BE_PROCESSED);
+        }
+        return getUsersProjectionStatus();
+    }
+
+
+    /**
+     * keyset 페이지 항목 조회 (Fetch keyset page items)
+     * (keycloak 사용자 비교로 제외된 항목 만큼 다음 구간을 이어서 조회, 다음 페이지 존재 시 limit + 1 건 반환)
+     *
+     * @param page    the page request
+     * @param fetcher the page fetcher (limit + 1 건 조회)
+     * @return the users list
+     */
+    private List<Users> fetchUsersPage(UsersPageRequest page, Function<UsersPageRequest, List<Users>> fetcher) {
+        boolean keycloakJoinAvailable = userRepository.isKeycloakJoinAvailable();
+        List<Users> items = new ArrayList<>();
+        UsersPageRequest request = page;
+
+        while (true) {
+            List<Users> rows = fetcher.apply(request);
+            items.addAll(keycloakJoinAvailable ? rows : keycloakUsersIndex.filter(rows, Users::getUserId, Users::getUserAuthId));
+
+            if (items.size() > page.getLimit() || rows.size() <= page.getLimit()) {
+                return items;
+            }
+            request = request.after(rows.get(rows.size() - 1));
+        }
+    }
+
+
+    /**
+     * 활성화 사용자 상세 목록 생성 (Create active users details)
+     * (사용자 목록 순서 유지, 사용자별 Namespace & Role 리스트 설정)
+     *
+     * @param items    the users
+     * @param mappings the namespace mappings by user auth id
+     * @return the users details list
+     */
+    private List<UsersDetails> toActiveUsersDetails(List<Users> items, Map<String, List<Users>> mappings) {
+        List<UsersDetails> usersDetailsList = new ArrayList<>(items.size());
+        for (Users users : items) {
+            List<Users> v = mappings.getOrDefault(users.getUserAuthId(), Collections.emptyList());
+            String serviceAccountName = v.isEmpty() ? users.getServiceAccountName() : v.get(0).getServiceAccountName();
+            usersDetailsList.add(new UsersDetails(users.getUserId(), users.getUserAuthId(), serviceAccountName, Constants.AUTH_USER, users.getCreated(), v));
+        }
+        return usersDetailsList;
+    }
+
+
+    /**
+     * keyset 페이지 메타데이터 생성 (Create keyset page meta data)
+     * (limit 초과 항목 제거 후 continue 토큰 설정, withTotal 요청 시 캐시된 전체 건수 설정)
+     *
+     * @param items    the items
+     * @param page     the page request
+     * @param countKey the count cache key
+     * @param counter  the counter
+     * @return the common item meta data
+     */
+    private CommonItemMetaData toPageMetaData(List<Users> items, UsersPageRequest page, String countKey, Supplier<Number> counter) {
+        CommonItemMetaData itemMetaData = new CommonItemMetaData();
+
+        if (items.size() > page.getLimit()) {
+            items.subList(page.getLimit(), items.size()).clear();
+            itemMetaData.setContinueToken(UsersPageRequest.continueToken(items.get(items.size() - 1)));
+        }
+
+        if (page.isWithTotal()) {
+            itemMetaData.setAllItemCount(usersCountCache.get(countKey, counter));
+        }
+
+        return itemMetaData;
+    }
+
+    /**
+     * 사용자 변경 이벤트 발행 (Publish users changed event)
+     *
+     * @param event the users changed event
+     */
+    private void publishUsersChanged(UsersChangedEvent event) {
+        if (!event.isEmpty()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * 가입 시 등록되는 사용자 기본 정보 여부 (Whether users is the sign up registration row)
+     * (기본 네임스페이스 & AUTH USER, 맵핑 정보 동기화 대상에서 제외)
+     *
+     * @param users the users
+     * @return the boolean
+     */
+    private boolean isUserRegistration(Users users) {
+        return defaultNamespace.equals(users.getCpNamespace()) && Constants.AUTH_USER.equals(users.getUserType());
+    }
+
+    /**
+     * 맵핑 정보 키 (Get mapping key of cluster and namespace)
+     *
+     * @param users the users
+     * @return the mapping key
+     */
+    private static String mappingKey(Users users) {
+        return users.getClusterId() + "|" + users.getCpNamespace();
+    }
+
+    /**
+     * 동일 맵핑 정보 여부 (Whether existing mapping has the same user id, type, role set and service account)
+     *
+     * @param existing the existing users
+     * @param item     the requested users
+     * @return the boolean
+     */
+    private static boolean isSameMapping(Users existing, Users item) {
+        return Objects.equals(existing.getUserId(), item.getUserId()) && Objects.equals(existing.getUserType(), item.getUserType())
+                && Objects.equals(existing.getRoleSetCode(), item.getRoleSetCode())
+                && Objects.equals(existing.getServiceAccountName(), item.getServiceAccountName());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private List<Users> toUsers(List<Object[]> rawData) {
+        return rawData.stream().map(x -> new Users(x[0], x[1], x[2], x[3], x[4], x[5], x[6], x[7])).collect(Collectors.toList());
+    }
+}
@@ -28,4 +28,7 @@ public class KeycloakUsers {
 
     @Column(name = "username")
     private String username;
+
+    @Column(name = "created_timestamp")
+    private Long createdTimestamp;
 }
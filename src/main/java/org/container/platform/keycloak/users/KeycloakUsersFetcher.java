@@ -0,0 +1,157 @@
+package org.container.platform.keycloak.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.exception.ResultStatusException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keycloak 사용자 비교 조회 클래스
+ * (CP 사용자 조회와 Keycloak 멤버십 조회를 동시에 실행한 후 멤버십에 포함된 사용자만 반환)
+ * <p>
+ * Keycloak 사용자 인덱스가 maxStaleness 이내인 경우 DB 조회 없이 인덱스로 비교하며,
+ * 갱신이 필요한 경우 인덱스 갱신을 별도 스레드 (fetchThreads 개) 에서 CP 조회와 동시에 실행한다.
+ * 동시에 들어온 요청은 진행 중인 하나의 갱신 결과를 함께 사용한다.
+ * 갱신이 fetchTimeout 내에 끝나지 않거나 실패한 경우 마지막으로 적재된 멤버십으로 비교한다.
+ * 진행 중인 갱신은 동시 요청이 함께 사용하므로 대기를 중단한 요청이 취소하지 않으며, Keycloak 조회 query timeout 까지 계속 실행된다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class KeycloakUsersFetcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeycloakUsersFetcher.class);
+
+    private static final String METRIC_PREFIX = "keycloak.users.fetch";
+
+    private final KeycloakUsersIndex keycloakUsersIndex;
+    private final long fetchTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer cpLegTimer;
+    private final Timer keycloakLegTimer;
+    private final Counter timeoutCounter;
+    private final Counter failureCounter;
+
+    private final AtomicReference<FutureTask<KeycloakUsersMembership>> inFlight = new AtomicReference<>();
+
+    /**
+     * Instantiates a new Keycloak users fetcher
+     *
+     * @param keycloakUsersIndex the keycloak users index
+     * @param meterRegistry      the meter registry
+     * @param fetchTimeoutMillis the fetch timeout millis
+     * @param fetchThreads       the fetch threads
+     */
+    @Autowired
+    public KeycloakUsersFetcher(KeycloakUsersIndex keycloakUsersIndex, MeterRegistry meterRegistry,
+                                @Value("${keycloak.userIndex.fetchTimeout:5000}") long fetchTimeoutMillis,
+                                @Value("${keycloak.userIndex.fetchThreads:2}") int fetchThreads) {
+        this.keycloakUsersIndex = keycloakUsersIndex;
+        this.fetchTimeoutMillis = fetchTimeoutMillis;
+        // 진행 중인 갱신은 하나만 실행되므로 대기열이 가득 찬 경우 호출 스레드에서 실행
+        this.executor = new ThreadPoolExecutor(fetchThreads, fetchThreads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(fetchThreads),
+                new CustomizableThreadFactory("keycloak-users-fetch-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.cpLegTimer = Timer.builder(METRIC_PREFIX + ".leg").tag("leg", "cp").register(meterRegistry);
+        this.keycloakLegTimer = Timer.builder(METRIC_PREFIX + ".leg").tag("leg", "keycloak").register(meterRegistry);
+        this.timeoutCounter = Counter.builder(METRIC_PREFIX + ".fallbacks").tag("reason", "timeout").register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".fallbacks").tag("reason", "failure").register(meterRegistry);
+    }
+
+
+    /**
+     * CP 사용자 조회 후 Keycloak 멤버십에 포함된 항목만 반환 (Fetch items contained in keycloak membership)
+     * (Keycloak 멤버십 갱신이 필요한 경우 CP 조회와 동시에 실행)
+     *
+     * @param cpQuery    the cp query
+     * @param usernameFn the username extractor
+     * @param idFn       the keycloak user id extractor
+     * @param <T>        the item type
+     * @return the filtered items
+     */
+    public <T> List<T> fetch(Supplier<? extends Collection<T>> cpQuery, Function<? super T, String> usernameFn,
+                             Function<? super T, String> idFn) {
+        long startTime = System.nanoTime();
+        FutureTask<KeycloakUsersMembership> keycloakLeg = keycloakUsersIndex.isFresh() ? null : startKeycloakLeg();
+
+        Collection<T> items = cpLegTimer.record(cpQuery);
+
+        KeycloakUsersMembership membership = (keycloakLeg == null) ? keycloakUsersIndex.getMembership()
+                : awaitKeycloakLeg(keycloakLeg, startTime);
+        return keycloakUsersIndex.filter(membership, items, usernameFn, idFn);
+    }
+
+
+    /**
+     * Keycloak 멤버십 갱신 시작 (진행 중인 갱신이 있는 경우 해당 갱신 사용)
+     *
+     * @return the keycloak leg
+     */
+    private FutureTask<KeycloakUsersMembership> startKeycloakLeg() {
+        FutureTask<KeycloakUsersMembership> current = inFlight.get();
+        if (current != null && !current.isDone()) {
+            return current;
+        }
+
+        FutureTask<KeycloakUsersMembership> task = new FutureTask<>(() -> keycloakLegTimer.recordCallable(keycloakUsersIndex::getMembership));
+        if (!inFlight.compareAndSet(current, task)) {
+            return inFlight.get();
+        }
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Keycloak 멤버십 갱신 대기 (fetchTimeout 초과 또는 실패 시 마지막으로 적재된 멤버십 사용)
+     * (fetchTimeout 초과 시 대기만 중단하고 갱신은 다른 요청을 위해 계속 실행)
+     *
+     * @param keycloakLeg the keycloak leg
+     * @param startTime   the fetch start nano time
+     * @return the keycloak users membership
+     */
+    private KeycloakUsersMembership awaitKeycloakLeg(FutureTask<KeycloakUsersMembership> keycloakLeg, long startTime) {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(fetchTimeoutMillis) - (System.nanoTime() - startTime);
+        try {
+            return keycloakLeg.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            LOGGER.warn("Keycloak users fetch timed out after {} ms", fetchTimeoutMillis);
+        } catch (ExecutionException | CancellationException e) {
+            failureCounter.increment();
+            LOGGER.warn("Keycloak users fetch failed :: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResultStatusException(Constants.KEYCLOAK_USERS_UNAVAILABLE_MESSAGE);
+        }
+
+        KeycloakUsersMembership membership = keycloakUsersIndex.getLastMembership();
+        if (membership == null) {
+            throw new ResultStatusException(Constants.KEYCLOAK_USERS_UNAVAILABLE_MESSAGE);
+        }
+        return membership;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,300 @@
+package org.container.platform.keycloak.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.TableChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Keycloak Realm 사용자 인덱스 클래스
+ * (Keycloak cp realm 사용자의 (username, id) 멤버십을 메모리에 유지하고 주기적으로 갱신)
+ * <p>
+ * 갱신 시 realm 사용자 수와 최근 생성 시각만 먼저 조회하여 변경이 없으면 재조회하지 않고,
+ * 신규 사용자만 추가된 경우 해당 사용자만 조회하여 인덱스에 반영한다.
+ * 삭제, username 변경 등은 fullReloadInterval 주기의 전체 재조회로 반영된다.
+ * 인덱스가 재적재된 경우 USER_ENTITY 테이블 변경 이벤트를 발행한다.
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@Component
+public class KeycloakUsersIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeycloakUsersIndex.class);
+
+    private static final String METRIC_PREFIX = "keycloak.users.index";
+    private static final String REFRESH_FULL = "full";
+    private static final String REFRESH_INCREMENTAL = "incremental";
+    private static final String REFRESH_UNCHANGED = "unchanged";
+
+    private final KeycloakUsersRepository keycloakUsersRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String realmId;
+    private final long maxStalenessMillis;
+    private final long fullReloadIntervalMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Map<String, Timer> refreshTimers = new HashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Instantiates a new Keycloak users index
+     *
+     * @param keycloakUsersRepository  the keycloak users repository
+     * @param meterRegistry            the meter registry
+     * @param eventPublisher           the event publisher
+     * @param realmId                  the keycloak cp realm id
+     * @param maxStalenessMillis       the max staleness millis
+     * @param fullReloadIntervalMillis the full reload interval millis
+     */
+    @Autowired
+    public KeycloakUsersIndex(KeycloakUsersRepository keycloakUsersRepository, MeterRegistry meterRegistry,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${keycloak.cpRealmId}") String realmId,
+                              @Value("${keycloak.userIndex.maxStaleness:60000}") long maxStalenessMillis,
+                              @Value("${keycloak.userIndex.fullReloadInterval:600000}") long fullReloadIntervalMillis) {
+        this.keycloakUsersRepository = keycloakUsersRepository;
+        this.eventPublisher = eventPublisher;
+        this.realmId = realmId;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.fullReloadIntervalMillis = fullReloadIntervalMillis;
+
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "miss").register(meterRegistry);
+        for (String type : Arrays.asList(REFRESH_FULL, REFRESH_INCREMENTAL, REFRESH_UNCHANGED)) {
+            refreshTimers.put(type, Timer.builder(METRIC_PREFIX + ".refresh").tag("type", type).register(meterRegistry));
+        }
+        Gauge.builder(METRIC_PREFIX + ".staleness", this, KeycloakUsersIndex::getStalenessSeconds).baseUnit("seconds").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, KeycloakUsersIndex::getSize).register(meterRegistry);
+    }
+
+
+    /**
+     * Keycloak 멤버십에 포함된 항목만 필터 (Filter items contained in keycloak membership)
+     * ((username, id) 쌍이 모두 일치하는 항목만 반환)
+     *
+     * @param items      the items
+     * @param usernameFn the username extractor
+     * @param idFn       the keycloak user id extractor
+     * @param <T>        the item type
+     * @return the filtered items
+     */
+    public <T> List<T> filter(Collection<T> items, Function<? super T, String> usernameFn, Function<? super T, String> idFn) {
+        return filter(getMembership(), items, usernameFn, idFn);
+    }
+
+
+    /**
+     * 조회된 Keycloak 멤버십에 포함된 항목만 필터 (Filter items contained in given keycloak membership)
+     *
+     * @param membership the keycloak users membership
+     * @param items      the items
+     * @param usernameFn the username extractor
+     * @param idFn       the keycloak user id extractor
+     * @param <T>        the item type
+     * @return the filtered items
+     */
+    public <T> List<T> filter(KeycloakUsersMembership membership, Collection<T> items,
+                              Function<? super T, String> usernameFn, Function<? super T, String> idFn) {
+        List<T> filtered = membership.filter(items, usernameFn, idFn);
+        hitCounter.increment(filtered.size());
+        missCounter.increment(items.size() - filtered.size());
+        return filtered;
+    }
+
+
+    /**
+     * Keycloak 멤버십 조회 (Get keycloak membership)
+     *
+     * @return the keycloak users membership
+     */
+    public KeycloakUsersMembership getMembership() {
+        return getSnapshot().membership;
+    }
+
+
+    /**
+     * 마지막으로 적재된 Keycloak 멤버십 조회 (Get last loaded keycloak membership)
+     * (갱신하지 않음, 적재 전인 경우 null)
+     *
+     * @return the keycloak users membership
+     */
+    public KeycloakUsersMembership getLastMembership() {
+        Snapshot current = this.snapshot;
+        return (current == null) ? null : current.membership;
+    }
+
+
+    /**
+     * 갱신 없이 조회 가능한지 여부 (Whether index is within max staleness)
+     *
+     * @return the boolean
+     */
+    public boolean isFresh() {
+        Snapshot current = this.snapshot;
+        return current != null && System.currentTimeMillis() - current.refreshedAt <= maxStalenessMillis;
+    }
+
+
+    /**
+     * 인덱스 주기 갱신 (Refresh index periodically)
+     */
+    @Scheduled(fixedDelayString = "${keycloak.userIndex.refreshInterval:10000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOGGER.error("Keycloak users index refresh failed :: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 인덱스 갱신 (Refresh index)
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Snapshot current = this.snapshot;
+            long now = System.currentTimeMillis();
+
+            if (current == null || now - current.fullReloadedAt >= fullReloadIntervalMillis) {
+                fullReload();
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            Object[] summary = keycloakUsersRepository.getRealmUsersSummary(realmId).get(0);
+            long count = ((Number) summary[0]).longValue();
+            Long maxCreatedTimestamp = (summary[1] == null) ? null : ((Number) summary[1]).longValue();
+
+            if (count == current.count && Objects.equals(maxCreatedTimestamp, current.maxCreatedTimestamp)) {
+                this.snapshot = current.refreshedAt(now);
+                refreshTimers.get(REFRESH_UNCHANGED).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            // 신규 사용자만 추가된 경우 (추가된 사용자 수와 전체 사용자 수 증가분이 일치)
+            if (current.maxCreatedTimestamp != null && count > current.count) {
+                List<KeycloakUsers> addedUsers = keycloakUsersRepository.findAllByRealmIdAndCreatedTimestampGreaterThan(realmId, current.maxCreatedTimestamp);
+                if (current.count + addedUsers.size() == count) {
+                    this.snapshot = current.append(addedUsers, maxCreatedTimestamp, now);
+                    eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_KEYCLOAK_USERS));
+                    refreshTimers.get(REFRESH_INCREMENTAL).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            }
+
+            fullReload();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+
+    /**
+     * 인덱스 전체 재조회 (Reload whole index)
+     */
+    private void fullReload() {
+        long startTime = System.nanoTime();
+        List<KeycloakUsers> keycloakUsersList = keycloakUsersRepository.findAllByRealmId(realmId);
+        this.snapshot = Snapshot.of(keycloakUsersList, System.currentTimeMillis());
+        eventPublisher.publishEvent(TableChangedEvent.of(Constants.TABLE_KEYCLOAK_USERS));
+        refreshTimers.get(REFRESH_FULL).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        LOGGER.info("Keycloak users index reloaded :: {} users", keycloakUsersList.size());
+    }
+
+
+    /**
+     * 인덱스 스냅샷 조회 (Get index snapshot)
+     * (최초 조회 또는 maxStaleness 초과 시 동기 갱신)
+     *
+     * @return the snapshot
+     */
+    private Snapshot getSnapshot() {
+        if (!isFresh()) {
+            refresh();
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * 인덱스 경과 시간 조회 (Get index staleness seconds)
+     *
+     * @return the staleness seconds
+     */
+    public double getStalenessSeconds() {
+        Snapshot current = this.snapshot;
+        return (current == null) ? Double.NaN : (System.currentTimeMillis() - current.refreshedAt) / 1000.0;
+    }
+
+    /**
+     * 인덱스 사용자 수 조회 (Get index size)
+     *
+     * @return the size
+     */
+    public double getSize() {
+        Snapshot current = this.snapshot;
+        return (current == null) ? Double.NaN : current.count;
+    }
+
+
+    /**
+     * 인덱스 스냅샷 (불변)
+     */
+    private static final class Snapshot {
+        private final KeycloakUsersMembership membership;
+        private final long count;
+        private final Long maxCreatedTimestamp;
+        private final long fullReloadedAt;
+        private final long refreshedAt;
+
+        private Snapshot(KeycloakUsersMembership membership, long count, Long maxCreatedTimestamp, long fullReloadedAt, long refreshedAt) {
+            this.membership = membership;
+            this.count = count;
+            this.maxCreatedTimestamp = maxCreatedTimestamp;
+            this.fullReloadedAt = fullReloadedAt;
+            this.refreshedAt = refreshedAt;
+        }
+
+        private static Snapshot of(List<KeycloakUsers> keycloakUsersList, long now) {
+            Long maxCreatedTimestamp = null;
+            for (KeycloakUsers keycloakUsers : keycloakUsersList) {
+                maxCreatedTimestamp = max(maxCreatedTimestamp, keycloakUsers.getCreatedTimestamp());
+            }
+            return new Snapshot(KeycloakUsersMembership.of(keycloakUsersList), keycloakUsersList.size(), maxCreatedTimestamp, now, now);
+        }
+
+        private Snapshot append(List<KeycloakUsers> addedUsers, Long maxCreatedTimestamp, long now) {
+            return new Snapshot(membership.with(addedUsers), count + addedUsers.size(), maxCreatedTimestamp, fullReloadedAt, now);
+        }
+
+        private Snapshot refreshedAt(long now) {
+            return new Snapshot(membership, count, maxCreatedTimestamp, fullReloadedAt, now);
+        }
+
+        private static Long max(Long a, Long b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return Math.max(a, b);
+        }
+    }
+}
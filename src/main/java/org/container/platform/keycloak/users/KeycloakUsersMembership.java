@@ -0,0 +1,136 @@
+package org.container.platform.keycloak.users;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Keycloak 사용자 멤버십 클래스
+ * (Keycloak 사용자 id -> username 해시 맵 기반으로 (username, id) 쌍 포함 여부를 O(1)에 판별)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public final class KeycloakUsersMembership {
+
+    private static final KeycloakUsersMembership EMPTY = new KeycloakUsersMembership(Collections.emptyMap(), Collections.emptySet());
+
+    private final Map<String, String> usernamesById;
+    private final Set<String> usernames;
+
+    private KeycloakUsersMembership(Map<String, String> usernamesById, Set<String> usernames) {
+        this.usernamesById = usernamesById;
+        this.usernames = usernames;
+    }
+
+
+    /**
+     * 빈 멤버십 조회 (Get empty membership)
+     *
+     * @return the keycloak users membership
+     */
+    public static KeycloakUsersMembership empty() {
+        return EMPTY;
+    }
+
+
+    /**
+     * Keycloak 사용자 목록으로 멤버십 생성 (Create membership from keycloak users)
+     *
+     * @param keycloakUsersList the keycloak users list
+     * @return the keycloak users membership
+     */
+    public static KeycloakUsersMembership of(Collection<KeycloakUsers> keycloakUsersList) {
+        return EMPTY.with(keycloakUsersList);
+    }
+
+
+    /**
+     * 사용자를 추가한 새 멤버십 생성 (Create membership with added keycloak users)
+     *
+     * @param addedUsers the added keycloak users
+     * @return the keycloak users membership
+     */
+    public KeycloakUsersMembership with(Collection<KeycloakUsers> addedUsers) {
+        int capacity = capacity(usernamesById.size() + addedUsers.size());
+        Map<String, String> newUsernamesById = new HashMap<>(capacity);
+        Set<String> newUsernames = new HashSet<>(capacity);
+        newUsernamesById.putAll(usernamesById);
+        newUsernames.addAll(usernames);
+
+        for (KeycloakUsers keycloakUsers : addedUsers) {
+            newUsernamesById.put(keycloakUsers.getId(), keycloakUsers.getUsername());
+            newUsernames.add(keycloakUsers.getUsername());
+        }
+
+        return new KeycloakUsersMembership(newUsernamesById, newUsernames);
+    }
+
+
+    /**
+     * (username, id) 쌍 포함 여부 확인 (Check (username, id) pair membership)
+     *
+     * @param username the username
+     * @param id       the keycloak user id
+     * @return the boolean
+     */
+    public boolean contains(String username, String id) {
+        return username != null && id != null && username.equals(usernamesById.get(id));
+    }
+
+
+    /**
+     * username 포함 여부 확인 (Check username membership)
+     *
+     * @param username the username
+     * @return the boolean
+     */
+    public boolean containsUsername(String username) {
+        return usernames.contains(username);
+    }
+
+
+    /**
+     * id 포함 여부 확인 (Check keycloak user id membership)
+     *
+     * @param id the keycloak user id
+     * @return the boolean
+     */
+    public boolean containsId(String id) {
+        return usernamesById.containsKey(id);
+    }
+
+
+    /**
+     * 멤버십에 포함된 항목만 필터 (Filter items contained in membership)
+     *
+     * @param items      the items
+     * @param usernameFn the username extractor
+     * @param idFn       the keycloak user id extractor
+     * @param <T>        the item type
+     * @return the filtered items
+     */
+    public <T> List<T> filter(Collection<T> items, Function<? super T, String> usernameFn, Function<? super T, String> idFn) {
+        List<T> filtered = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (contains(usernameFn.apply(item), idFn.apply(item))) {
+                filtered.add(item);
+            }
+        }
+        return filtered;
+    }
+
+
+    /**
+     * 멤버십 사용자 수 조회 (Get membership size)
+     *
+     * @return the size
+     */
+    public int size() {
+        return usernamesById.size();
+    }
+
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+}
@@ -1,7 +1,13 @@
 package org.container.platform.keycloak.users;
 
+import jakarta.persistence.QueryHint;
+import org.container.platform.common.api.common.Constants;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,7 +22,15 @@ import java.util.List;
 @Repository
 public interface KeycloakUsersRepository extends JpaRepository<KeycloakUsers, Long>, JpaSpecificationExecutor<KeycloakUsers> {
 
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = Constants.KEYCLOAK_QUERY_TIMEOUT))
     List<KeycloakUsers> findAllByRealmId (String realmId);
 
     List<KeycloakUsers> findAllByRealmIdAndIdAndUsername(String realmId, String id, String username);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = Constants.KEYCLOAK_QUERY_TIMEOUT))
+    List<KeycloakUsers> findAllByRealmIdAndCreatedTimestampGreaterThan(String realmId, Long createdTimestamp);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = Constants.KEYCLOAK_QUERY_TIMEOUT))
+    @Query(value = "SELECT COUNT(*), MAX(created_timestamp) FROM USER_ENTITY WHERE realm_id = :realmId ;", nativeQuery = true)
+    List<Object[]> getRealmUsersSummary(@Param("realmId") String realmId);
 }
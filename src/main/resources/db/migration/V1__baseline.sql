@@ -0,0 +1,141 @@
+-- 컨테이너 플랫폼 공통 API 기준 스키마 (cp DB)
+-- 기존 운영 DB 는 baseline-on-migrate 로 V1 을 기준점으로 등록하고 V2 부터 적용
+-- cp_metric_cluster_status, cp_metric_node_status 테이블은 메트릭 수집기에서 관리
+-- 운영 DB 덤프 전 엔티티 매핑 기준 스키마, 배포 전 db/dump-baseline.sh 로 운영 DB 스키마 덤프에서 다시 생성 (db/README.md)
+-- (날짜 컬럼은 기준 엔티티의 문자열 매핑 기준 VARCHAR, created, last_modified 등은 yyyy-MM-dd HH:mm:ss, measurement_time 은 yyyy-MM-dd'T'HH:mm:ss)
+CREATE TABLE IF NOT EXISTS cp_clusters (
+    cluster_id    VARCHAR(255) NOT NULL,
+    name          VARCHAR(255),
+    cluster_type  VARCHAR(255),
+    provider_type VARCHAR(255),
+    ssh_key       VARCHAR(255),
+    description   VARCHAR(255),
+    created       VARCHAR(255) NOT NULL,
+    last_modified VARCHAR(255) NOT NULL,
+    status        VARCHAR(1),
+    PRIMARY KEY (cluster_id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_users (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    cluster_id           VARCHAR(255) NOT NULL,
+    user_id              VARCHAR(255) NOT NULL,
+    user_auth_id         VARCHAR(255) NOT NULL,
+    namespace            VARCHAR(255) NOT NULL,
+    user_type            VARCHAR(255) NOT NULL,
+    role_set_code        VARCHAR(255) NOT NULL,
+    service_account_name VARCHAR(255) NOT NULL,
+    created              VARCHAR(255) NOT NULL,
+    last_modified        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_cluster_log (
+    cluster_id    VARCHAR(255) NOT NULL,
+    process_no    INT          NOT NULL,
+    log_message   TEXT,
+    reg_timestamp VARCHAR(255),
+    PRIMARY KEY (cluster_id, process_no)
+);
+
+CREATE TABLE IF NOT EXISTS cp_cluster_ssh_key (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255) NOT NULL,
+    provider      VARCHAR(255) NOT NULL,
+    created       VARCHAR(255) NOT NULL,
+    last_modified VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_cloud_accounts (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255),
+    provider      VARCHAR(255),
+    region        VARCHAR(255),
+    project       VARCHAR(255),
+    site          VARCHAR(255),
+    created       VARCHAR(255) NOT NULL,
+    last_modified VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_hcl_templates (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255),
+    provider      VARCHAR(255),
+    hcl_script    TEXT,
+    region        VARCHAR(255),
+    created       VARCHAR(255) NOT NULL,
+    last_modified VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_resource_quotas (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(255),
+    request_cpu    VARCHAR(255),
+    request_memory VARCHAR(255),
+    limit_cpu      VARCHAR(255),
+    limit_memory   VARCHAR(255),
+    status         VARCHAR(255),
+    created        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_limit_ranges (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(255),
+    type            VARCHAR(255),
+    resource        VARCHAR(255),
+    min             VARCHAR(255),
+    max             VARCHAR(255),
+    default_request VARCHAR(255),
+    default_limit   VARCHAR(255),
+    created         VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_vault_database_secret (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255),
+    namespace     VARCHAR(255),
+    db_type       VARCHAR(255) NOT NULL,
+    app_name      VARCHAR(255),
+    app_namespace VARCHAR(255),
+    status        VARCHAR(255) NOT NULL,
+    flag          VARCHAR(255) NOT NULL,
+    created       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_cp_vault_database_secret_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS cp_stress_chaos (
+    chaos_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    chaos_name    VARCHAR(255),
+    namespaces    VARCHAR(255),
+    creation_time VARCHAR(255),
+    end_time      VARCHAR(255),
+    duration      VARCHAR(255),
+    PRIMARY KEY (chaos_id)
+);
+
+CREATE TABLE IF NOT EXISTS cp_chaos_resource (
+    resource_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    chaos_id      BIGINT,
+    resource_name VARCHAR(255),
+    type          VARCHAR(255),
+    choice        INT          NOT NULL,
+    generate_name VARCHAR(255),
+    PRIMARY KEY (resource_id),
+    CONSTRAINT fk_cp_chaos_resource_chaos FOREIGN KEY (chaos_id) REFERENCES cp_stress_chaos (chaos_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS cp_chaos_resource_usage (
+    resource_id      BIGINT       NOT NULL,
+    measurement_time VARCHAR(255) NOT NULL,
+    cpu              BIGINT,
+    memory           BIGINT,
+    app_status       INT,
+    PRIMARY KEY (resource_id, measurement_time),
+    CONSTRAINT fk_cp_chaos_resource_usage_resource FOREIGN KEY (resource_id) REFERENCES cp_chaos_resource (resource_id) ON DELETE CASCADE
+);
@@ -0,0 +1,7 @@
+-- 사용자 프로젝션 테이블 (기본 네임스페이스에 등록된 사용자별 최근 맵핑 id)
+-- 생성 후 애플리케이션 기동 시 또는 POST /users/projection/rebuild 호출 시 데이터 재구성
+CREATE TABLE IF NOT EXISTS cp_users_projection (
+    user_id   VARCHAR(255) NOT NULL,
+    latest_id BIGINT       NOT NULL,
+    PRIMARY KEY (user_id)
+);
@@ -0,0 +1,29 @@
+-- cp_users 조회 패턴별 복합 인덱스
+-- (UsersRepository, UsersRepositoryImpl 쿼리 조건 순서: 동등 조건 -> 범위/부정 조건 -> 정렬 컬럼)
+
+-- 클러스터별 사용자 유형 조회 (클러스터 관리자 목록, 네임스페이스 사용자 목록, 비활성 사용자 제외 조건)
+-- cluster_id = ? AND user_type = ? [AND namespace (= | !=) ?] [AND user_auth_id = ?]
+CREATE INDEX IF NOT EXISTS ix_cp_users_cluster_type_ns ON cp_users (cluster_id, user_type, namespace, user_auth_id);
+
+-- 기본 네임스페이스 사용자 목록 (keyset 페이지 정렬 포함)
+-- namespace = :defaultNamespace AND user_type = :authUser ORDER BY created DESC, id DESC
+CREATE INDEX IF NOT EXISTS ix_cp_users_ns_type_created ON cp_users (namespace, user_type, created, id);
+
+-- 네임스페이스별 사용자 조회, 사용자 목록 표시 여부 상관 서브쿼리
+-- namespace = ? AND user_id = ?
+CREATE INDEX IF NOT EXISTS ix_cp_users_ns_user ON cp_users (namespace, user_id);
+
+-- 사용자 인증 id 기준 조회 및 활성 사용자 조인
+-- user_auth_id = ? [AND cluster_id = ?] [AND namespace = ?]
+CREATE INDEX IF NOT EXISTS ix_cp_users_auth_cluster_ns ON cp_users (user_auth_id, cluster_id, namespace);
+
+-- 사용자 id 기준 조회 (최근 생성 순)
+-- user_id = ? ORDER BY created DESC
+CREATE INDEX IF NOT EXISTS ix_cp_users_user_created ON cp_users (user_id, created);
+
+-- 사용자 유형별 사용자 조회 (클러스터 관리자 제외 서브쿼리)
+-- user_type = ? [AND user_id = ?]
+CREATE INDEX IF NOT EXISTS ix_cp_users_type_user ON cp_users (user_type, user_id);
+
+-- 클러스터 유형별 클러스터 조회 (사용자 목록 조인)
+CREATE INDEX IF NOT EXISTS ix_cp_clusters_type ON cp_clusters (cluster_type);
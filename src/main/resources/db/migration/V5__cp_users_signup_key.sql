@@ -0,0 +1,23 @@
+-- 가입 등록 행 유일 키, SUPER-ADMIN 가입 잠금 행
+-- 등록 행이 아직 없는 사용자의 동시 가입 요청은 행 잠금 조회 시 InnoDB 갭 잠금만 획득하므로 양쪽 모두 조회를 통과하므로
+-- 등록 행 (HOST 클러스터 기본 네임스페이스의 USER 권한 행) 의 signup_auth_id 유일 키로 두 번째 INSERT 를 거부한다.
+-- signup_auth_id 는 애플리케이션이 등록 행 INSERT 시 user_auth_id 로 설정하며 (그 외 행은 NULL), 이후 변경하지 않는다.
+
+-- 기존 중복 등록 행이 있으면 유일 인덱스 생성이 실패하여 마이그레이션이 중단된다.
+-- 적용 전 아래 조회로 중복 등록 행을 확인하고 운영 절차에 따라 정리한 후 다시 적용한다.
+--   SELECT cluster_id, user_auth_id, COUNT(*) FROM cp_users
+--   WHERE namespace = '<cp.defaultNamespace>' AND user_type = 'USER' GROUP BY cluster_id, user_auth_id HAVING COUNT(*) > 1;
+ALTER TABLE cp_users ADD COLUMN IF NOT EXISTS signup_auth_id VARCHAR(255);
+
+-- 기존 등록 행 설정 (적용 시점의 기본 네임스페이스 기준, ${defaultNamespace} 는 spring.flyway.placeholders.defaultNamespace)
+UPDATE cp_users SET signup_auth_id = user_auth_id WHERE namespace = '${defaultNamespace}' AND user_type = 'USER';
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_cp_users_signup ON cp_users (signup_auth_id, cluster_id);
+
+-- SUPER-ADMIN 가입 잠금 행 (항상 존재하는 행을 잠그므로 동시 SUPER-ADMIN 가입 요청은 갭 잠금이 아닌 행 잠금으로 순서대로 처리)
+CREATE TABLE IF NOT EXISTS cp_users_signup_locks (
+    lock_name VARCHAR(64) NOT NULL,
+    PRIMARY KEY (lock_name)
+);
+
+INSERT INTO cp_users_signup_locks (lock_name) VALUES ('SUPER_ADMIN');
@@ -0,0 +1,3 @@
+-- 사용자 검색 인덱스 변경 반영 조회 (UsersSearchIndex 갱신)
+-- last_modified >= ? , MAX(last_modified)
+CREATE INDEX IF NOT EXISTS ix_cp_users_last_modified ON cp_users (last_modified, user_id);
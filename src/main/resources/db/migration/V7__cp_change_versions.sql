@@ -0,0 +1,7 @@
+-- 테이블 변경 버전 (ChangeVersions, 목록 조회 ETag)
+-- 모든 인스턴스가 공유하며 변경 트랜잭션 커밋 직전에 같은 트랜잭션에서 증가
+CREATE TABLE IF NOT EXISTS cp_change_versions (
+    table_name VARCHAR(64) NOT NULL,
+    version    BIGINT      NOT NULL,
+    PRIMARY KEY (table_name)
+);
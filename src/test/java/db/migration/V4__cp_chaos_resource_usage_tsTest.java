@@ -0,0 +1,89 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * V4 chaos 리소스 사용량 측정 시각 변환 마이그레이션 Test 클래스
+ * (H2 MySQL 모드에 V3 까지 적용 후 measurement_time 형식별 변환, 변환 실패 시 중단 확인)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class V4__cp_chaos_resource_usage_tsTest {
+
+    @Test
+    public void migrate_Varchar_Measurement_Time() {
+        DriverManagerDataSource dataSource = dataSource("cp_v4_varchar");
+        JdbcTemplate jdbcTemplate = migrateToV3(dataSource, "VARCHAR(255)");
+        insertUsage(jdbcTemplate, "2026-10-18T10:00:00", 100L);
+        insertUsage(jdbcTemplate, "2026-10-18T10:00:10", 110L);
+
+        flyway(dataSource, "4").migrate();
+
+        assertEquals(Arrays.asList(1792317600L, 1792317610L), jdbcTemplate.queryForList("SELECT ts FROM cp_chaos_resource_usage ORDER BY ts", Long.class));
+        assertEquals(Integer.valueOf(2), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + V4__cp_chaos_resource_usage_ts.BACKUP_TABLE, Integer.class));
+    }
+
+    @Test
+    public void migrate_Datetime_Measurement_Time() {
+        DriverManagerDataSource dataSource = dataSource("cp_v4_datetime");
+        JdbcTemplate jdbcTemplate = migrateToV3(dataSource, "DATETIME");
+        insertUsage(jdbcTemplate, "2026-10-18 10:00:00", 100L);
+
+        flyway(dataSource, "4").migrate();
+
+        assertEquals(Collections.singletonList(1792317600L), jdbcTemplate.queryForList("SELECT ts FROM cp_chaos_resource_usage", Long.class));
+    }
+
+    @Test
+    public void migrate_Unparsable_Measurement_Time_Aborts() {
+        DriverManagerDataSource dataSource = dataSource("cp_v4_invalid");
+        JdbcTemplate jdbcTemplate = migrateToV3(dataSource, "VARCHAR(255)");
+        insertUsage(jdbcTemplate, "2026-10-18T10:00:00", 100L);
+        insertUsage(jdbcTemplate, "not-a-time", 110L);
+
+        try {
+            flyway(dataSource, "4").migrate();
+            fail("unparsable measurement_time migrated");
+        } catch (FlywayException e) {
+            // 기존 테이블 유지
+            List<String> times = jdbcTemplate.queryForList("SELECT measurement_time FROM cp_chaos_resource_usage ORDER BY cpu", String.class);
+            assertEquals(Arrays.asList("2026-10-18T10:00:00", "not-a-time"), times);
+        }
+    }
+
+    private static DriverManagerDataSource dataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static JdbcTemplate migrateToV3(DriverManagerDataSource dataSource, String measurementTimeType) {
+        flyway(dataSource, "3").migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("ALTER TABLE cp_chaos_resource_usage MODIFY COLUMN measurement_time " + measurementTimeType + " NOT NULL");
+        jdbcTemplate.update("INSERT INTO cp_stress_chaos (chaos_id, chaos_name) VALUES (1, 'chaos')");
+        jdbcTemplate.update("INSERT INTO cp_chaos_resource (resource_id, chaos_id, resource_name, type, choice) VALUES (1, 1, 'pod', 'pod', 1)");
+        return jdbcTemplate;
+    }
+
+    private static Flyway flyway(DriverManagerDataSource dataSource, String target) {
+        return Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target)
+                .placeholders(Collections.singletonMap("defaultNamespace", "cp-portal-temp-namespace")).load();
+    }
+
+    private static void insertUsage(JdbcTemplate jdbcTemplate, String measurementTime, long cpu) {
+        jdbcTemplate.update("INSERT INTO cp_chaos_resource_usage (resource_id, measurement_time, cpu, memory, app_status) VALUES (1, ?, ?, ?, 1)",
+                measurementTime, cpu, cpu * 10);
+    }
+}
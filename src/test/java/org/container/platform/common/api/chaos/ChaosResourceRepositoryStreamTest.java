@@ -0,0 +1,114 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.container.platform.common.api.common.StreamingListWriter;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * ChaosResource Repository Stream Test 클래스
+ * (H2 MySQL 모드에서 리소스 목록 스트리밍 시 커서 외 추가 조회가 발생하지 않는지 확인)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChaosResourceRepositoryStreamTest {
+    private static final String URL = "jdbc:h2:mem:cp_chaos_resource_stream;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int FLUSH_INTERVAL = 2;
+    private static final int RESOURCE_COUNT = 7;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static EntityManagerFactory entityManagerFactory;
+    private static ChaosResourceRepository chaosResourceRepository;
+    private static StreamingListWriter streamingListWriter;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .placeholders(Collections.singletonMap("defaultNamespace", "cp-portal-temp-namespace")).load().migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO cp_stress_chaos (chaos_id, chaos_name) VALUES (1, 'chaos')");
+        jdbcTemplate.update("INSERT INTO cp_stress_chaos (chaos_id, chaos_name) VALUES (2, 'other')");
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO cp_chaos_resource (chaos_id, resource_name, type, choice) VALUES (1, ?, 'pod', 1)", "pod-" + i);
+        }
+        jdbcTemplate.update("INSERT INTO cp_chaos_resource (chaos_id, resource_name, type, choice) VALUES (2, 'other-pod', 'pod', 1)");
+
+        Properties properties = new Properties();
+        properties.setProperty("hibernate.generate_statistics", "true");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ChaosResource.class.getPackage().getName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        chaosResourceRepository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(ChaosResourceRepository.class, RepositoryFragments.just(new ChaosResourceRepositoryImpl(jdbcTemplate)));
+
+        streamingListWriter = new StreamingListWriter(objectMapper, new JpaTransactionManager(entityManagerFactory), FLUSH_INTERVAL);
+        ReflectionTestUtils.setField(streamingListWriter, "entityManager",
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        entityManagerFactory.close();
+    }
+
+    @Before
+    public void setUp() {
+        statistics().clear();
+    }
+
+    @Test
+    public void streamAllByChaosId_Single_Query_Across_Flush_Intervals() throws Exception {
+        ChaosResourceList envelope = new ChaosResourceList();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        streamingListWriter.stream(envelope, () -> chaosResourceRepository.streamAllByChaosId(1L)).getBody().writeTo(outputStream);
+        JsonNode items = objectMapper.readTree(outputStream.toByteArray()).get("items");
+
+        List<String> names = new ArrayList<>();
+        items.forEach(item -> names.add(item.get("resourceName").asText()));
+
+        assertEquals(RESOURCE_COUNT, names.size());
+        assertEquals("chaos", items.get(RESOURCE_COUNT - 1).get("stressChaos").get("chaosName").asText());
+        // 청크마다 영속성 컨텍스트를 비워도 StressChaos 추가 조회 없이 커서 조회 1 건만 실행
+        assertEquals(1L, statistics().getPrepareStatementCount());
+    }
+
+    private static Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
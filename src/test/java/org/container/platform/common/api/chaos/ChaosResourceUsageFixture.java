@@ -0,0 +1,50 @@
+package org.container.platform.common.api.chaos;
+
+/**
+ * ChaosResourceUsage Test Fixture 클래스
+ * (chaos 패키지 테스트에서 공통으로 사용하는 리소스 사용량 생성)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+final class ChaosResourceUsageFixture {
+
+    private ChaosResourceUsageFixture() {
+    }
+
+    /**
+     * 리소스 사용량 생성 (Create chaos resource usage)
+     *
+     * @param resourceId the resource id
+     * @param ts         the epoch second
+     * @param cpu        the cpu
+     * @param memory     the memory
+     * @return the chaos resource usage
+     */
+    static ChaosResourceUsage chaosResourceUsage(long resourceId, long ts, Long cpu, Long memory) {
+        ChaosResourceUsageId chaosResourceUsageId = new ChaosResourceUsageId();
+        chaosResourceUsageId.setResourceId(resourceId);
+        chaosResourceUsageId.setTs(ts);
+
+        ChaosResourceUsage chaosResourceUsage = new ChaosResourceUsage();
+        chaosResourceUsage.setChaosResourceUsageId(chaosResourceUsageId);
+        chaosResourceUsage.setCpu(cpu);
+        chaosResourceUsage.setMemory(memory);
+        chaosResourceUsage.setAppStatus(1);
+        return chaosResourceUsage;
+    }
+
+    /**
+     * 측정 시간 문자열로 리소스 사용량 생성 (Create chaos resource usage by measurement time)
+     *
+     * @param resourceId      the resource id
+     * @param measurementTime the measurement time (yyyy-MM-dd'T'HH:mm:ss)
+     * @param cpu             the cpu
+     * @param memory          the memory
+     * @return the chaos resource usage
+     */
+    static ChaosResourceUsage chaosResourceUsage(long resourceId, String measurementTime, Long cpu, Long memory) {
+        return chaosResourceUsage(resourceId, ChaosResourceUsageId.toEpochSecond(measurementTime), cpu, memory);
+    }
+}
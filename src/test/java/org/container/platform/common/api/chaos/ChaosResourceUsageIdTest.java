@@ -0,0 +1,44 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * ChaosResourceUsageId Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ChaosResourceUsageIdTest {
+    private static final String MEASUREMENT_TIME = "2026-10-18T10:00:10";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void toEpochSecond_Round_Trip() {
+        long ts = ChaosResourceUsageId.toEpochSecond(MEASUREMENT_TIME);
+
+        assertEquals(LocalDateTime.of(2026, 10, 18, 10, 0, 10).toEpochSecond(ZoneOffset.UTC), ts);
+        assertEquals(MEASUREMENT_TIME, ChaosResourceUsageId.toMeasurementTime(ts));
+    }
+
+    @Test
+    public void json_Measurement_Time() throws Exception {
+        ChaosResourceUsageId chaosResourceUsageId = objectMapper.readValue(
+                "{\"resourceId\":1,\"measurementTime\":\"" + MEASUREMENT_TIME + "\"}", ChaosResourceUsageId.class);
+
+        assertEquals(ChaosResourceUsageId.toEpochSecond(MEASUREMENT_TIME), chaosResourceUsageId.getTs());
+        assertEquals("{\"resourceId\":1,\"measurementTime\":\"" + MEASUREMENT_TIME + "\"}", objectMapper.writeValueAsString(chaosResourceUsageId));
+    }
+}
@@ -0,0 +1,86 @@
+package org.container.platform.common.api.chaos;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.container.platform.common.api.chaos.ChaosResourceUsageFixture.chaosResourceUsage;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * ChaosResourceUsage Repository Impl Test 클래스
+ * (H2 MySQL 모드에 마이그레이션 적용 후 리소스 사용량 배치 upsert 확인)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+public class ChaosResourceUsageRepositoryImplTest {
+    private static final String URL = "jdbc:h2:mem:cp_chaos_usage;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int BATCH_SIZE = 4;
+    private static final long RESOURCE_ID = 1L;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    SimpleMeterRegistry meterRegistry;
+    ChaosResourceUsageRepositoryImpl chaosResourceUsageRepository;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .placeholders(Collections.singletonMap("defaultNamespace", "cp-portal-temp-namespace")).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO cp_stress_chaos (chaos_id, chaos_name) VALUES (1, 'chaos')");
+        jdbcTemplate.update("INSERT INTO cp_chaos_resource (resource_id, chaos_id, resource_name, type, choice) VALUES (?, 1, 'pod', 'pod', 1)", RESOURCE_ID);
+    }
+
+    @Before
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM cp_chaos_resource_usage");
+        meterRegistry = new SimpleMeterRegistry();
+        chaosResourceUsageRepository = new ChaosResourceUsageRepositoryImpl(jdbcTemplate, meterRegistry, BATCH_SIZE);
+    }
+
+    @Test
+    public void upsertAll_Splits_Batches() {
+        List<ChaosResourceUsage> usages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            usages.add(chaosResourceUsage(RESOURCE_ID, String.format("2026-10-18T10:00:%02d", i), 100L + i, 200L + i));
+        }
+
+        assertEquals(10, chaosResourceUsageRepository.upsertAll(usages));
+
+        assertEquals(Integer.valueOf(10), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_chaos_resource_usage", Integer.class));
+        assertEquals(3L, meterRegistry.get("chaos.usage.ingest.batch").timer().count());
+        assertEquals(10.0, meterRegistry.get("chaos.usage.ingest.rows").counter().count(), 0.0);
+    }
+
+    @Test
+    public void upsertAll_Resent_Sample_Updated() {
+        chaosResourceUsageRepository.upsertAll(Collections.singletonList(chaosResourceUsage(RESOURCE_ID, "2026-10-18T10:00:00", 100L, 200L)));
+        chaosResourceUsageRepository.upsertAll(Collections.singletonList(chaosResourceUsage(RESOURCE_ID, "2026-10-18T10:00:00", 150L, null)));
+
+        assertEquals(Integer.valueOf(1), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_chaos_resource_usage", Integer.class));
+        assertEquals(Long.valueOf(150L), jdbcTemplate.queryForObject("SELECT cpu FROM cp_chaos_resource_usage", Long.class));
+        assertEquals(null, jdbcTemplate.queryForObject("SELECT memory FROM cp_chaos_resource_usage", Long.class));
+    }
+
+    @Test
+    public void upsertAll_Empty() {
+        assertEquals(0, chaosResourceUsageRepository.upsertAll(new ArrayList<>()));
+        assertEquals(0L, meterRegistry.get("chaos.usage.ingest.batch").timer().count());
+    }
+}
@@ -0,0 +1,111 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Chaos Resource Usage Stream Reader Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ChaosResourceUsageStreamReaderTest {
+    private static final int BATCH_SIZE = 2;
+
+    private static List<List<Long>> savedBatches = null;
+    private static List<ChaosResourceUsageSavedEvent> savedEvents = null;
+
+    @Mock
+    ChaosResourceUsageRepository chaosResourceUsageRepository;
+
+    ChaosResourceUsageStreamReader chaosResourceUsageStreamReader;
+
+    @Before
+    public void setUp() {
+        savedBatches = new ArrayList<>();
+        savedEvents = new ArrayList<>();
+        when(chaosResourceUsageRepository.upsertAll(any())).thenAnswer(x -> {
+            List<ChaosResourceUsage> batch = x.getArgument(0);
+            List<Long> cpu = new ArrayList<>();
+            batch.forEach(usage -> cpu.add(usage.getCpu()));
+            savedBatches.add(cpu);
+            return batch.size();
+        });
+        chaosResourceUsageStreamReader = new ChaosResourceUsageStreamReader(new ObjectMapper(), chaosResourceUsageRepository,
+                event -> savedEvents.add((ChaosResourceUsageSavedEvent) event), BATCH_SIZE);
+    }
+
+    @Test
+    public void upsertAll_Batches_Lines() throws Exception {
+        long count = chaosResourceUsageStreamReader.upsertAll(ndjson(
+                line(1, "10:00:00", 100) + line(1, "10:00:10", 110) + line(2, "10:00:00", 200) + "\n" + line(2, "10:00:10", 210) + line(3, "10:00:00", 300)));
+
+        assertEquals(5L, count);
+        assertEquals(3, savedBatches.size());
+        assertEquals(List.of(100L, 110L), savedBatches.get(0));
+        assertEquals(List.of(300L), savedBatches.get(2));
+        assertEquals(3, savedEvents.size());
+        assertEquals(2, savedEvents.get(0).getChaosResourceUsages().size());
+        assertEquals(Long.valueOf(300L), savedEvents.get(2).getChaosResourceUsages().get(0).getCpu());
+    }
+
+    @Test
+    public void upsertAll_Measurement_Time_To_Ts() throws Exception {
+        List<ChaosResourceUsage> saved = new ArrayList<>();
+        doAnswer(x -> {
+            saved.addAll(x.getArgument(0));
+            return 1;
+        }).when(chaosResourceUsageRepository).upsertAll(any());
+
+        chaosResourceUsageStreamReader.upsertAll(ndjson(line(7, "10:00:10", 100)));
+
+        assertEquals(7L, saved.get(0).getChaosResourceUsageId().getResourceId());
+        assertEquals(ChaosResourceUsageId.toEpochSecond("2026-10-18T10:00:10"), saved.get(0).getChaosResourceUsageId().getTs());
+    }
+
+    @Test
+    public void upsertAll_Malformed_Line_Keeps_Saved_Batches() throws Exception {
+        try {
+            chaosResourceUsageStreamReader.upsertAll(ndjson(line(1, "10:00:00", 100) + line(1, "10:00:10", 110) + "{\"cpu\": \n"));
+            fail();
+        } catch (JsonProcessingException e) {
+            assertEquals(1, savedBatches.size());
+        }
+    }
+
+    @Test
+    public void upsertAll_Empty_Stream() throws Exception {
+        assertEquals(0L, chaosResourceUsageStreamReader.upsertAll(ndjson("")));
+        assertEquals(0, savedBatches.size());
+    }
+
+    private static String line(long resourceId, String time, long cpu) {
+        return "{\"chaosResourceUsageId\":{\"resourceId\":" + resourceId + ",\"measurementTime\":\"2026-10-18T" + time + "\"}," +
+                "\"cpu\":" + cpu + ",\"memory\":" + (cpu * 10) + ",\"appStatus\":1}\n";
+    }
+
+    private static InputStream ndjson(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,220 @@
+package org.container.platform.common.api.chaos;
+
+import org.container.platform.common.api.common.CommonService;
+import org.container.platform.common.api.common.Constants;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.container.platform.common.api.chaos.ChaosResourceUsageFixture.chaosResourceUsage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Chaos Service Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ChaosServiceTest {
+    private static final long CHAOS_ID = 1L;
+    private static final String CHAOS_NAME = "chaos";
+
+    private static ChaosResourceList chaosResourceList = null;
+    private static ChaosResourceList gFinalChaosResourceList = null;
+
+    @Mock
+    CommonService commonService;
+
+    @Mock
+    StressChaosRepository stressChaosRepository;
+
+    @Mock
+    ChaosResourceRepository chaosResourceRepository;
+
+    @Mock
+    ChaosResourceUsageRepository chaosResourceUsageRepository;
+
+    @Mock
+    ChaosResourceUsageStreamReader chaosResourceUsageStreamReader;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(10L, 120L);
+
+    @InjectMocks
+    ChaosService chaosService;
+
+    @Before
+    public void setUp() {
+        chaosResourceList = new ChaosResourceList(Arrays.asList(
+                chaosResource("pod-a"), chaosResource("pod-b"), chaosResource("pod-c"), chaosResource("pod-b")));
+
+        gFinalChaosResourceList = new ChaosResourceList();
+        gFinalChaosResourceList.setResultCode(Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    @Test
+    public void createChaosResources_Inserts_Missing_Only() {
+        when(chaosResourceRepository.findResourceNamesByChaosId(CHAOS_ID)).thenReturn(Collections.singletonList("pod-a"));
+        when(commonService.setResultModel(chaosResourceList, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalChaosResourceList);
+
+        ChaosResourceList result = chaosService.createChaosResources(chaosResourceList);
+
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, result.getResultCode());
+        verify(stressChaosRepository, times(1)).findForResourceRegistration(CHAOS_ID);
+        assertEquals(Arrays.asList("pod-b", "pod-c"), insertedResourceNames());
+        verify(chaosResourceRepository, never()).save(any());
+    }
+
+    @Test
+    public void createChaosResources_Resent_Inserts_Nothing() {
+        when(chaosResourceRepository.findResourceNamesByChaosId(CHAOS_ID)).thenReturn(Arrays.asList("pod-a", "pod-b", "pod-c"));
+        when(commonService.setResultModel(chaosResourceList, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalChaosResourceList);
+
+        chaosService.createChaosResources(chaosResourceList);
+
+        assertEquals(new ArrayList<>(), insertedResourceNames());
+    }
+
+    @Test
+    public void createChaosResources_Insert_Failure() {
+        ChaosResourceList gFailChaosResourceList = new ChaosResourceList();
+        gFailChaosResourceList.setResultCode(Constants.RESULT_STATUS_FAIL);
+        when(chaosResourceRepository.findResourceNamesByChaosId(CHAOS_ID)).thenReturn(new ArrayList<>());
+        when(chaosResourceRepository.insertAll(any())).thenThrow(new RuntimeException("foreign key constraint fails"));
+        when(commonService.setResultModel(chaosResourceList, Constants.RESULT_STATUS_FAIL)).thenReturn(gFailChaosResourceList);
+
+        ChaosResourceList result = chaosService.createChaosResources(chaosResourceList);
+
+        assertEquals(Constants.RESULT_STATUS_FAIL, result.getResultCode());
+        assertEquals("foreign key constraint fails", chaosResourceList.getResultMessage());
+    }
+
+    @Test
+    public void getResourceUsageByPod_Single_Usage_Query() {
+        ChaosResource podA = chaosResource("pod-a", 10L);
+        ChaosResource podB = chaosResource("pod-b", 20L);
+        List<ChaosResourceUsage> usages = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            usages.add(chaosResourceUsage(10L, ts(i), 100L + i, (100L + i) * 2));
+        }
+        usages.add(chaosResourceUsage(20L, ts(1), 200L, 400L));
+        usages.add(chaosResourceUsage(20L, ts(3), 300L, 600L));
+        when(stressChaosRepository.findByName(CHAOS_NAME)).thenReturn(CHAOS_ID);
+        when(chaosResourceRepository.findAllByChoice(CHAOS_ID)).thenReturn(Arrays.asList(podA, podB));
+        when(chaosResourceUsageRepository.findAllByResourceIdsAndTsBetween(Arrays.asList(10L, 20L), 0L, Long.MAX_VALUE)).thenReturn(usages);
+        when(commonService.setResultModel(any(), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(x -> x.getArgument(0));
+
+        ResourceUsageItem resourceUsageItem = chaosService.getResourceUsageByPod(CHAOS_NAME, null, null).getItems().get(0);
+
+        verify(chaosResourceUsageRepository, times(1)).findAllByResourceIdsAndTsBetween(any(), anyLong(), anyLong());
+        assertEquals(Arrays.asList("pod-a", "pod-b"), resourceUsageItem.getResourceName());
+        assertEquals(12, resourceUsageItem.getTime().length);
+        assertEquals(111, resourceUsageItem.getCpu().get(0)[11]);
+        assertArrayEquals(new int[]{-1, 200, -1, 300, -1, -1, -1, -1, -1, -1, -1, -1}, resourceUsageItem.getCpu().get(1));
+        assertEquals(2, resourceUsageItem.getAppStatus().size());
+    }
+
+    @Test
+    public void getResourceUsageByWorkload_Single_Usage_Query() {
+        List<Object[]> usages = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            usages.add(new Object[]{"deploy-a", ts(i), BigDecimal.valueOf(10L * i), BigDecimal.valueOf(20L)});
+        }
+        usages.add(new Object[]{"deploy-b", ts(0), BigDecimal.valueOf(5L), BigDecimal.valueOf(6L)});
+        when(stressChaosRepository.findByName(CHAOS_NAME)).thenReturn(CHAOS_ID);
+        when(chaosResourceUsageRepository.findUsageGroupByGenerateNameAndTs(CHAOS_ID, 0L, Long.MAX_VALUE)).thenReturn(usages);
+        when(commonService.setResultModel(any(), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(x -> x.getArgument(0));
+
+        ResourceUsageItem resourceUsageItem = chaosService.getResourceUsageByWorkload(CHAOS_NAME, null, null).getItems().get(0);
+
+        assertEquals(Arrays.asList("deploy-a", "deploy-b"), resourceUsageItem.getResourceName());
+        assertEquals(110, resourceUsageItem.getCpu().get(0)[11]);
+        assertEquals(5, resourceUsageItem.getCpu().get(1)[0]);
+        assertEquals(-1, resourceUsageItem.getCpu().get(1)[1]);
+        assertEquals(0, resourceUsageItem.getAppStatus().size());
+    }
+
+    @Test
+    public void getChaosResourceUsageList_Time_Range() {
+        List<ChaosResourceUsage> usages = Arrays.asList(chaosResourceUsage(10L, ts(3), 100L, 200L), chaosResourceUsage(10L, ts(4), 110L, 220L));
+        when(stressChaosRepository.findByName(CHAOS_NAME)).thenReturn(CHAOS_ID);
+        when(chaosResourceUsageRepository.findAllByChaosIdAndTsBetween(CHAOS_ID, ts(3), Long.MAX_VALUE)).thenReturn(usages);
+        when(commonService.setResultModel(any(), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(x -> x.getArgument(0));
+
+        ChaosResourceUsageList result = chaosService.getChaosResourceUsageList(CHAOS_NAME, ts(3), null);
+
+        assertEquals(usages, result.getItems());
+    }
+
+    @Test
+    public void getResourceUsageByNode_Time_Range() {
+        ChaosResource node = chaosResource("node-a", 30L);
+        when(stressChaosRepository.findByName(CHAOS_NAME)).thenReturn(CHAOS_ID);
+        when(chaosResourceRepository.findAllByChaosIdAndType(CHAOS_ID, "node")).thenReturn(Collections.singletonList(node));
+        when(chaosResourceUsageRepository.findAllByResourceIdsAndTsBetween(Collections.singletonList(30L), ts(12), ts(23)))
+                .thenReturn(Arrays.asList(chaosResourceUsage(30L, ts(13), 500L, 1000L), chaosResourceUsage(30L, ts(23), 600L, 1200L)));
+        when(commonService.setResultModel(any(), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(x -> x.getArgument(0));
+
+        ResourceUsageItem resourceUsageItem = chaosService.getResourceUsageByNode(CHAOS_NAME, ts(12), ts(23)).getItems().get(0);
+
+        assertEquals(ts(12), resourceUsageItem.getTime()[0]);
+        assertArrayEquals(new int[]{-1, 500, -1, -1, -1, -1, -1, -1, -1, -1, -1, 600}, resourceUsageItem.getCpu().get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> insertedResourceNames() {
+        ArgumentCaptor<List<ChaosResource>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chaosResourceRepository).insertAll(captor.capture());
+        List<String> resourceNames = new ArrayList<>();
+        captor.getValue().forEach(x -> resourceNames.add(x.getResourceName()));
+        return resourceNames;
+    }
+
+    private static ChaosResource chaosResource(String resourceName, long resourceId) {
+        ChaosResource chaosResource = chaosResource(resourceName);
+        chaosResource.setResourceId(resourceId);
+        return chaosResource;
+    }
+
+    private static long ts(int index) {
+        return LocalDateTime.of(2026, 10, 18, 10, 0).toEpochSecond(ZoneOffset.UTC) + index * 10L;
+    }
+
+    private static ChaosResource chaosResource(String resourceName) {
+        StressChaos stressChaos = new StressChaos();
+        stressChaos.setChaosId(CHAOS_ID);
+
+        ChaosResource chaosResource = new ChaosResource();
+        chaosResource.setStressChaos(stressChaos);
+        chaosResource.setResourceName(resourceName);
+        chaosResource.setType("pod");
+        chaosResource.setChoice(1);
+        return chaosResource;
+    }
+}
@@ -0,0 +1,232 @@
+package org.container.platform.common.api.chaos;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.container.platform.common.api.chaos.ChaosResourceUsageFixture.chaosResourceUsage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Chaos Usage Live Feed Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ChaosUsageLiveFeedTest {
+    private static final int MAX_SAMPLES = 4;
+    private static final long DEFAULT_RETENTION = 600L;
+    private static final long SSE_TIMEOUT = 60000L;
+    private static final int SEND_THREADS = 2;
+    private static final long TS = 1792317600L;
+
+    @Mock
+    ChaosResourceRepository chaosResourceRepository;
+
+    ChaosUsageLiveFeed chaosUsageLiveFeed;
+
+    @Before
+    public void setUp() {
+        Map<Long, ChaosResource> chaosResources = new HashMap<>();
+        chaosResources.put(1L, chaosResource(1L, "chaos-a", "30s"));
+        chaosResources.put(2L, chaosResource(2L, "chaos-b", null));
+        when(chaosResourceRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<ChaosResource> found = new ArrayList<>();
+            for (Long resourceId : invocation.<Iterable<Long>>getArgument(0)) {
+                if (chaosResources.containsKey(resourceId)) {
+                    found.add(chaosResources.get(resourceId));
+                }
+            }
+            return found;
+        });
+        chaosUsageLiveFeed = new ChaosUsageLiveFeed(chaosResourceRepository, MAX_SAMPLES, DEFAULT_RETENTION, SSE_TIMEOUT, SEND_THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        chaosUsageLiveFeed.shutdown();
+    }
+
+    @Test
+    public void onUsageSaved_Buffers_By_Chaos() {
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(
+                chaosResourceUsage(1L, TS, 100L, 1000L), chaosResourceUsage(2L, TS, 200L, 2000L), chaosResourceUsage(9L, TS, 900L, 9000L), chaosResourceUsage(1L, TS + 10, 110L, 1100L))));
+
+        List<ChaosResourceUsage> chaosA = chaosUsageLiveFeed.getBufferedUsages("chaos-a");
+        assertEquals(2, chaosA.size());
+        assertEquals(Long.valueOf(110L), chaosA.get(1).getCpu());
+        assertEquals(1, chaosUsageLiveFeed.getBufferedUsages("chaos-b").size());
+        verify(chaosResourceRepository, times(1)).findAllById(new HashSet<>(Arrays.asList(1L, 2L, 9L)));
+    }
+
+    @Test
+    public void onUsageSaved_Looks_Up_Only_Unknown_Resources() {
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS, 100L, 1000L))));
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS + 10, 110L, 1100L), chaosResourceUsage(2L, TS, 200L, 2000L))));
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS + 20, 120L, 1200L), chaosResourceUsage(2L, TS + 10, 210L, 2100L))));
+
+        verify(chaosResourceRepository, times(1)).findAllById(Collections.singleton(1L));
+        verify(chaosResourceRepository, times(1)).findAllById(Collections.singleton(2L));
+        verifyNoMoreInteractions(chaosResourceRepository);
+    }
+
+    @Test
+    public void onUsageSaved_Lookup_Failure_Not_Propagated() {
+        doThrow(new IllegalStateException("connection closed")).when(chaosResourceRepository).findAllById(any());
+
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS, 100L, 1000L))));
+
+        assertTrue(chaosUsageLiveFeed.getBufferedUsages("chaos-a").isEmpty());
+    }
+
+    @Test
+    public void onUsageSaved_Drops_Older_Than_Duration() {
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(
+                chaosResourceUsage(1L, TS, 100L, 1000L), chaosResourceUsage(1L, TS + 20, 120L, 1200L), chaosResourceUsage(1L, TS + 40, 140L, 1400L))));
+
+        List<ChaosResourceUsage> chaosA = chaosUsageLiveFeed.getBufferedUsages("chaos-a");
+        assertEquals(2, chaosA.size());
+        assertEquals(TS + 20, chaosA.get(0).getChaosResourceUsageId().getTs());
+    }
+
+    @Test
+    public void ringBuffer_Overwrites_Oldest_When_Full() {
+        ChaosUsageRingBuffer buffer = new ChaosUsageRingBuffer(MAX_SAMPLES, DEFAULT_RETENTION);
+        for (int i = 0; i < 6; i++) {
+            buffer.append(chaosResourceUsage(1L, TS + i, 100L + i, (100L + i) * 10));
+        }
+
+        List<ChaosResourceUsage> usages = buffer.snapshot();
+        assertEquals(MAX_SAMPLES, usages.size());
+        assertEquals(Long.valueOf(102L), usages.get(0).getCpu());
+        assertEquals(Long.valueOf(105L), usages.get(3).getCpu());
+    }
+
+    @Test
+    public void retentionSeconds_Chaos_Mesh_Duration() {
+        assertEquals(30L, chaosUsageLiveFeed.retentionSeconds("30s"));
+        assertEquals(5400L, chaosUsageLiveFeed.retentionSeconds("1h30m"));
+        assertEquals(DEFAULT_RETENTION, chaosUsageLiveFeed.retentionSeconds(null));
+        assertEquals(DEFAULT_RETENTION, chaosUsageLiveFeed.retentionSeconds("forever"));
+    }
+
+    @Test
+    public void evictIdle_Keeps_Active_Buffers() {
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS, 100L, 1000L))));
+
+        chaosUsageLiveFeed.evictIdle();
+
+        assertEquals(1, chaosUsageLiveFeed.getBufferedUsages("chaos-a").size());
+        assertTrue(new ChaosUsageRingBuffer(MAX_SAMPLES, 30L).isIdle(System.currentTimeMillis() + 31000L));
+    }
+
+    @Test
+    public void subscribe_Uses_Sse_Timeout() {
+        SseEmitter emitter = chaosUsageLiveFeed.subscribe("chaos-a");
+
+        assertEquals(Long.valueOf(SSE_TIMEOUT), emitter.getTimeout());
+    }
+
+    @Test(timeout = 5000L)
+    public void subscribe_Snapshot_Then_Usage() throws Exception {
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS, 100L, 1000L))));
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        chaosUsageLiveFeed.subscribe("chaos-a", emitter);
+        chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS + 10, 110L, 1100L))));
+
+        emitter.awaitSent(2);
+        assertEquals(Arrays.asList(ChaosUsageLiveFeed.EVENT_SNAPSHOT, ChaosUsageLiveFeed.EVENT_USAGE), emitter.eventNames);
+    }
+
+    @Test(timeout = 5000L)
+    public void onUsageSaved_Slow_Subscriber_Does_Not_Block() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        chaosUsageLiveFeed.subscribe("chaos-a", slow);
+        chaosUsageLiveFeed.subscribe("chaos-b", fast);
+
+        try {
+            for (int i = 0; i <= ChaosUsageLiveFeed.MAX_PENDING_BATCHES + 1; i++) {
+                chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(1L, TS + i, 100L, 1000L))));
+            }
+            chaosUsageLiveFeed.onUsageSaved(ChaosResourceUsageSavedEvent.of(Arrays.asList(chaosResourceUsage(2L, TS, 200L, 2000L))));
+
+            fast.awaitSent(2);
+            assertTrue(slow.completed);
+            assertFalse(fast.completed);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * 전송한 이벤트 명을 기록하는 SSE emitter (release 가 있으면 전송 시 대기)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final List<String> eventNames = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String data = builder.build().iterator().next().getData().toString();
+            eventNames.add(data.substring("event:".length(), data.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private void awaitSent(int count) throws InterruptedException {
+            while (eventNames.size() < count) {
+                Thread.sleep(10L);
+            }
+        }
+    }
+
+    private static ChaosResource chaosResource(long resourceId, String chaosName, String duration) {
+        StressChaos stressChaos = new StressChaos();
+        stressChaos.setChaosName(chaosName);
+        stressChaos.setDuration(duration);
+        ChaosResource chaosResource = new ChaosResource();
+        chaosResource.setResourceId(resourceId);
+        chaosResource.setStressChaos(stressChaos);
+        return chaosResource;
+    }
+}
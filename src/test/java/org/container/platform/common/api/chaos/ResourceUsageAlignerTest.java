@@ -0,0 +1,101 @@
+package org.container.platform.common.api.chaos;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.container.platform.common.api.chaos.ChaosResourceUsageFixture.chaosResourceUsage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Resource Usage Aligner Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ResourceUsageAlignerTest {
+
+    @Test
+    public void align_Default_Grid() {
+        ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(10L, 120L);
+        List<ChaosResourceUsage> podA = Arrays.asList(chaosResourceUsage(1L, "2026-10-18T10:00:10", 1L, 1L), chaosResourceUsage(1L, "2026-10-18T10:00:30", 3L, 3L));
+        List<ChaosResourceUsage> podB = Arrays.asList(chaosResourceUsage(1L, "2026-10-18T10:00:00", 5L, 5L), chaosResourceUsage(1L, "2026-10-18T10:01:50", 7L, 7L), chaosResourceUsage(1L, "2026-10-18T10:02:00", 9L, 9L));
+
+        ResourceUsageItem resourceUsageItem = resourceUsageAligner.align(Arrays.asList("pod-a", "pod-b"), Arrays.asList(podA, podB), true, null);
+
+        assertEquals(12, resourceUsageItem.getTime().length);
+        assertEquals(epochSecond("10:00:00"), resourceUsageItem.getTime()[0]);
+        assertEquals(epochSecond("10:01:50"), resourceUsageItem.getTime()[11]);
+        assertArrayEquals(new int[]{-1, 1, -1, 3, -1, -1, -1, -1, -1, -1, -1, -1}, resourceUsageItem.getCpu().get(0));
+        assertArrayEquals(new int[]{5, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 7}, resourceUsageItem.getCpu().get(1));
+        assertEquals(1, resourceUsageItem.getAppStatus().get(1)[0]);
+    }
+
+    @Test
+    public void align_Configured_Step_And_Window() {
+        ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(60L, 3600L);
+        List<ChaosResourceUsage> node = new ArrayList<>();
+        for (int m = 0; m < 60; m += 2) {
+            node.add(chaosResourceUsage(1L, String.format("2026-10-18T10:%02d:15", m), (long) m, (long) m));
+        }
+
+        ResourceUsageItem resourceUsageItem = resourceUsageAligner.align(Collections.singletonList("node"), Collections.singletonList(node), false, null);
+
+        assertEquals(60, resourceUsageItem.getTime().length);
+        assertEquals(epochSecond("10:01:15"), resourceUsageItem.getTime()[1]);
+        assertEquals(58, resourceUsageItem.getCpu().get(0)[58]);
+        assertEquals(-1, resourceUsageItem.getCpu().get(0)[59]);
+        assertEquals(0, resourceUsageItem.getAppStatus().size());
+    }
+
+    @Test
+    public void align_From_Start_Time() {
+        ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(10L, 120L);
+        List<ChaosResourceUsage> podA = Arrays.asList(chaosResourceUsage(1L, "2026-10-18T09:59:50", 1L, 1L), chaosResourceUsage(1L, "2026-10-18T10:00:05", 2L, 2L), chaosResourceUsage(1L, "2026-10-18T10:01:00", 3L, 3L));
+
+        ResourceUsageItem resourceUsageItem = resourceUsageAligner.align(Collections.singletonList("pod-a"),
+                Collections.singletonList(podA), false, epochSecond("10:00:00"));
+
+        assertEquals(epochSecond("10:00:00"), resourceUsageItem.getTime()[0]);
+        assertArrayEquals(new int[]{2, -1, -1, -1, -1, -1, 3, -1, -1, -1, -1, -1}, resourceUsageItem.getCpu().get(0));
+    }
+
+    @Test
+    public void align_Resource_Without_Usage() {
+        ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(10L, 120L);
+
+        ResourceUsageItem resourceUsageItem = resourceUsageAligner.align(Arrays.asList("pod-a", "pod-b"),
+                Arrays.asList(new ArrayList<>(), Collections.singletonList(chaosResourceUsage(1L, "2026-10-18T10:00:00", 5L, 5L))), true, null);
+
+        assertArrayEquals(new int[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1}, resourceUsageItem.getCpu().get(0));
+        assertEquals(5, resourceUsageItem.getCpu().get(1)[0]);
+    }
+
+    @Test
+    public void align_No_Usage() {
+        ResourceUsageAligner resourceUsageAligner = new ResourceUsageAligner(10L, 120L);
+
+        ResourceUsageItem resourceUsageItem = resourceUsageAligner.align(Collections.singletonList("pod-a"),
+                Collections.singletonList(new ArrayList<>()), true, null);
+
+        assertEquals(Collections.singletonList("pod-a"), resourceUsageItem.getResourceName());
+        assertEquals(0, resourceUsageItem.getTime().length);
+        assertEquals(0, resourceUsageItem.getCpu().get(0).length);
+    }
+
+    private static long epochSecond(String time) {
+        return LocalDateTime.parse("2026-10-18T" + time).toEpochSecond(ZoneOffset.UTC);
+    }
+}
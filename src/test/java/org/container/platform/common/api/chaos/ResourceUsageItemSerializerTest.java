@@ -0,0 +1,48 @@
+package org.container.platform.common.api.chaos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * ResourceUsageItem Serializer Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ResourceUsageItemSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void serialize_Existing_Json_Shape() throws Exception {
+        long startTime = LocalDateTime.of(2026, 10, 18, 10, 0).toEpochSecond(ZoneOffset.UTC);
+        ResourceUsageItem resourceUsageItem = new ResourceUsageItem();
+        resourceUsageItem.setTime(new long[]{startTime, startTime + 10});
+        resourceUsageItem.setResourceName(Arrays.asList("pod-a", "pod-b"));
+        resourceUsageItem.setCpu(Arrays.asList(new int[]{1, -1}, new int[]{3, 4}));
+        resourceUsageItem.setMemory(Arrays.asList(new int[]{5, -1}, new int[]{7, 8}));
+        resourceUsageItem.setAppStatus(Arrays.asList(new int[]{1, -1}, new int[]{1, 0}));
+
+        assertEquals("{\"time\":[\"2026-10-18T10:00:00\",\"2026-10-18T10:00:10\"],\"resourceName\":[\"pod-a\",\"pod-b\"]," +
+                        "\"cpu\":[[1,-1],[3,4]],\"memory\":[[5,-1],[7,8]],\"appStatus\":[[1,-1],[1,0]]}",
+                objectMapper.writeValueAsString(resourceUsageItem));
+    }
+
+    @Test
+    public void serialize_Empty_Item() throws Exception {
+        assertEquals("{\"time\":[],\"resourceName\":[],\"cpu\":[],\"memory\":[],\"appStatus\":[]}",
+                objectMapper.writeValueAsString(new ResourceUsageItem()));
+    }
+}
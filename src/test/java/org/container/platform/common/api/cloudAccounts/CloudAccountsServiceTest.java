@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -36,6 +37,8 @@ public class CloudAccountsServiceTest {
     CommonService commonService;
     @Mock
     CloudAccountsRepository cloudAccountsRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
     @InjectMocks
     CloudAccountsService cloudAccountsService;
 
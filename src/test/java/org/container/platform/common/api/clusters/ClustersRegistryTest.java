@@ -0,0 +1,131 @@
+package org.container.platform.common.api.clusters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.container.platform.common.api.common.Constants;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clusters Registry Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ClustersRegistryTest {
+    private static final String HOST_CLUSTER = "host-cluster";
+    private static final String SUB_CLUSTER = "sub-cluster";
+    private static final long MAX_STALENESS = 60000L;
+
+    private static List<Clusters> clustersList = null;
+
+    @Mock
+    ClustersRepository clustersRepository;
+
+    SimpleMeterRegistry meterRegistry;
+
+    ClustersRegistry clustersRegistry;
+
+    @Before
+    public void setUp() {
+        clustersList = new ArrayList<>();
+        clustersList.add(clusters(HOST_CLUSTER, Constants.HOST_CLUSTER_TYPE));
+        clustersList.add(clusters(SUB_CLUSTER, "SUB"));
+
+        meterRegistry = new SimpleMeterRegistry();
+        clustersRegistry = new ClustersRegistry(clustersRepository, meterRegistry, MAX_STALENESS);
+    }
+
+    @Test
+    public void getClustersByType_Cached() {
+        when(clustersRepository.findAllByOrderByName()).thenReturn(clustersList);
+
+        assertEquals(HOST_CLUSTER, clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE).getClusterId());
+        assertEquals(HOST_CLUSTER, clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE).getClusterId());
+        assertEquals("SUB", clustersRegistry.getClusters(SUB_CLUSTER).getClusterType());
+
+        verify(clustersRepository, times(1)).findAllByOrderByName();
+        verify(clustersRepository, never()).findByClusterType(Constants.HOST_CLUSTER_TYPE);
+        assertEquals(3.0, meterRegistry.get("clusters.registry.lookups").tag("result", "hit").counter().count(), 0.0);
+    }
+
+    @Test
+    public void getClusters_Returns_Copy() {
+        when(clustersRepository.findAllByOrderByName()).thenReturn(clustersList);
+
+        Clusters clusters = clustersRegistry.getClusters(HOST_CLUSTER);
+        clusters.setResultCode(Constants.RESULT_STATUS_FAIL);
+
+        assertNotSame(clusters, clustersRegistry.getClusters(HOST_CLUSTER));
+        assertNull(clustersRegistry.getClusters(HOST_CLUSTER).getResultCode());
+    }
+
+    @Test
+    public void getClusters_Miss_Falls_Back_To_Repository() {
+        Clusters created = clusters("new-cluster", "SUB");
+        when(clustersRepository.findAllByOrderByName()).thenReturn(clustersList);
+        when(clustersRepository.findByClusterId("new-cluster")).thenReturn(created);
+
+        Clusters clusters = clustersRegistry.getClusters("new-cluster");
+        assertEquals("new-cluster", clusters.getClusterId());
+        assertNotSame(created, clusters);
+        clustersRegistry.getClusters(HOST_CLUSTER);
+
+        verify(clustersRepository, times(2)).findAllByOrderByName();
+        assertEquals(1.0, meterRegistry.get("clusters.registry.lookups").tag("result", "miss").counter().count(), 0.0);
+    }
+
+    @Test
+    public void getClusters_Missing_Cached_Until_Reload() {
+        when(clustersRepository.findAllByOrderByName()).thenReturn(clustersList);
+
+        assertNull(clustersRegistry.getClusters("unknown-cluster"));
+        assertNull(clustersRegistry.getClusters("unknown-cluster"));
+        assertNull(clustersRegistry.getClustersByType("UNKNOWN"));
+        assertNull(clustersRegistry.getClustersByType("UNKNOWN"));
+
+        verify(clustersRepository, times(1)).findByClusterId("unknown-cluster");
+        verify(clustersRepository, times(1)).findByClusterType("UNKNOWN");
+        assertEquals(2.0, meterRegistry.get("clusters.registry.lookups").tag("result", "miss").counter().count(), 0.0);
+
+        clustersRegistry.onClustersChanged(ClustersChangedEvent.of("unknown-cluster"));
+        assertNull(clustersRegistry.getClusters("unknown-cluster"));
+
+        verify(clustersRepository, times(2)).findByClusterId("unknown-cluster");
+    }
+
+    @Test
+    public void onClustersChanged_Invalidates() {
+        List<Clusters> updatedList = new ArrayList<>(clustersList);
+        updatedList.set(0, clusters("new-host-cluster", Constants.HOST_CLUSTER_TYPE));
+        when(clustersRepository.findAllByOrderByName()).thenReturn(clustersList, updatedList);
+
+        clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE);
+        clustersRegistry.onClustersChanged(ClustersChangedEvent.of("new-host-cluster"));
+
+        assertEquals("new-host-cluster", clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE).getClusterId());
+        verify(clustersRepository, times(2)).findAllByOrderByName();
+    }
+
+    private static Clusters clusters(String clusterId, String clusterType) {
+        Clusters clusters = new Clusters();
+        clusters.setClusterId(clusterId);
+        clusters.setName(clusterId);
+        clusters.setClusterType(clusterType);
+        return clusters;
+    }
+}
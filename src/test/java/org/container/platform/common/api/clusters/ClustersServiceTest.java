@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -55,6 +56,12 @@ public class ClustersServiceTest {
     @Mock
     CommonService commonService;
 
+    @Mock
+    ClustersRegistry clustersRegistry;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     ClustersService clustersService;
 
@@ -103,7 +110,7 @@ public class ClustersServiceTest {
 
     @Test
     public void getClusters() {
-        when(clustersRepository.findByClusterId(CLUSTER)).thenReturn(createdCluster);
+        when(clustersRegistry.getClusters(CLUSTER)).thenReturn(createdCluster);
         when(commonService.setResultModel(createdCluster, Constants.RESULT_STATUS_SUCCESS)).thenReturn(createdCluster);
 
         Clusters finalCluster = clustersService.getClusters(CLUSTER);
@@ -161,7 +168,7 @@ public class ClustersServiceTest {
 
     @Test
     public void getHostClusters() {
-        when(clustersRepository.findByClusterType(Constants.HOST_CLUSTER_TYPE)).thenReturn(finalHostCluster);
+        when(clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE)).thenReturn(finalHostCluster);
         when(commonService.setResultModel(finalHostCluster, Constants.RESULT_STATUS_SUCCESS));
         clustersService.getHostClusters();
         assertEquals(finalHostCluster.getClusterType(), Constants.HOST_CLUSTER_TYPE);
@@ -169,7 +176,7 @@ public class ClustersServiceTest {
 
     @Test
     public void getHostClusters_Ex() {
-        when(clustersRepository.findByClusterType(Constants.HOST_CLUSTER_TYPE)).thenThrow(new NullPointerException());
+        when(clustersRegistry.getClustersByType(Constants.HOST_CLUSTER_TYPE)).thenThrow(new NullPointerException());
         when(commonService.setResultModel(finalHostCluster, Constants.RESULT_STATUS_FAIL));
         clustersService.getHostClusters();
         assertEquals(finalHostCluster.getClusterType(), Constants.HOST_CLUSTER_TYPE);
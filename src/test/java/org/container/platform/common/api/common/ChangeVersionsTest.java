@@ -0,0 +1,119 @@
+package org.container.platform.common.api.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.container.platform.common.api.clusters.ClustersChangedEvent;
+import org.container.platform.common.api.users.Users;
+import org.container.platform.common.api.users.UsersChangedEvent;
+import org.flywaydb.core.Flyway;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Change Versions Test 클래스
+ * (H2 MySQL 모드에 마이그레이션 적용 후 인스턴스 간 공유되는 변경 버전 확인)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class ChangeVersionsTest {
+    private static final String URL = "jdbc:h2:mem:cp_change_versions;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    ChangeVersions changeVersions;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .placeholders(Collections.singletonMap("defaultNamespace", "cp-portal-temp-namespace")).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Before
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM cp_change_versions");
+        changeVersions = new ChangeVersions(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void checkNotModified_Matching_ETag() {
+        String eTag = changeVersions.getETag(Constants.TABLE_CP_HCL_TEMPLATES);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = changeVersions.checkNotModified(conditionalRequest(eTag, response), Constants.TABLE_CP_HCL_TEMPLATES);
+
+        assertTrue(notModified);
+        assertEquals(304, response.getStatus());
+        assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void checkNotModified_After_Table_Changed() {
+        String eTag = changeVersions.getETag(Constants.TABLE_CP_HCL_TEMPLATES);
+        changeVersions.onTableChanged(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = changeVersions.checkNotModified(conditionalRequest(eTag, response), Constants.TABLE_CP_HCL_TEMPLATES);
+
+        assertFalse(notModified);
+        assertEquals(200, response.getStatus());
+        assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void getETag_Other_Table_Changed() {
+        String eTag = changeVersions.getETag(Constants.TABLE_CP_CLOUD_ACCOUNTS);
+        changeVersions.onTableChanged(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
+
+        assertEquals(eTag, changeVersions.getETag(Constants.TABLE_CP_CLOUD_ACCOUNTS));
+    }
+
+    @Test
+    public void getETag_Users_And_Clusters_Changed() {
+        String eTag = changeVersions.getETag(Constants.TABLE_CP_USERS, Constants.TABLE_CP_CLUSTERS);
+
+        changeVersions.onUsersChanged(UsersChangedEvent.of(Collections.singletonList(new Users())));
+        assertEquals(1L, changeVersions.getVersion(Constants.TABLE_CP_USERS));
+        changeVersions.onClustersChanged(ClustersChangedEvent.of("cluster"));
+        assertEquals(1L, changeVersions.getVersion(Constants.TABLE_CP_CLUSTERS));
+
+        assertNotEquals(eTag, changeVersions.getETag(Constants.TABLE_CP_USERS, Constants.TABLE_CP_CLUSTERS));
+    }
+
+    @Test
+    public void checkNotModified_Changed_On_Other_Instance() {
+        // 다른 인스턴스 (또는 재시작 후 인스턴스) 에서 변경 후 조회
+        ChangeVersions otherInstance = new ChangeVersions(jdbcTemplate, new SimpleMeterRegistry());
+        String eTag = changeVersions.getETag(Constants.TABLE_CP_HCL_TEMPLATES);
+        otherInstance.onTableChanged(TableChangedEvent.of(Constants.TABLE_CP_HCL_TEMPLATES));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = changeVersions.checkNotModified(conditionalRequest(eTag, response), Constants.TABLE_CP_HCL_TEMPLATES);
+
+        assertFalse(notModified);
+        assertEquals(otherInstance.getETag(Constants.TABLE_CP_HCL_TEMPLATES), response.getHeader(HttpHeaders.ETAG));
+        assertEquals(1L, new ChangeVersions(jdbcTemplate, new SimpleMeterRegistry()).getVersion(Constants.TABLE_CP_HCL_TEMPLATES));
+    }
+
+    private static ServletWebRequest conditionalRequest(String eTag, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hclTemplates");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,98 @@
+package org.container.platform.common.api.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.container.platform.common.api.users.Users;
+import org.container.platform.common.api.users.UsersList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Streaming List Writer Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class StreamingListWriterTest {
+    private static final int FLUSH_INTERVAL = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    EntityManager entityManager;
+
+    StreamingListWriter streamingListWriter;
+
+    @Before
+    public void setUp() {
+        streamingListWriter = new StreamingListWriter(objectMapper, transactionManager, FLUSH_INTERVAL);
+        ReflectionTestUtils.setField(streamingListWriter, "entityManager", entityManager);
+    }
+
+    @Test
+    public void stream_Writes_Envelope_And_Filtered_Items() throws Exception {
+        List<Users> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(users("user-" + i));
+        }
+
+        UsersList envelope = new UsersList(Constants.RESULT_STATUS_SUCCESS, Constants.RESULT_STATUS_SUCCESS);
+        envelope.setClusterType(Constants.HOST_CLUSTER_TYPE);
+
+        JsonNode result = write(streamingListWriter.stream(envelope, null, rows::stream, x -> !"user-3".equals(x.getUserId())));
+
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, result.get("resultCode").asText());
+        assertEquals(Constants.HOST_CLUSTER_TYPE, result.get("clusterType").asText());
+        assertEquals(4, result.get("items").size());
+        assertEquals("user-4", result.get("items").get(3).get("userId").asText());
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void stream_Writes_Empty_Envelope_When_No_Rows() throws Exception {
+        UsersList envelope = new UsersList(Constants.RESULT_STATUS_SUCCESS, Constants.RESULT_STATUS_SUCCESS);
+        UsersList emptyEnvelope = new UsersList(Constants.RESULT_STATUS_FAIL, Constants.DATA_NOT_FOUND_MESSAGE);
+
+        JsonNode result = write(streamingListWriter.stream(envelope, emptyEnvelope, () -> new ArrayList<Users>().stream(), x -> true));
+
+        assertEquals(Constants.RESULT_STATUS_FAIL, result.get("resultCode").asText());
+        assertEquals(Constants.DATA_NOT_FOUND_MESSAGE, result.get("resultMessage").asText());
+        verifyNoInteractions(entityManager);
+    }
+
+    private JsonNode write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return objectMapper.readTree(outputStream.toByteArray());
+    }
+
+    private static Users users(String userId) {
+        Users users = new Users();
+        users.setUserId(userId);
+        users.setUserAuthId(userId);
+        return users;
+    }
+}
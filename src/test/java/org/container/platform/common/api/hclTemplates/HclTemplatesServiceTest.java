@@ -8,6 +8,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.common.TableChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -19,6 +21,9 @@ import static org.junit.Assert.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,6 +44,8 @@ public class HclTemplatesServiceTest {
     CommonService commonService;
     @Mock
     HclTemplatesRepository hclTemplatesRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
     @InjectMocks
     HclTemplatesService hclTemplatesService;
 
@@ -65,6 +72,7 @@ public class HclTemplatesServiceTest {
 
         HclTemplates hclTemplates = hclTemplatesService.createHclTemplates(inHclTemplates);
         assertEquals(hclTemplates, finalHclTemplates);
+        verify(eventPublisher).publishEvent(any(TableChangedEvent.class));
 
     }
 
@@ -75,7 +83,7 @@ public class HclTemplatesServiceTest {
         when(commonService.setResultModel(finalHclTemplates, Constants.RESULT_STATUS_FAIL)).thenReturn(finalHclTemplates);
 
         HclTemplates hclTemplates = hclTemplatesService.createHclTemplates(inHclTemplates);
-
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -0,0 +1,128 @@
+package org.container.platform.common.api.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.container.platform.common.api.clusters.ClustersChangedEvent;
+import org.container.platform.common.api.common.Constants;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Users Access Cache Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class UsersAccessCacheTest {
+    private static final String USER_AUTH_ID = "user-auth-id";
+    private static final String OTHER_USER_AUTH_ID = "other-user-auth-id";
+    private static final String CLUSTER = "cluster";
+    private static final String NAMESPACE = "namespace";
+    private static final long TTL = 60000L;
+    private static final int MAX_ENTRIES = 100;
+
+    SimpleMeterRegistry meterRegistry;
+
+    UsersAccessCache usersAccessCache;
+
+    AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        usersAccessCache = new UsersAccessCache(meterRegistry, TTL, MAX_ENTRIES);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void get_Cached() {
+        UsersAccess access = get(USER_AUTH_ID);
+
+        assertSame(access, get(USER_AUTH_ID));
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("users.access.cache.hitRatio").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void onUsersChanged_Invalidates_Changed_User_Only() {
+        get(USER_AUTH_ID);
+        get(OTHER_USER_AUTH_ID);
+
+        usersAccessCache.onUsersChanged(UsersChangedEvent.of("user-id", USER_AUTH_ID));
+        get(USER_AUTH_ID);
+        get(OTHER_USER_AUTH_ID);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void onClustersChanged_Invalidates_Cluster_Entries() {
+        get(USER_AUTH_ID);
+
+        usersAccessCache.onClustersChanged(ClustersChangedEvent.of(CLUSTER));
+        get(USER_AUTH_ID);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_Not_Stored_When_Invalidated_During_Load() {
+        usersAccessCache.get(USER_AUTH_ID, CLUSTER, Constants.AUTH_USER, NAMESPACE, () -> {
+            loads.incrementAndGet();
+            usersAccessCache.onUsersChanged(UsersChangedEvent.of("user-id", USER_AUTH_ID));
+            return UsersAccess.notFound();
+        });
+
+        assertTrue(get(USER_AUTH_ID).isFound());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void getAll_Loads_Misses_Only() {
+        get(USER_AUTH_ID);
+        List<UsersAccessList.Item> items = Arrays.asList(item(CLUSTER, NAMESPACE), item("other-cluster", NAMESPACE));
+        List<List<UsersAccessList.Item>> loaded = new ArrayList<>();
+
+        List<UsersAccess> accesses = usersAccessCache.getAll(USER_AUTH_ID, items, x -> {
+            loaded.add(x);
+            return Collections.singletonList(UsersAccess.notFound());
+        });
+
+        assertEquals(1, loaded.size());
+        assertEquals("other-cluster", loaded.get(0).get(0).getClusterId());
+        assertTrue(accesses.get(0).isFound());
+        assertFalse(accesses.get(1).isFound());
+        assertSame(accesses.get(1), usersAccessCache.getAll(USER_AUTH_ID, items.subList(1, 2), x -> null).get(0));
+    }
+
+    private static UsersAccessList.Item item(String cluster, String namespace) {
+        UsersAccessList.Item item = new UsersAccessList.Item();
+        item.setClusterId(cluster);
+        item.setCpNamespace(namespace);
+        item.setUserType(Constants.AUTH_USER);
+        return item;
+    }
+
+    private UsersAccess get(String userAuthId) {
+        return usersAccessCache.get(userAuthId, CLUSTER, Constants.AUTH_USER, NAMESPACE, () -> {
+            loads.incrementAndGet();
+            return UsersAccess.of(CLUSTER, "role");
+        });
+    }
+}
@@ -0,0 +1,230 @@
+package org.container.platform.common.api.users;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.container.platform.common.api.common.Constants;
+import org.flywaydb.core.Flyway;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Users Index Explain Test 클래스
+ * (H2 MySQL 모드 smoke check, 마이그레이션 적용 후 UsersRepositoryImpl 과 UsersRepository 가 실제로 실행하는 cp_users 조회 SQL 의
+ * H2 실행 계획이 V3 인덱스를 사용하는지 확인, MariaDB 옵티마이저의 실행 계획을 보장하지는 않음)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class UsersIndexExplainTest {
+    private static final String URL = "jdbc:h2:mem:cp_explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String DEFAULT_NAMESPACE = "cp-portal-temp-namespace";
+    private static final int CLUSTER_COUNT = 5;
+    private static final int USER_COUNT = 200;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private static UsersRepositoryImpl usersRepositoryImpl;
+    private static CapturedQuery captured;
+
+    @BeforeClass
+    public static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .placeholders(Collections.singletonMap("defaultNamespace", DEFAULT_NAMESPACE)).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        for (int c = 0; c < CLUSTER_COUNT; c++) {
+            jdbcTemplate.update("INSERT INTO cp_clusters (cluster_id, name, cluster_type, created, last_modified) VALUES (?, ?, ?, NOW(), NOW())",
+                    "cluster" + c, "cluster" + c, (c == 0) ? Constants.HOST_CLUSTER_TYPE : "SUB");
+        }
+        for (int u = 0; u < USER_COUNT; u++) {
+            String clusterId = "cluster" + (u % CLUSTER_COUNT);
+            insertUsers(clusterId, "user" + u, "auth" + u, DEFAULT_NAMESPACE, Constants.AUTH_USER);
+            insertUsers(clusterId, "user" + u, "auth" + u, "namespace" + (u % 20), (u % 10 == 0) ? Constants.AUTH_NAMESPACE_ADMIN : Constants.AUTH_USER);
+            if (u % 25 == 0) {
+                insertUsers(clusterId, "user" + u, "auth" + u, "", Constants.AUTH_CLUSTER_ADMIN);
+            }
+        }
+        jdbcTemplate.execute("INSERT INTO cp_users_projection (user_id, latest_id) SELECT user_id, MAX(id) FROM cp_users GROUP BY user_id");
+        jdbcTemplate.execute("ANALYZE");
+
+        usersRepositoryImpl = new UsersRepositoryImpl(jdbcTemplate, false, "", "realm");
+        ReflectionTestUtils.setField(usersRepositoryImpl, "entityManager", capturingEntityManager());
+    }
+
+    @Test
+    public void usersListPage_Uses_Index() {
+        usersRepositoryImpl.getUsersListPage("namespace0", DEFAULT_NAMESPACE, false, page());
+        assertIndexesUsed(captured, "ix_cp_users_ns_user");
+    }
+
+    @Test
+    public void usersListPage_Projection_Uses_Index() {
+        usersRepositoryImpl.getUsersListPage("namespace0", DEFAULT_NAMESPACE, true, page());
+        assertIndexesUsed(captured, "ix_cp_users_ns_user");
+    }
+
+    @Test
+    public void clusterAdminListPage_Uses_Index() {
+        usersRepositoryImpl.getClusterAdminListPage("cluster0", Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE, DEFAULT_NAMESPACE,
+                Constants.AUTH_USER, UsersSearch.like("user"), page());
+        assertIndexesUsed(captured, "ix_cp_clusters_type", "ix_cp_users_cluster_type_ns", "ix_cp_users_auth_cluster_ns");
+    }
+
+    @Test
+    public void activeUsersPage_Uses_Index() {
+        usersRepositoryImpl.getActiveUsersPage("cluster0", "namespace0", DEFAULT_NAMESPACE, Constants.AUTH_USER, Constants.HOST_CLUSTER_TYPE,
+                UsersSearch.like("user"), page());
+        assertIndexesUsed(captured, "ix_cp_clusters_type", "ix_cp_users_cluster_type_ns");
+    }
+
+    @Test
+    public void inactiveUsersListPage_Uses_Index() {
+        usersRepositoryImpl.getInactiveUsersListPage(Constants.HOST_CLUSTER_TYPE, "cluster0", DEFAULT_NAMESPACE, Constants.AUTH_CLUSTER_ADMIN,
+                Constants.AUTH_USER, UsersSearch.userIds("user", Arrays.asList("user1", "user2")), page());
+        assertIndexesUsed(captured, "ix_cp_users_ns_user", "ix_cp_users_cluster_type_ns");
+    }
+
+    @Test
+    public void activeUsersMappingList_Uses_Index() {
+        usersRepositoryImpl.getActiveUsersMappingList("cluster0", null, DEFAULT_NAMESPACE, Constants.AUTH_USER, Constants.HOST_CLUSTER_TYPE,
+                Arrays.asList("auth1", "auth2"));
+        assertIndexesUsed(captured, "ix_cp_users_auth_cluster_ns", "ix_cp_users_cluster_type_ns");
+    }
+
+    @Test
+    public void usersPageByCluster_Uses_Index() {
+        usersRepositoryImpl.getUsersPageByCluster("cluster0", page());
+        assertIndexesUsed(captured, "ix_cp_users_cluster_type_ns");
+    }
+
+    @Test
+    public void findAllUsers_Uses_Index() {
+        assertIndexesUsed(repositoryQuery("findAllUsers"), "ix_cp_users_ns_user");
+    }
+
+    @Test
+    public void findAllUsersByProjection_Uses_Index() {
+        assertIndexesUsed(repositoryQuery("findAllUsersByProjection"), "ix_cp_users_ns_user");
+    }
+
+    @Test
+    public void clusterAdminExclusion_Uses_Index() {
+        assertIndexesUsed(repositoryQuery("findByOnlyTempNamespaceUserIn"), "ix_cp_users_type_user", "ix_cp_users_ns_user");
+    }
+
+    @Test
+    public void userMappingListByCluster_Uses_Index() {
+        assertIndexesUsed(repositoryQuery("getUserMappingListByCluster"), "ix_cp_users_auth_cluster_ns");
+    }
+
+    @Test
+    public void userIdsModifiedSince_Uses_Index() {
+        assertIndexesUsed(repositoryQuery("findUserIdsModifiedSince"), "ix_cp_users_last_modified");
+    }
+
+    /**
+     * 실행 계획이 인덱스를 모두 사용하고 cp_users 전체 스캔이 없는지 확인
+     * (cp_users_projection 은 사용자별 한 건이므로 전체 스캔 허용)
+     */
+    private static void assertIndexesUsed(CapturedQuery query, String... indexNames) {
+        String plan = explain(query);
+        for (String indexName : indexNames) {
+            assertTrue("index " + indexName + " not used :: " + plan, plan.contains("public." + indexName));
+        }
+        assertFalse("cp_users table scan :: " + plan, plan.contains("public.cp_users.tablescan"));
+    }
+
+    private static String explain(CapturedQuery query) {
+        String sql = "EXPLAIN " + query.sql + ((query.maxResults == null) ? "" : " LIMIT " + query.maxResults);
+        return namedParameterJdbcTemplate.queryForObject(sql, query.params, String.class).toLowerCase();
+    }
+
+    /**
+     * UsersRepository @Query SQL 과 파라미터 (Get repository native query of method)
+     */
+    private static CapturedQuery repositoryQuery(String methodName) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("namespace", "namespace0");
+        params.put("defaultNamespace", DEFAULT_NAMESPACE);
+        params.put("clusterAdmin", Constants.AUTH_CLUSTER_ADMIN);
+        params.put("userIds", Arrays.asList("user1", "user2"));
+        params.put("clusterId", "cluster0");
+        params.put("userAuthId", "auth1");
+        params.put("since", "2030-01-01 00:00:00");
+
+        for (Method method : UsersRepository.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                String sql = method.getAnnotation(org.springframework.data.jpa.repository.Query.class).value().trim();
+                return new CapturedQuery(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql, params, null);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    private static UsersPageRequest page() {
+        Users last = new Users();
+        last.setCreated("2030-01-01 00:00:00");
+        last.setId(Long.MAX_VALUE);
+        return UsersPageRequest.of(20, UsersPageRequest.continueToken(last), false);
+    }
+
+    /**
+     * UsersRepositoryImpl 이 생성한 native query 의 SQL, 파라미터, 최대 건수를 기록하는 EntityManager
+     */
+    private static EntityManager capturingEntityManager() {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.createNativeQuery(anyString())).thenAnswer(x -> capturingQuery(x.getArgument(0)));
+        when(entityManager.createNativeQuery(anyString(), any(Class.class))).thenAnswer(x -> capturingQuery(x.getArgument(0)));
+        return entityManager;
+    }
+
+    private static Query capturingQuery(String sql) {
+        CapturedQuery capturedQuery = new CapturedQuery(sql, new HashMap<>(), null);
+        captured = capturedQuery;
+        Query query = mock(Query.class);
+        when(query.setParameter(anyString(), any())).thenAnswer(x -> {
+            capturedQuery.params.put(x.getArgument(0), x.getArgument(1));
+            return query;
+        });
+        when(query.setMaxResults(anyInt())).thenAnswer(x -> {
+            capturedQuery.maxResults = x.getArgument(0);
+            return query;
+        });
+        when(query.getResultList()).thenReturn(Collections.emptyList());
+        when(query.getSingleResult()).thenReturn(0L);
+        return query;
+    }
+
+    private static void insertUsers(String clusterId, String userId, String userAuthId, String namespace, String userType) {
+        jdbcTemplate.update("INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, 'RS', 'sa', NOW(), NOW())", clusterId, userId, userAuthId, namespace, userType);
+    }
+
+    private static final class CapturedQuery {
+        private final String sql;
+        private final Map<String, Object> params;
+        private Integer maxResults;
+
+        private CapturedQuery(String sql, Map<String, Object> params, Integer maxResults) {
+            this.sql = sql;
+            this.params = params;
+            this.maxResults = maxResults;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.container.platform.common.api.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Users Search Index Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class UsersSearchIndexTest {
+    private static final long MAX_STALENESS = 60000L;
+    private static final long FULL_RELOAD_INTERVAL = 600000L;
+    private static final int MAX_CANDIDATES = 2;
+    private static final long CHANGE_LOOKBACK = 60000L;
+    private static final String LAST_MODIFIED = "2026-10-18 10:00:00";
+
+    @Mock
+    UsersRepository usersRepository;
+
+    UsersSearchIndex usersSearchIndex;
+
+    @Before
+    public void setUp() {
+        usersSearchIndex = new UsersSearchIndex(usersRepository, new SimpleMeterRegistry(), MAX_STALENESS, FULL_RELOAD_INTERVAL, MAX_CANDIDATES,
+                CHANGE_LOOKBACK);
+        when(usersRepository.getMaxUsersLastModified()).thenReturn(LAST_MODIFIED);
+        when(usersRepository.findAllUserIds()).thenReturn(new ArrayList<>(Arrays.asList("paas-user", "PaaS-Admin", "tester")));
+    }
+
+    @Test
+    public void search_Indexed_Case_Insensitive() {
+        UsersSearch search = usersSearchIndex.search("aas-");
+
+        assertTrue(search.isIndexed());
+        assertEquals(Arrays.asList("PaaS-Admin", "paas-user"), sorted(search.getUserIds()));
+        assertEquals("a.user_id IN (:userIds)", search.condition("a.user_id"));
+    }
+
+    @Test
+    public void search_Short_Term_Scans_User_Ids() {
+        assertEquals(Collections.singletonList("tester"), new ArrayList<>(usersSearchIndex.search("te").getUserIds()));
+    }
+
+    @Test
+    public void search_No_Candidates_Fallback_To_Like() {
+        // 인덱스에 아직 반영되지 않은 사용자가 있을 수 있으므로 빈 목록으로 처리하지 않음
+        UsersSearch search = usersSearchIndex.search("nobody");
+
+        assertFalse(search.isIndexed());
+        assertFalse(search.isEmpty());
+        verify(usersRepository, times(1)).findAllUserIds();
+    }
+
+    @Test
+    public void search_Fallback_To_Like() {
+        assertFalse(usersSearchIndex.search("").isIndexed());
+        assertFalse(usersSearchIndex.search("paas_").isIndexed());
+        // 후보가 maxCandidates 초과
+        assertFalse(usersSearchIndex.search("s").isIndexed());
+        verify(usersRepository, times(1)).findAllUserIds();
+    }
+
+    @Test
+    public void refresh_Reads_Changes_Since_Last_Modified() {
+        usersSearchIndex.search("tester");
+        // 커밋이 늦은 추가, 다른 인스턴스의 user_id 변경 (id 와 관계없이 last_modified 기준 조회)
+        when(usersRepository.getMaxUsersLastModified()).thenReturn("2026-10-18 10:00:10");
+        when(usersRepository.findUserIdsModifiedSince("2026-10-18 09:59:00")).thenReturn(Arrays.asList("new-tester", "renamed-tester"));
+
+        usersSearchIndex.refresh();
+        when(usersRepository.findUserIdsModifiedSince("2026-10-18 09:59:10")).thenReturn(Collections.emptyList());
+        usersSearchIndex.refresh();
+
+        assertEquals(Collections.singletonList("new-tester"), new ArrayList<>(usersSearchIndex.search("new-").getUserIds()));
+        assertEquals(Collections.singletonList("renamed-tester"), new ArrayList<>(usersSearchIndex.search("renamed").getUserIds()));
+        verify(usersRepository).findUserIdsModifiedSince("2026-10-18 09:59:10");
+    }
+
+    @Test
+    public void refresh_Unparsable_Last_Modified_Reads_All_User_Ids() {
+        when(usersRepository.getMaxUsersLastModified()).thenReturn("2026-10-18T10:00:00.000");
+        usersSearchIndex.search("tester");
+        when(usersRepository.findAllUserIds()).thenReturn(Arrays.asList("paas-user", "PaaS-Admin", "tester", "new-tester"));
+
+        usersSearchIndex.refresh();
+
+        assertEquals(Collections.singletonList("new-tester"), new ArrayList<>(usersSearchIndex.search("new-").getUserIds()));
+        verify(usersRepository, never()).findUserIdsModifiedSince(any());
+    }
+
+    @Test
+    public void onUsersChanged_Adds_User_Ids() {
+        usersSearchIndex.search("tester");
+
+        usersSearchIndex.onUsersChanged(UsersChangedEvent.of("renamed-user", "renamed-auth-id"));
+
+        assertEquals(Collections.singletonList("renamed-user"), new ArrayList<>(usersSearchIndex.search("renamed").getUserIds()));
+    }
+
+    private static List<String> sorted(Collection<String> userIds) {
+        List<String> list = new ArrayList<>(userIds);
+        Collections.sort(list);
+        return list;
+    }
+}
@@ -4,6 +4,7 @@ package org.container.platform.common.api.users;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.container.platform.common.api.clusters.Clusters;
@@ -14,24 +15,46 @@ import org.container.platform.common.api.common.CommonService;
 import org.container.platform.common.api.common.Constants;
 import org.container.platform.common.api.common.PropertyService;
 import org.container.platform.common.api.common.ResultStatus;
+import org.container.platform.common.api.common.StreamingListWriter;
 import org.container.platform.common.api.exception.ResultStatusException;
 import org.container.platform.keycloak.users.KeycloakUsers;
+import org.container.platform.keycloak.users.KeycloakUsersFetcher;
+import org.container.platform.keycloak.users.KeycloakUsersIndex;
+import org.container.platform.keycloak.users.KeycloakUsersMembership;
 import org.container.platform.keycloak.users.KeycloakUsersService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -49,6 +72,7 @@ public class UsersServiceTest {
     private static final String CLUSTER_ADMIN_TOKEN = "eyJhbGciOiJSUzI1NiIsImtpZCI6IktNWmgxVXB3ajgwS0NxZjFWaVZJVGVvTXJoWnZ5dG0tMGExdzNGZjBKX00ifQ.eyJpc3MiOiJrdWJlcm5ldGVzL3NlcnZpY2VhY2NvdW50Iiwia3ViZXJuZXRlcy5pby9zZXJ2aWNlYWNjb3VudC9uYW1lc3BhY2UiOiJwYWFzLWYxMGU3ZTg4LTQ4YTUtNGUyYy04Yjk5LTZhYmIzY2ZjN2Y2Zi1jYWFzIiwia3ViZXJuZXRlcy5pby9zZXJ2aWNlYWNjb3VudC9zZWNyZXQubmFtZSI6InN1cGVyLWFkbWluLXRva2VuLWtzbXo1Iiwia3ViZXJuZXRlcy5pby9zZXJ2aWNlYWNjb3VudC9zZXJ2aWNlLWFjY291bnQubmFtZSI6InN1cGVyLWFkbWluIiwia3ViZXJuZXRlcy5pby9zZXJ2aWNlYWNjb3VudC9zZXJ2aWNlLWFjY291bnQudWlkIjoiMjMwZWQ1OGQtNzc0MC00MDI4LTk0MTEtYTM1MzVhMWM0NjU4Iiwic3ViIjoic3lzdGVtOnNlcnZpY2VhY2NvdW50OnBhYXMtZjEwZTdlODgtNDhhNS00ZTJjLThiOTktNmFiYjNjZmM3ZjZmLWNhYXM6c3VwZXItYWRtaW4ifQ.nxnIJCOH_XVMK71s0gF8bgzSxA7g6_y7hGdboLvSqIAGf9J9AgG1DouP29uShK19fMsl9IdbGODPvtuiBz4QyGLPARZldmlzEyFG3k08UMNay1xX_oK-Fe7atMlYgvoGzyM_5-Zp5dyvnxE2skk524htMGHqW1ZwnHLVxtBg8AuGfMwLW1xahmktsNZDG7pRMasPsj73E85lfavMobBlcs4hwVcZU82gAg0SK1QVe7-Uc2ip_9doNo6_9rGW3FwHdVgUNAeCvPRGV0W1dKJv0IX5e_7fIPIznj2xXcZoHf3BnKfDayDIKJOCdsEsy_2NGi1tiD3UvzDDzZpz02T2sg";
     private static final String NAMESPACE = "cp-namespace";
     private static final String DEFAULT_NAMESPACE = "temp-namespace";
+    private static final String REALM_ID = "cp-realm";
     private static final String ALL_NAMESPACES = "all";
     private static final String USER_ID = "kpaas";
     private static final String USER_AUTH_ID = "45484-54ff4ef5-4545ef";
@@ -111,9 +135,33 @@ public class UsersServiceTest {
     @Mock
     KeycloakUsersService keycloakUsersService;
 
+    @Mock
+    KeycloakUsersIndex keycloakUsersIndex;
+
+    @Mock
+    KeycloakUsersFetcher keycloakUsersFetcher;
+
     @Mock
     ClustersService clustersService;
 
+    @Mock
+    UsersCountCache usersCountCache;
+
+    @Mock
+    UsersProjection usersProjection;
+
+    @Mock
+    UsersAccessCache usersAccessCache;
+
+    @Mock
+    UsersSearchIndex usersSearchIndex;
+
+    @Mock
+    StreamingListWriter streamingListWriter;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     UsersService usersService;
 
@@ -160,6 +208,9 @@ public class UsersServiceTest {
         keycloakUsersList = new ArrayList<>();
         keycloakUsersList.add(keycloakUsers);
 
+        when(usersSearchIndex.search(any())).thenAnswer(x -> UsersSearch.like(x.getArgument(0)));
+        when(keycloakUsersFetcher.fetch(any(), any(), any())).thenAnswer(x -> keycloakUsersIndex.filter(
+                ((Supplier<Collection<Object>>) x.getArgument(0)).get(), x.getArgument(1), x.getArgument(2)));
 
     }
 
@@ -204,6 +255,35 @@ public class UsersServiceTest {
         Users finalUser = usersService.modifyUsers(users);
     }
 
+    @Test
+    public void modifyUsers_Rename_Publishes_Previous_Keys() {
+        Users managed = new Users();
+        managed.setId(1);
+        managed.setUserId("old-user");
+        managed.setUserAuthId("old-auth");
+
+        Users renamed = new Users();
+        renamed.setId(1);
+        renamed.setUserId(USER_ID);
+        renamed.setUserAuthId(USER_AUTH_ID);
+
+        when(usersRepository.findById(1L)).thenReturn(Optional.of(managed));
+        // 트랜잭션 내 save 는 조회한 영속 엔티티에 변경 값을 병합한 후 반환
+        when(usersRepository.save(renamed)).thenAnswer(x -> {
+            managed.setUserId(renamed.getUserId());
+            managed.setUserAuthId(renamed.getUserAuthId());
+            return managed;
+        });
+        when(commonService.setResultModel(managed, Constants.RESULT_STATUS_SUCCESS)).thenReturn(managed);
+
+        usersService.modifyUsers(renamed);
+
+        ArgumentCaptor<UsersChangedEvent> captor = ArgumentCaptor.forClass(UsersChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(new HashSet<>(Arrays.asList("old-user", USER_ID)), captor.getValue().getUserIds());
+        assertEquals(new HashSet<>(Arrays.asList("old-auth", USER_AUTH_ID)), captor.getValue().getUserAuthIds());
+    }
+
     @Test
     public void getUsersListByNamespace_With_Search_Param() {
         UsersList userList = new UsersList();
@@ -339,7 +419,7 @@ public class UsersServiceTest {
 
     @Test
     public void getUsers() {
-        when(keycloakUsersService.getKeycloakUserListByRealm(keycloakCpRealmId)).thenReturn(keycloakUsersList);
+        stubKeycloakMembership(USER_ID, USER_AUTH_ID);
         when(usersRepository.findAllByClusterIdAndCpNamespaceAndUserAuthId(CLUSTER, NAMESPACE, USER_AUTH_ID)).thenReturn(usersList);
         Users users = usersService.getUsers(CLUSTER, NAMESPACE, USER_AUTH_ID);
     }
@@ -379,6 +459,33 @@ public class UsersServiceTest {
         assertEquals(resultStatus.getHttpStatusCode(), 200);
     }
 
+    @Test
+    public void deleteUsersByOne_Publish_Users_Changed() {
+        when(usersRepository.findAllByCpNamespaceAndUserId(NAMESPACE, USER_ID)).thenReturn(usersList);
+
+        usersService.deleteUsersByOne(NAMESPACE, USER_ID);
+
+        ArgumentCaptor<UsersChangedEvent> captor = ArgumentCaptor.forClass(UsersChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(Collections.singleton(USER_ID), captor.getValue().getUserIds());
+        assertEquals(Collections.singleton(USER_AUTH_ID), captor.getValue().getUserAuthIds());
+    }
+
+    @Test
+    public void getUsersList_Projection() {
+        List<Object[]> values = new ArrayList<>();
+        values.add(new Object[]{"1", USER_ID, USER_AUTH_ID, USER_ID, NAMESPACE, ROLE, Constants.AUTH_USER, "2020-11-13", "Y"});
+        when(usersProjection.isAvailable()).thenReturn(true);
+        when(usersRepository.findAllUsersByProjection(NAMESPACE)).thenReturn(values);
+        stubKeycloakMembership(USER_ID, USER_AUTH_ID);
+        when(commonService.setResultModel(any(UsersList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersList result = usersService.getUsersList(NAMESPACE);
+
+        assertEquals(1, result.getItems().size());
+        verify(usersRepository, never()).findAllUsers(any(), any());
+    }
+
     @Test
     public void getUsersByNamespaceAndNsAdmin() {
         when(usersRepository.findAllByClusterNameAndCpNamespace(CLUSTER, NAMESPACE)).thenReturn(users);
@@ -423,8 +530,16 @@ public class UsersServiceTest {
 
     @Test
     public void compareKeycloakUser() {
-        when(keycloakUsersService.getKeycloakUserListByRealm("testrealm")).thenReturn(keycloakUsersList);
+        stubKeycloakMembership(USER_ID, USER_AUTH_ID);
         UsersList result = usersService.compareKeycloakUser(finalUsersList);
+        assertEquals(1, result.getItems().size());
+    }
+
+    @Test
+    public void compareKeycloakUser_Not_In_Keycloak() {
+        stubKeycloakMembership(USER_ID, "other-auth-id");
+        UsersList result = usersService.compareKeycloakUser(finalUsersList);
+        assertEquals(0, result.getItems().size());
     }
 
     @Test
@@ -448,13 +563,33 @@ public class UsersServiceTest {
         List<KeycloakUsers> keycloakList = new ArrayList<>();
         KeycloakUsers keycloakUsers = new KeycloakUsers();
         keycloakList.add(keycloakUsers);
-        when(keycloakUsersService.getKeycloakUser(keycloakCpRealmId, USER_AUTH_ID, USER_ID)).thenReturn(keycloakList);
-        when(usersRepository.findAllByUserType(Constants.AUTH_SUPER_ADMIN)).thenReturn(usersList);
+        setSignUpFields();
+        when(keycloakUsersService.getKeycloakUser(REALM_ID, USER_AUTH_ID, USER_ID)).thenReturn(keycloakList);
+        when(usersRepository.findAllForSuperAdminSignUp(USER_ID, Constants.AUTH_SUPER_ADMIN)).thenReturn(usersList);
+        stubKeycloakMembership("other", "other-id");
+
+        UsersList resultList = usersService.getSuperAdminRegisterCheck(USER_ID, USER_AUTH_ID);
+
+        assertEquals(usersList, resultList.getItems());
+        verify(usersRepository).deleteAllInBatch(usersList);
+        verify(eventPublisher).publishEvent(any(UsersChangedEvent.class));
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void getSuperAdminRegisterCheck_Already_Registered() {
+        Users superAdmin = new Users();
+        superAdmin.setUserId("admin");
+        superAdmin.setUserAuthId("admin-id");
+        superAdmin.setUserType(Constants.AUTH_SUPER_ADMIN);
+        setSignUpFields();
+        when(keycloakUsersService.getKeycloakUser(REALM_ID, USER_AUTH_ID, USER_ID)).thenReturn(keycloakUsersList);
+        when(usersRepository.findAllForSuperAdminSignUp(USER_ID, Constants.AUTH_SUPER_ADMIN)).thenReturn(Collections.singletonList(superAdmin));
+        stubKeycloakMembership("admin", "admin-id");
 
         try {
             usersService.getSuperAdminRegisterCheck(USER_ID, USER_AUTH_ID);
-        } catch (Exception e) {
-            e.printStackTrace();
+        } finally {
+            verify(usersRepository, never()).deleteAllInBatch(any());
         }
     }
 
@@ -500,13 +635,41 @@ public class UsersServiceTest {
 
     @Test
     public void getUserRegisterCheck() {
-        when(keycloakUsersService.getKeycloakUser(keycloakCpRealmId, USER_AUTH_ID, USER_ID)).thenReturn(keycloakUsersList);
-        when(usersRepository.getUsersDefaultInfo(Constants.HOST_CLUSTER_TYPE, USER_AUTH_ID, defaultNamespace, Constants.AUTH_USER)).thenReturn(usersList);
-        try {
-            UsersList usersList = usersService.getUserRegisterCheck(USER_ID, USER_AUTH_ID);
-        } catch (Exception e) {
-        }
+        Users mapping = new Users();
+        mapping.setUserId(USER_ID);
+        mapping.setUserAuthId("old-auth-id");
+        mapping.setUserType(Constants.AUTH_USER);
+        mapping.setCpNamespace(NAMESPACE);
+        Users otherUser = new Users();
+        otherUser.setUserId("other");
+        otherUser.setUserAuthId(USER_AUTH_ID);
+        otherUser.setUserType(Constants.AUTH_USER);
+        otherUser.setCpNamespace(NAMESPACE);
+        setSignUpFields();
+        when(keycloakUsersService.getKeycloakUser(REALM_ID, USER_AUTH_ID, USER_ID)).thenReturn(keycloakUsersList);
+        when(clustersService.getHostClusters()).thenReturn(cluster);
+        when(usersRepository.findAllForSignUp(USER_ID, USER_AUTH_ID)).thenReturn(Arrays.asList(mapping, otherUser));
+
+        UsersList resultList = usersService.getUserRegisterCheck(USER_ID, USER_AUTH_ID);
+
+        assertEquals(Collections.singletonList(mapping), resultList.getItems());
+        verify(usersRepository).deleteAllInBatch(Collections.singletonList(mapping));
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void getUserRegisterCheck_Already_Registered() {
+        Users defaultUsers = new Users();
+        defaultUsers.setUserId(USER_ID);
+        defaultUsers.setUserAuthId(USER_AUTH_ID);
+        defaultUsers.setClusterId(CLUSTER);
+        defaultUsers.setUserType(Constants.AUTH_USER);
+        defaultUsers.setCpNamespace(DEFAULT_NAMESPACE);
+        setSignUpFields();
+        when(keycloakUsersService.getKeycloakUser(REALM_ID, USER_AUTH_ID, USER_ID)).thenReturn(keycloakUsersList);
+        when(clustersService.getHostClusters()).thenReturn(cluster);
+        when(usersRepository.findAllForSignUp(USER_ID, USER_AUTH_ID)).thenReturn(Collections.singletonList(defaultUsers));
 
+        usersService.getUserRegisterCheck(USER_ID, USER_AUTH_ID);
     }
 
 
@@ -514,7 +677,7 @@ public class UsersServiceTest {
     @Test
     public void signUpUser_Exception() {
         when(clustersService.getHostClusters()).thenReturn(cluster);
-        when(usersRepository.save(users)).thenThrow(new ResultStatusException(Constants.USER_CREATE_FAILED_MESSAGE));
+        when(usersRepository.saveAndFlush(users)).thenThrow(new ResultStatusException(Constants.USER_CREATE_FAILED_MESSAGE));
         try {
             usersService.signUpUser(users);
         } catch (Exception e) {
@@ -524,17 +687,77 @@ public class UsersServiceTest {
 
     @Test
     public void signUpUser() {
+        setSignUpFields();
         when(clustersService.getHostClusters()).thenReturn(cluster);
         users.setClusterId(cluster.getClusterId());
-        when(usersRepository.save(users)).thenReturn(users);
+        when(usersRepository.saveAndFlush(users)).thenReturn(users);
         usersService.signUpUser(users);
 
+        verify(usersRepository).findAllForSignUp(USER_ID, USER_AUTH_ID);
+    }
+
+    @Test
+    public void signUpUser_Sets_Sign_Up_Key_On_Registration() {
+        // 기본 네임스페이스 USER 권한 행만 가입 등록 행 유일 키 설정
+        setSignUpFields();
+        when(clustersService.getHostClusters()).thenReturn(cluster);
+        users.setCpNamespace(DEFAULT_NAMESPACE);
+        users.setUserType(Constants.AUTH_USER);
+
+        usersService.signUpUser(users);
+
+        assertEquals(USER_AUTH_ID, users.getSignupAuthId());
+    }
+
+    @Test
+    public void signUpUser_Concurrent_First_Sign_Up() {
+        // 등록 행이 없는 상태에서 두 요청 모두 행 잠금 조회를 통과, 나중 요청은 유일 키 위반 또는 교착 상태로 실패
+        setSignUpFields();
+        when(clustersService.getHostClusters()).thenReturn(cluster);
+        when(usersRepository.findAllForSignUp(USER_ID, USER_AUTH_ID)).thenReturn(Collections.emptyList());
+
+        doThrow(new DuplicateKeyException("ux_cp_users_signup")).when(usersRepository).saveAndFlush(users);
+        assertSignUpRejected(Constants.USER_ALREADY_REGISTERED_MESSAGE);
+
+        doThrow(new CannotAcquireLockException("Deadlock found")).when(usersRepository).saveAndFlush(users);
+        assertSignUpRejected(Constants.USER_ALREADY_REGISTERED_MESSAGE);
+
+        users.setUserType(Constants.AUTH_SUPER_ADMIN);
+        assertSignUpRejected(Constants.SUPER_ADMIN_ALREADY_REGISTERED_MESSAGE);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private void assertSignUpRejected(String resultMessage) {
+        try {
+            usersService.signUpUser(users);
+            fail("sign up not rejected");
+        } catch (ResultStatusException e) {
+            assertEquals(resultMessage, e.getMessage());
+        }
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void signUpUser_Concurrent_Super_Admin() {
+        Users superAdmin = new Users();
+        superAdmin.setUserId("admin");
+        superAdmin.setUserAuthId("admin-id");
+        superAdmin.setUserType(Constants.AUTH_SUPER_ADMIN);
+        users.setUserType(Constants.AUTH_SUPER_ADMIN);
+        when(usersRepository.findAllForSuperAdminSignUp(USER_ID, Constants.AUTH_SUPER_ADMIN)).thenReturn(Collections.singletonList(superAdmin));
+        stubKeycloakMembership("admin", "admin-id");
+
+        try {
+            usersService.signUpUser(users);
+        } finally {
+            verify(usersRepository).lockSignUp(Constants.AUTH_SUPER_ADMIN);
+            verify(usersRepository, never()).saveAndFlush(any());
+        }
     }
 
     @Test
     public void getUsersByNamespaceAndUserIdAndUserType() {
         when(usersRepository.findAllByCpNamespaceAndUserIdAndUserType(NAMESPACE, USER_ID, USER_TYPE_AUTH_USER)).thenReturn(usersList);
-        when(keycloakUsersService.getKeycloakUserListByRealm(keycloakCpRealmId)).thenReturn(keycloakUsersList);
+        stubKeycloakMembership(USER_ID, USER_AUTH_ID);
 
         try {
             usersService.getUsersByNamespaceAndUserIdAndUserType(NAMESPACE, USER_ID, Constants.AUTH_USER);
@@ -549,7 +772,22 @@ public class UsersServiceTest {
         listCluster.add(new Object[]{ "test", "kpaas", "kpaas", NAMESPACE, "cp-namespace", "test"});
         when(usersRepository.findAllByClusters(CLUSTER)).thenReturn(listCluster);
         when(usersRepository.findAllUsersAndClusters(CLUSTER, USER_AUTH_ID, Constants.AUTH_USER)).thenReturn(values);
+        loadUsersAccessOnMiss();
+        usersService.getUsersAccessInfo(USER_AUTH_ID, CLUSTER, Constants.AUTH_USER, NAMESPACE);
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void getUsersAccessInfo_Not_Found() {
+        when(usersRepository.findAllUsersAndClusters(CLUSTER, USER_AUTH_ID, Constants.AUTH_CLUSTER_ADMIN)).thenReturn(new ArrayList<>());
+        loadUsersAccessOnMiss();
+        usersService.getUsersAccessInfo(USER_AUTH_ID, CLUSTER, Constants.AUTH_CLUSTER_ADMIN, NAMESPACE);
+    }
+
+    @Test
+    public void getUsersAccessInfo_Cached() {
+        when(usersAccessCache.get(eq(USER_AUTH_ID), eq(CLUSTER), eq(Constants.AUTH_USER), eq(NAMESPACE), any())).thenReturn(UsersAccess.of(CLUSTER, ROLE));
         usersService.getUsersAccessInfo(USER_AUTH_ID, CLUSTER, Constants.AUTH_USER, NAMESPACE);
+        verifyNoInteractions(usersRepository);
     }
 
     @Test
@@ -558,9 +796,59 @@ public class UsersServiceTest {
         List<Object[]> listCluster = new ArrayList<>();
         listCluster.add(new Object[]{ "test", "kpaas", "kpaas", NAMESPACE, "cp-namespace", "test"});
         when(usersRepository.findAllByClusters(CLUSTER)).thenReturn(listCluster);
+        loadUsersAccessOnMiss();
         usersService.getUsersAccessInfo(USER_AUTH_ID, CLUSTER, Constants.AUTH_SUPER_ADMIN, NAMESPACE);
     }
 
+    @Test
+    public void getUsersAccessInfoList() {
+        UsersAccessList accessList = new UsersAccessList();
+        accessList.setUserAuthId(USER_AUTH_ID);
+        accessList.setItems(Arrays.asList(accessItem(CLUSTER, NAMESPACE, Constants.AUTH_USER), accessItem(CLUSTER, NAMESPACE + 2, Constants.AUTH_USER),
+                accessItem(CLUSTER, null, Constants.AUTH_CLUSTER_ADMIN), accessItem("other-cluster", null, Constants.AUTH_SUPER_ADMIN)));
+        List<Object[]> rows = Arrays.asList(new Object[]{CLUSTER, "cluster-name", NAMESPACE, Constants.AUTH_USER, ROLE},
+                new Object[]{"other-cluster", "other-cluster-name", null, null, null});
+        when(usersRepository.findAllUsersAccessByClusters(eq(USER_AUTH_ID), any(), any())).thenReturn(rows);
+        loadAllUsersAccessOnMiss();
+        when(commonService.setResultModel(any(UsersAccessList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<UsersAccessList.Item> items = usersService.getUsersAccessInfoList(accessList).getItems();
+
+        assertEquals(ROLE, items.get(0).getRoleSetCode());
+        assertEquals("cluster-name", items.get(0).getClusterName());
+        assertEquals(false, items.get(1).isFound());
+        assertEquals(false, items.get(2).isFound());
+        assertEquals(Constants.DEFAULT_SUPER_ADMIN_ROLE, items.get(3).getRoleSetCode());
+        verify(usersRepository).findAllUsersAccessByClusters(eq(USER_AUTH_ID), any(), any());
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void getUsersAccessInfoList_Invalid_Item() {
+        UsersAccessList accessList = new UsersAccessList();
+        accessList.setUserAuthId(USER_AUTH_ID);
+        accessList.setItems(Collections.singletonList(accessItem(null, NAMESPACE, Constants.AUTH_USER)));
+        usersService.getUsersAccessInfoList(accessList);
+    }
+
+    private static UsersAccessList.Item accessItem(String cluster, String namespace, String userType) {
+        UsersAccessList.Item item = new UsersAccessList.Item();
+        item.setClusterId(cluster);
+        item.setCpNamespace(namespace);
+        item.setUserType(userType);
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadAllUsersAccessOnMiss() {
+        when(usersAccessCache.getAll(any(), any(), any())).thenAnswer(x -> ((Function<List<UsersAccessList.Item>, List<UsersAccess>>) x.getArgument(2))
+                .apply(x.getArgument(1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadUsersAccessOnMiss() {
+        when(usersAccessCache.get(any(), any(), any(), any(), any())).thenAnswer(x -> ((Supplier<UsersAccess>) x.getArgument(4)).get());
+    }
+
     @Test
     public void setClusterInfoToUser() {
         when(clustersService.getClusters(propertyService.getCpClusterName())).thenReturn(cluster);
@@ -623,6 +911,20 @@ public class UsersServiceTest {
         }
     }
 
+    @Test
+    public void getClusterAdminList_Keycloak_Join() {
+        List<Object[]> values = new ArrayList<>();
+        values.add(new Object[]{ "test", "kpaas", "kpaas", "ns-admin-role", "cp-namespace", "USER", "Y", "2020-11-13"});
+        when(usersRepository.isKeycloakJoinAvailable()).thenReturn(true);
+        when(usersRepository.getClusterAdminListByClusterJoinKeycloak(CLUSTER, Constants.AUTH_CLUSTER_ADMIN, Constants.HOST_CLUSTER_TYPE,
+                defaultNamespace, Constants.AUTH_USER, SEARCH_NAME.trim())).thenReturn(values);
+
+        usersService.getClusterAdminList(CLUSTER, SEARCH_NAME);
+
+        verify(usersRepository, never()).getClusterAdminListByCluster(any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(keycloakUsersIndex);
+    }
+
     @Test
     public void getTest() {
         when(usersRepository.getUsersDefaultInfo(Constants.HOST_CLUSTER_TYPE, USER_AUTH_ID, defaultNamespace, Constants.AUTH_USER)).thenReturn(usersList);
@@ -683,6 +985,18 @@ public class UsersServiceTest {
         }
     }
 
+    @Test
+    public void getAllUsersByClusterAndNamespace_Keycloak_Join() {
+        when(usersRepository.isKeycloakJoinAvailable()).thenReturn(true);
+        when(usersRepository.findAllByClusterIdAndCpNamespaceAndUserTypeJoinKeycloak(CLUSTER, NAMESPACE, Constants.AUTH_USER)).thenReturn(usersList);
+        when(commonService.setResultModel(any(UsersList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersList result = usersService.getAllUsersByClusterAndNamespace(CLUSTER, NAMESPACE);
+
+        assertEquals(usersList.size(), result.getItems().size());
+        verifyNoInteractions(keycloakUsersIndex);
+    }
+
     @Test
     public void deleteAllUsersByClusterAndNamespace() {
         doNothing().when(usersRepository).deleteAllByClusterIdAndCpNamespaceAndUserType(CLUSTER, NAMESPACE, Constants.AUTH_USER);
@@ -707,4 +1021,200 @@ public class UsersServiceTest {
         } catch (Exception e) {
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getUsersListByCluster_Page() {
+        when(usersRepository.isKeycloakJoinAvailable()).thenReturn(true);
+        when(usersRepository.getUsersPageByCluster(eq(CLUSTER), any(UsersPageRequest.class)))
+                .thenReturn(Arrays.asList(pageUsers(3, "2026-10-18 10:00:00"), pageUsers(2, "2026-10-18 09:00:00")));
+        when(usersRepository.countUsersByCluster(CLUSTER)).thenReturn(5L);
+        when(usersCountCache.get(eq("cluster:" + CLUSTER), any())).thenAnswer(invocation -> ((Supplier<Number>) invocation.getArgument(1)).get().intValue());
+        when(clustersService.getClusters(CLUSTER)).thenReturn(cluster);
+        when(commonService.setResultModel(any(UsersList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersList result = usersService.getUsersListByCluster(CLUSTER, UsersPageRequest.of(1, null, true));
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(3L, result.getItems().get(0).getId());
+        assertEquals(Integer.valueOf(5), result.getItemMetaData().getAllItemCount());
+
+        UsersPageRequest next = UsersPageRequest.of(1, result.getItemMetaData().getContinueToken(), false);
+        assertEquals("2026-10-18 10:00:00", next.getAfterCreated());
+        assertEquals(Long.valueOf(3L), next.getAfterId());
+    }
+
+    @Test
+    public void getClusterAdminList_Page_Refill_Filtered_Users() {
+        Object[] removed = new Object[]{"3", "removed", "removed-auth-id", "removed", "cp-namespace", "CLUSTER_ADMIN", "Y", "2026-10-18 10:00:00"};
+        Object[] removed2 = new Object[]{"2", "removed2", "removed2-auth-id", "removed2", "cp-namespace", "CLUSTER_ADMIN", "Y", "2026-10-18 09:00:00"};
+        Object[] member = new Object[]{"1", USER_ID, USER_AUTH_ID, USER_ID, "cp-namespace", "CLUSTER_ADMIN", "Y", "2026-10-18 08:00:00"};
+        List<Object[]> firstChunk = new ArrayList<>();
+        firstChunk.add(removed);
+        firstChunk.add(removed2);
+        List<Object[]> secondChunk = new ArrayList<>();
+        secondChunk.add(member);
+
+        stubKeycloakMembership(USER_ID, USER_AUTH_ID);
+        when(usersRepository.getClusterAdminListPage(eq(CLUSTER), eq(Constants.AUTH_CLUSTER_ADMIN), eq(Constants.HOST_CLUSTER_TYPE),
+                any(), eq(Constants.AUTH_USER), any(UsersSearch.class), any(UsersPageRequest.class))).thenReturn(firstChunk, secondChunk);
+        when(commonService.setResultModel(any(UsersList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersList result = usersService.getClusterAdminList(CLUSTER, SEARCH_NAME, UsersPageRequest.of(1, null, false));
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(USER_ID, result.getItems().get(0).getUserId());
+        assertNull(result.getItemMetaData().getContinueToken());
+    }
+
+    @Test
+    public void getClusterAdminList_Search_Indexed() {
+        List<String> userIds = Collections.singletonList(USER_ID);
+        List<Object[]> rawData = new ArrayList<>();
+        rawData.add(new Object[]{"1", USER_ID, USER_AUTH_ID, USER_ID, "cp-namespace", "CLUSTER_ADMIN", "Y", "2026-10-18 08:00:00"});
+
+        when(usersSearchIndex.search(SEARCH_NAME.trim())).thenReturn(UsersSearch.userIds(SEARCH_NAME.trim(), userIds));
+        when(usersRepository.isKeycloakJoinAvailable()).thenReturn(true);
+        when(usersRepository.getClusterAdminList(eq(CLUSTER), eq(Constants.AUTH_CLUSTER_ADMIN), eq(Constants.HOST_CLUSTER_TYPE), any(),
+                eq(Constants.AUTH_USER), any(UsersSearch.class))).thenReturn(rawData);
+        when(commonService.setResultModel(any(UsersList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersList result = usersService.getClusterAdminList(CLUSTER, SEARCH_NAME);
+
+        assertEquals(1, result.getItems().size());
+        verify(usersRepository, never()).getClusterAdminListByClusterJoinKeycloak(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void getActiveUsersList_Users_With_Mappings() {
+        // 사용자 생성일 역순, 사용자 단위로 연속된 맵핑 목록
+        List<Object[]> mappings = Arrays.asList(
+                new Object[]{20L, USER_ID + 2, USER_AUTH_ID + 2, "ns-sa-2", NAMESPACE, Constants.AUTH_USER, ROLE, "2026-10-18 10:00:00"},
+                new Object[]{21L, USER_ID + 2, USER_AUTH_ID + 2, "ns-sa-2", NAMESPACE + 2, Constants.AUTH_USER, ROLE, "2026-10-18 10:00:00"},
+                new Object[]{10L, USER_ID + 1, USER_AUTH_ID + 1, "ns-sa-1", NAMESPACE, Constants.AUTH_USER, ROLE, "2026-10-18 09:00:00"});
+        when(usersRepository.isKeycloakJoinAvailable()).thenReturn(true);
+        when(usersRepository.getActiveUsersMappingList(eq(CLUSTER), eq(null), any(), eq(Constants.AUTH_USER), eq(Constants.HOST_CLUSTER_TYPE),
+                any(UsersSearch.class))).thenReturn(mappings);
+        when(commonService.setResultModel(any(UsersDetailsList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersDetailsList result = usersService.getActiveUsersList(CLUSTER, Constants.ALL_VAL, SEARCH_NAME);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(USER_ID + 2, result.getItems().get(0).getUserId());
+        assertEquals("ns-sa-2", result.getItems().get(0).getServiceAccountName());
+        assertEquals(2, result.getItems().get(0).getItems().size());
+        assertEquals(USER_ID + 1, result.getItems().get(1).getUserId());
+        assertEquals(1, result.getItems().get(1).getItems().size());
+        verifyNoInteractions(keycloakUsersIndex);
+    }
+
+    @Test
+    public void getInActiveUsersList_Search_No_Candidates() {
+        when(usersSearchIndex.search(SEARCH_NAME.trim())).thenReturn(UsersSearch.userIds(SEARCH_NAME.trim(), Collections.emptyList()));
+        when(commonService.setResultModel(any(UsersDetailsList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersDetailsList result = usersService.getInActiveUsersList(CLUSTER, SEARCH_NAME, UsersPageRequest.of(10, null, true));
+
+        assertEquals(0, result.getItems().size());
+        verify(usersRepository, never()).getInactiveUsersListPage(any(), any(), any(), any(), any(), any(), any());
+        verify(usersRepository, never()).countInactiveUsersList(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void getUsersList_Invalid_Continue_Token() {
+        usersService.getUsersList(NAMESPACE, UsersPageRequest.of(10, "invalid-token", false));
+    }
+
+    @Test
+    public void replaceUsersMappings() {
+        ReflectionTestUtils.setField(usersService, "defaultNamespace", DEFAULT_NAMESPACE);
+
+        List<Users> existingList = new ArrayList<>();
+        existingList.add(mappingUsers(1L, CLUSTER, DEFAULT_NAMESPACE, Constants.AUTH_USER, ROLE));
+        existingList.add(mappingUsers(2L, CLUSTER, NAMESPACE, Constants.AUTH_USER, ROLE));
+        existingList.add(mappingUsers(3L, CLUSTER, "ns-changed", Constants.AUTH_USER, ROLE));
+        existingList.add(mappingUsers(4L, CLUSTER, "ns-removed", Constants.AUTH_USER, ROLE));
+        existingList.add(mappingUsers(5L, CLUSTER, NAMESPACE, Constants.AUTH_USER, ROLE));
+
+        UsersMappingList mappingList = new UsersMappingList();
+        mappingList.setUserId(USER_ID);
+        mappingList.setUserAuthId(USER_AUTH_ID);
+        mappingList.setItems(new ArrayList<>(Arrays.asList(
+                mappingUsers(0L, CLUSTER, NAMESPACE, Constants.AUTH_USER, ROLE),
+                mappingUsers(0L, CLUSTER, "ns-changed", Constants.AUTH_NAMESPACE_ADMIN, ADMIN_ROLE),
+                mappingUsers(0L, CLUSTER, "ns-added", Constants.AUTH_USER, ROLE))));
+
+        when(usersRepository.findAllByUserAuthIdAndClusterIdIn(eq(USER_AUTH_ID), any())).thenReturn(existingList);
+        when(commonService.setResultModel(any(UsersMappingList.class), eq(Constants.RESULT_STATUS_SUCCESS))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UsersMappingList result = usersService.replaceUsersMappings(mappingList);
+
+        ArgumentCaptor<List<Long>> deleteCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Users>> updateCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Users>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(usersRepository).deleteUsersBatch(deleteCaptor.capture());
+        verify(usersRepository).updateUsersBatch(updateCaptor.capture());
+        verify(usersRepository).insertUsersBatch(insertCaptor.capture());
+
+        assertEquals(Arrays.asList(4L, 5L), deleteCaptor.getValue());
+        assertEquals(1, updateCaptor.getValue().size());
+        assertEquals(3L, updateCaptor.getValue().get(0).getId());
+        assertEquals(1, insertCaptor.getValue().size());
+        assertEquals("ns-added", insertCaptor.getValue().get(0).getCpNamespace());
+        assertEquals(USER_AUTH_ID, insertCaptor.getValue().get(0).getUserAuthId());
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(2, result.getDeletedCount());
+        assertEquals(1, result.getUnchangedCount());
+    }
+
+    @Test(expected = ResultStatusException.class)
+    public void replaceUsersMappings_Duplicate_Mapping() {
+        ReflectionTestUtils.setField(usersService, "defaultNamespace", DEFAULT_NAMESPACE);
+
+        UsersMappingList mappingList = new UsersMappingList();
+        mappingList.setUserId(USER_ID);
+        mappingList.setUserAuthId(USER_AUTH_ID);
+        mappingList.setItems(new ArrayList<>(Arrays.asList(
+                mappingUsers(0L, CLUSTER, NAMESPACE, Constants.AUTH_USER, ROLE),
+                mappingUsers(0L, CLUSTER, NAMESPACE, Constants.AUTH_NAMESPACE_ADMIN, ADMIN_ROLE))));
+
+        usersService.replaceUsersMappings(mappingList);
+    }
+
+    private static Users mappingUsers(long id, String clusterId, String namespace, String userType, String roleSetCode) {
+        Users mappingUsers = new Users();
+        mappingUsers.setId(id);
+        mappingUsers.setClusterId(clusterId);
+        mappingUsers.setUserId(USER_ID);
+        mappingUsers.setUserAuthId(USER_AUTH_ID);
+        mappingUsers.setCpNamespace(namespace);
+        mappingUsers.setUserType(userType);
+        mappingUsers.setRoleSetCode(roleSetCode);
+        mappingUsers.setServiceAccountName(USER_ID);
+        return mappingUsers;
+    }
+
+    private static Users pageUsers(long id, String created) {
+        Users pageUsers = new Users();
+        pageUsers.setId(id);
+        pageUsers.setUserId(USER_ID + id);
+        pageUsers.setUserAuthId(USER_AUTH_ID + id);
+        pageUsers.setCreated(created);
+        return pageUsers;
+    }
+
+    private void setSignUpFields() {
+        ReflectionTestUtils.setField(usersService, "keycloakCpRealmId", REALM_ID);
+        ReflectionTestUtils.setField(usersService, "defaultNamespace", DEFAULT_NAMESPACE);
+    }
+
+    private void stubKeycloakMembership(String username, String id) {
+        KeycloakUsers member = new KeycloakUsers();
+        member.setId(id);
+        member.setUsername(username);
+        KeycloakUsersMembership membership = KeycloakUsersMembership.of(Arrays.asList(member));
+
+        when(keycloakUsersIndex.filter(any(), any(), any())).thenAnswer(invocation ->
+                membership.filter(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+}
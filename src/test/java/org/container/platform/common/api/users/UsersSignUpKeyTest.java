@@ -0,0 +1,134 @@
+package org.container.platform.common.api.users;
+
+import org.container.platform.common.api.common.Constants;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Users Sign Up Key Test 클래스
+ * (H2 MySQL 모드에 마이그레이션 적용 후 가입 등록 행 유일 키, SUPER-ADMIN 가입 잠금 행이 동시 가입을 거부, 대기시키는지 확인)
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+public class UsersSignUpKeyTest {
+    private static final String URL = "jdbc:h2:mem:cp_signup_key;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=200";
+    private static final String DEFAULT_NAMESPACE = "cp-portal-temp-namespace";
+    private static final String SIGN_UP_LOCK_QUERY = "SELECT id FROM cp_users WHERE user_id = ? OR user_auth_id = ? FOR UPDATE";
+    private static final String SUPER_ADMIN_LOCK_QUERY = "SELECT lock_name FROM cp_users_signup_locks WHERE lock_name = ? FOR UPDATE";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        flyway(dataSource, null).migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Before
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM cp_users");
+    }
+
+    @Test
+    public void signUp_Empty_Table_Race_Rejects_Second_Insert() throws Exception {
+        try (Connection first = transaction(); Connection second = transaction()) {
+            JdbcTemplate firstTx = new JdbcTemplate(new SingleConnectionDataSource(first, true));
+            JdbcTemplate secondTx = new JdbcTemplate(new SingleConnectionDataSource(second, true));
+
+            // 등록 행이 없으므로 두 요청 모두 행 잠금 조회 결과 없음
+            assertTrue(firstTx.queryForList(SIGN_UP_LOCK_QUERY, Long.class, "user1", "auth1").isEmpty());
+            assertTrue(secondTx.queryForList(SIGN_UP_LOCK_QUERY, Long.class, "user1", "auth1").isEmpty());
+
+            insertRegistration(firstTx, "cluster0", "user1", "auth1");
+            first.commit();
+            try {
+                insertRegistration(secondTx, "cluster0", "user1", "auth1");
+                fail("duplicate sign up inserted");
+            } catch (DuplicateKeyException e) {
+                second.rollback();
+            }
+        }
+
+        assertEquals(Integer.valueOf(1), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_users WHERE user_auth_id = 'auth1'", Integer.class));
+    }
+
+    @Test
+    public void signUpKey_Allows_Other_Mappings() {
+        insertRegistration(jdbcTemplate, "cluster0", "user1", "auth1");
+        insertUsers(jdbcTemplate, "cluster0", "user1", "auth1", "namespace0", Constants.AUTH_USER);
+        insertUsers(jdbcTemplate, "cluster0", "user1", "auth1", "namespace1", Constants.AUTH_USER);
+        insertUsers(jdbcTemplate, "cluster0", "user1", "auth1", "", Constants.AUTH_CLUSTER_ADMIN);
+        insertRegistration(jdbcTemplate, "cluster1", "user1", "auth1");
+
+        assertEquals(Integer.valueOf(5), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cp_users", Integer.class));
+    }
+
+    @Test
+    public void superAdmin_Sign_Up_Lock_Serializes_Requests() throws Exception {
+        try (Connection first = transaction(); Connection second = transaction()) {
+            JdbcTemplate firstTx = new JdbcTemplate(new SingleConnectionDataSource(first, true));
+            JdbcTemplate secondTx = new JdbcTemplate(new SingleConnectionDataSource(second, true));
+
+            assertEquals(Constants.AUTH_SUPER_ADMIN, firstTx.queryForObject(SUPER_ADMIN_LOCK_QUERY, String.class, Constants.AUTH_SUPER_ADMIN));
+            try {
+                // 첫 요청의 트랜잭션 종료 전까지 대기 (LOCK_TIMEOUT 초과)
+                secondTx.queryForObject(SUPER_ADMIN_LOCK_QUERY, String.class, Constants.AUTH_SUPER_ADMIN);
+                fail("super admin sign up lock acquired twice");
+            } catch (TransientDataAccessException e) {
+                second.rollback();
+            }
+            first.rollback();
+        }
+    }
+
+    @Test(expected = FlywayException.class)
+    public void migrate_Fails_On_Duplicated_Registrations() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:cp_signup_key_dup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        flyway(dataSource, "4").migrate();
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        insertUsers(template, "cluster0", "user1", "auth1", DEFAULT_NAMESPACE, Constants.AUTH_USER);
+        insertUsers(template, "cluster0", "user1", "auth1", DEFAULT_NAMESPACE, Constants.AUTH_USER);
+
+        // 중복 등록 행은 삭제하지 않고 마이그레이션 중단
+        flyway(dataSource, null).migrate();
+    }
+
+    private static Flyway flyway(DriverManagerDataSource dataSource, String target) {
+        return Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target((target == null) ? "latest" : target)
+                .placeholders(Collections.singletonMap("defaultNamespace", DEFAULT_NAMESPACE)).load();
+    }
+
+    private static Connection transaction() throws Exception {
+        Connection connection = jdbcTemplate.getDataSource().getConnection();
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void insertRegistration(JdbcTemplate template, String clusterId, String userId, String userAuthId) {
+        template.update("INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified, signup_auth_id) " +
+                "VALUES (?, ?, ?, ?, ?, 'RS', 'sa', NOW(), NOW(), ?)", clusterId, userId, userAuthId, DEFAULT_NAMESPACE, Constants.AUTH_USER, userAuthId);
+    }
+
+    private static void insertUsers(JdbcTemplate template, String clusterId, String userId, String userAuthId, String namespace, String userType) {
+        template.update("INSERT INTO cp_users (cluster_id, user_id, user_auth_id, namespace, user_type, role_set_code, service_account_name, created, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, 'RS', 'sa', NOW(), NOW())", clusterId, userId, userAuthId, namespace, userType);
+    }
+}
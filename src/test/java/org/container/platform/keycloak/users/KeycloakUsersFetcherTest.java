@@ -0,0 +1,178 @@
+package org.container.platform.keycloak.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.container.platform.common.api.common.Constants;
+import org.container.platform.common.api.exception.ResultStatusException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
+
+/**
+ * Keycloak Users Fetcher Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class KeycloakUsersFetcherTest {
+    private static final String REALM_ID = "testrealm";
+    private static final long FULL_RELOAD_INTERVAL = 600000L;
+    private static final long FETCH_TIMEOUT = 200L;
+
+    private static List<KeycloakUsers> keycloakUsersList = null;
+    private static List<String[]> items = null;
+
+    @Mock
+    KeycloakUsersRepository keycloakUsersRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    KeycloakUsersFetcher keycloakUsersFetcher;
+
+    @Before
+    public void setUp() {
+        keycloakUsersList = new ArrayList<>();
+        keycloakUsersList.add(keycloakUsers("1", "user1", 1000L));
+        keycloakUsersList.add(keycloakUsers("2", "user2", 2000L));
+
+        items = Arrays.asList(new String[]{"user1", "1"}, new String[]{"user2", "2"}, new String[]{"user3", "3"});
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @After
+    public void tearDown() {
+        if (keycloakUsersFetcher != null) {
+            keycloakUsersFetcher.shutdown();
+        }
+    }
+
+    @Test
+    public void fetch_Fresh_Index() {
+        KeycloakUsersIndex keycloakUsersIndex = newFetcher(60000L);
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+        keycloakUsersIndex.refresh();
+
+        List<String[]> result = keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]);
+
+        assertEquals(2, result.size());
+        verify(keycloakUsersRepository, times(1)).findAllByRealmId(REALM_ID);
+        verify(keycloakUsersRepository, never()).getRealmUsersSummary(REALM_ID);
+        assertEquals(0L, meterRegistry.get("keycloak.users.fetch.leg").tag("leg", "keycloak").timer().count());
+    }
+
+    @Test
+    public void fetch_Initial_Load_Concurrent() {
+        newFetcher(60000L);
+        AtomicReference<String> loadThread = new AtomicReference<>();
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenAnswer(x -> {
+            loadThread.set(Thread.currentThread().getName());
+            return keycloakUsersList;
+        });
+
+        List<String[]> result = keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]);
+
+        assertEquals(2, result.size());
+        assertTrue(loadThread.get().startsWith("keycloak-users-fetch-"));
+        assertEquals(1L, meterRegistry.get("keycloak.users.fetch.leg").tag("leg", "cp").timer().count());
+        assertEquals(1L, meterRegistry.get("keycloak.users.fetch.leg").tag("leg", "keycloak").timer().count());
+    }
+
+    @Test
+    public void fetch_Timeout_Uses_Last_Membership() {
+        KeycloakUsersIndex keycloakUsersIndex = newFetcher(-1L);
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+        keycloakUsersIndex.refresh();
+        when(keycloakUsersRepository.getRealmUsersSummary(REALM_ID)).thenAnswer(x -> {
+            Thread.sleep(FETCH_TIMEOUT * 10);
+            return new ArrayList<>();
+        });
+
+        List<String[]> result = keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]);
+
+        assertEquals(2, result.size());
+        assertEquals(1.0, meterRegistry.get("keycloak.users.fetch.fallbacks").tag("reason", "timeout").counter().count(), 0.0);
+    }
+
+    @Test
+    public void fetch_Overlapping_Timeouts_Keep_Shared_Refresh() throws Exception {
+        KeycloakUsersIndex keycloakUsersIndex = newFetcher(-1L);
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+        keycloakUsersIndex.refresh();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(keycloakUsersRepository.getRealmUsersSummary(REALM_ID)).thenAnswer(x -> {
+            started.countDown();
+            release.await();
+            return Collections.singletonList(new Object[]{3L, 3000L});
+        });
+        when(keycloakUsersRepository.findAllByRealmIdAndCreatedTimestampGreaterThan(REALM_ID, 2000L))
+                .thenReturn(Collections.singletonList(keycloakUsers("3", "user3", 3000L)));
+
+        CompletableFuture<List<String[]>> first = CompletableFuture.supplyAsync(
+                () -> keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        List<String[]> second = keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]);
+
+        assertEquals(2, first.get(1, TimeUnit.SECONDS).size());
+        assertEquals(2, second.size());
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 1000L;
+        while (keycloakUsersIndex.getSize() != 3.0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        assertEquals(3.0, keycloakUsersIndex.getSize(), 0.0);
+        verify(keycloakUsersRepository, times(1)).getRealmUsersSummary(REALM_ID);
+        assertEquals(2.0, meterRegistry.get("keycloak.users.fetch.fallbacks").tag("reason", "timeout").counter().count(), 0.0);
+        assertEquals(0.0, meterRegistry.get("keycloak.users.fetch.fallbacks").tag("reason", "failure").counter().count(), 0.0);
+    }
+
+    @Test
+    public void fetch_Nothing_Loaded_Failure() {
+        newFetcher(60000L);
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenThrow(new RuntimeException("connection refused"));
+
+        try {
+            keycloakUsersFetcher.fetch(() -> items, item -> item[0], item -> item[1]);
+            fail();
+        } catch (ResultStatusException e) {
+            assertEquals(Constants.KEYCLOAK_USERS_UNAVAILABLE_MESSAGE, e.getMessage());
+        }
+        assertEquals(1.0, meterRegistry.get("keycloak.users.fetch.fallbacks").tag("reason", "failure").counter().count(), 0.0);
+    }
+
+    private KeycloakUsersIndex newFetcher(long maxStaleness) {
+        KeycloakUsersIndex keycloakUsersIndex = new KeycloakUsersIndex(keycloakUsersRepository, meterRegistry, event -> { }, REALM_ID, maxStaleness, FULL_RELOAD_INTERVAL);
+        keycloakUsersFetcher = new KeycloakUsersFetcher(keycloakUsersIndex, meterRegistry, FETCH_TIMEOUT, 2);
+        return keycloakUsersIndex;
+    }
+
+    private static KeycloakUsers keycloakUsers(String id, String username, Long createdTimestamp) {
+        KeycloakUsers keycloakUsers = new KeycloakUsers();
+        keycloakUsers.setId(id);
+        keycloakUsers.setRealmId(REALM_ID);
+        keycloakUsers.setUsername(username);
+        keycloakUsers.setCreatedTimestamp(createdTimestamp);
+        return keycloakUsers;
+    }
+}
@@ -0,0 +1,132 @@
+package org.container.platform.keycloak.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.container.platform.common.api.common.TableChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Keycloak Users Index Test 클래스
+ *
+ * @author kjhoon
+ * @version 1.0
+ * @since 2026.10.18
+ */
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class KeycloakUsersIndexTest {
+    private static final String REALM_ID = "testrealm";
+    private static final long MAX_STALENESS = 60000L;
+    private static final long FULL_RELOAD_INTERVAL = 600000L;
+
+    private static List<KeycloakUsers> keycloakUsersList = null;
+
+    @Mock
+    KeycloakUsersRepository keycloakUsersRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    KeycloakUsersIndex keycloakUsersIndex;
+
+    @Before
+    public void setUp() {
+        keycloakUsersList = new ArrayList<>();
+        keycloakUsersList.add(keycloakUsers("1", "user1", 1000L));
+        keycloakUsersList.add(keycloakUsers("2", "user2", 2000L));
+
+        keycloakUsersIndex = new KeycloakUsersIndex(keycloakUsersRepository, new SimpleMeterRegistry(), eventPublisher, REALM_ID, MAX_STALENESS, FULL_RELOAD_INTERVAL);
+    }
+
+    @Test
+    public void containsUsername_Initial_Load() {
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+
+        assertTrue(keycloakUsersIndex.getMembership().containsUsername("user1"));
+        assertTrue(keycloakUsersIndex.getMembership().containsId("2"));
+        assertFalse(keycloakUsersIndex.getMembership().containsUsername("user3"));
+        verify(keycloakUsersRepository, times(1)).findAllByRealmId(REALM_ID);
+    }
+
+    @Test
+    public void filter_Pair_Match() {
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+
+        List<String[]> items = Arrays.asList(new String[]{"user1", "1"}, new String[]{"user1", "2"}, new String[]{"user3", "3"});
+        List<String[]> result = keycloakUsersIndex.filter(items, item -> item[0], item -> item[1]);
+
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0)[1]);
+    }
+
+    @Test
+    public void refresh_Unchanged() {
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+        when(keycloakUsersRepository.getRealmUsersSummary(REALM_ID)).thenReturn(summary(2L, 2000L));
+
+        keycloakUsersIndex.refresh();
+        keycloakUsersIndex.refresh();
+
+        verify(keycloakUsersRepository, times(1)).findAllByRealmId(REALM_ID);
+        verify(eventPublisher, times(1)).publishEvent(any(TableChangedEvent.class));
+        verify(keycloakUsersRepository, never()).findAllByRealmIdAndCreatedTimestampGreaterThan(REALM_ID, 2000L);
+        assertEquals(2.0, keycloakUsersIndex.getSize(), 0.0);
+    }
+
+    @Test
+    public void refresh_Incremental() {
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList);
+        when(keycloakUsersRepository.getRealmUsersSummary(REALM_ID)).thenReturn(summary(3L, 3000L));
+        when(keycloakUsersRepository.findAllByRealmIdAndCreatedTimestampGreaterThan(REALM_ID, 2000L))
+                .thenReturn(Collections.singletonList(keycloakUsers("3", "user3", 3000L)));
+
+        keycloakUsersIndex.refresh();
+        keycloakUsersIndex.refresh();
+
+        assertTrue(keycloakUsersIndex.getMembership().containsUsername("user3"));
+        assertTrue(keycloakUsersIndex.getMembership().containsId("3"));
+        verify(keycloakUsersRepository, times(1)).findAllByRealmId(REALM_ID);
+    }
+
+    @Test
+    public void refresh_Deleted_Full_Reload() {
+        when(keycloakUsersRepository.findAllByRealmId(REALM_ID)).thenReturn(keycloakUsersList, keycloakUsersList.subList(0, 1));
+        when(keycloakUsersRepository.getRealmUsersSummary(REALM_ID)).thenReturn(summary(1L, 1000L));
+
+        keycloakUsersIndex.refresh();
+        keycloakUsersIndex.refresh();
+
+        assertFalse(keycloakUsersIndex.getMembership().containsUsername("user2"));
+        verify(keycloakUsersRepository, times(2)).findAllByRealmId(REALM_ID);
+    }
+
+    private static KeycloakUsers keycloakUsers(String id, String username, Long createdTimestamp) {
+        KeycloakUsers keycloakUsers = new KeycloakUsers();
+        keycloakUsers.setId(id);
+        keycloakUsers.setRealmId(REALM_ID);
+        keycloakUsers.setUsername(username);
+        keycloakUsers.setCreatedTimestamp(createdTimestamp);
+        return keycloakUsers;
+    }
+
+    private static List<Object[]> summary(long count, Long maxCreatedTimestamp) {
+        List<Object[]> summary = new ArrayList<>();
+        summary.add(new Object[]{count, maxCreatedTimestamp});
+        return summary;
+    }
+}